@@ -0,0 +1,65 @@
+package com.devloop.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Pool limitado usado para executar as consultas agregadas do dashboard em paralelo.
+     * Quando a fila enche, a própria thread da requisição executa a tarefa (CallerRuns),
+     * evitando rejeições sob carga.
+     */
+    @Bean(name = "dashboardExecutor")
+    public Executor dashboardExecutor(@Value("${devloop.dashboard.executor.pool-size:4}") int poolSize,
+                                      @Value("${devloop.dashboard.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool dos listeners de eventos de domínio. Ao contrário do dashboard, a fila cheia não
+     * devolve o trabalho à requisição: o evento fica no outbox e o relay o entrega depois.
+     */
+    @Bean(name = "domainEventExecutor")
+    public Executor domainEventExecutor(@Value("${devloop.events.executor.pool-size:2}") int poolSize,
+                                        @Value("${devloop.events.executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool de envio dos lembretes de sessão. Com a fila cheia, a thread do timing wheel
+     * envia ela mesma (CallerRuns), o que desacelera os ticks em vez de perder lembretes.
+     */
+    @Bean(name = "reminderExecutor")
+    public Executor reminderExecutor(@Value("${devloop.reminders.executor.pool-size:2}") int poolSize,
+                                     @Value("${devloop.reminders.executor.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("reminder-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
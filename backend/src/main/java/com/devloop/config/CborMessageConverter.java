@@ -0,0 +1,64 @@
+package com.devloop.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Codifica payloads STOMP em CBOR. O content-type é application/octet-stream;codec=cbor porque o
+ * Spring só envia frames WebSocket binários para octet-stream; os demais vão como texto, que não
+ * comporta bytes CBOR. Exige o parâmetro codec=cbor na mensagem, então JSON continua o padrão.
+ */
+public class CborMessageConverter extends AbstractMessageConverter {
+
+    public static final MimeType CBOR = new MimeType("application", "octet-stream", Map.of("codec", "cbor"));
+
+    private final ObjectMapper mapper = CBORMapper.builder()
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    public CborMessageConverter() {
+        super(CBOR);
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsMimeType(@Nullable MessageHeaders headers) {
+        MimeType mimeType = getMimeType(headers);
+        return mimeType != null && CBOR.equalsTypeAndSubtype(mimeType)
+            && "cbor".equals(mimeType.getParameter("codec"));
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, @Nullable Object conversionHint) {
+        try {
+            return mapper.readValue((byte[]) message.getPayload(), targetClass);
+        } catch (IOException e) {
+            throw new MessageConversionException(message, "CBOR inválido: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, @Nullable MessageHeaders headers, @Nullable Object conversionHint) {
+        try {
+            return mapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new MessageConversionException("Falha ao gerar CBOR: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.devloop.config;
+
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+/**
+ * Estado por thread que força leituras no primário. Usado pelo roteamento leitura/escrita
+ * (ReadWriteRoutingDataSource); sem réplicas configuradas tudo já vai ao primário e isto não tem efeito.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    /**
+     * Após uma escrita, o restante da requisição HTTP lê do primário (read-after-write).
+     * Fora de requisições não há quem limpe o estado, então nada é fixado.
+     */
+    static void pinForRequest() {
+        if (RequestContextHolder.getRequestAttributes() != null) {
+            PRIMARY_PINNED.set(Boolean.TRUE);
+        }
+    }
+
+    static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * Executa a ação com todas as leituras no primário, restaurando o estado anterior ao final.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.devloop.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.PreDestroy;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roteamento leitura/escrita, ativo apenas quando devloop.datasource.replica.urls está preenchido.
+ * Sem réplicas, o DataSource padrão do Spring Boot continua sendo usado.
+ */
+@Configuration
+@ConditionalOnExpression("'${devloop.datasource.replica.urls:}'.trim() != ''")
+public class DataSourceRoutingConfig {
+
+    @Value("${devloop.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${devloop.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${devloop.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${devloop.datasource.replica.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${devloop.datasource.replica.connection-timeout-ms:2000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${devloop.datasource.replica.max-lag-ms:1000}")
+    private long maxLagMs;
+
+    private final List<HikariDataSource> replicaPools = new ArrayList<>();
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    // Pool do primário, configurado por spring.datasource.* e spring.datasource.hikari.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setDriverClassName(properties.getDriverClassName());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.getPoolName(), replica);
+            replicaPools.add(replica);
+        }
+        routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicas, maxLagMs, meterRegistry);
+        return routingDataSource;
+    }
+
+    /**
+     * DataSource usado por JPA e JdbcTemplate. O proxy adia a obtenção da conexão física até o
+     * primeiro comando, depois que a transação já marcou se é somente leitura.
+     */
+    @Bean
+    @Primary
+    public LazyConnectionDataSourceProxy dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> dataSourceRoutingFilter() {
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    DataSourceRouting.clear();
+                }
+            }
+        });
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @PreDestroy
+    public void closeReplicaPools() {
+        replicaPools.forEach(HikariDataSource::close);
+    }
+
+    @Scheduled(fixedDelayString = "${devloop.datasource.replica.lag-check-ms:1000}")
+    public void checkReplicaLag() {
+        routingDataSource.checkReplicaLag();
+    }
+}
@@ -1,7 +1,11 @@
 package com.devloop.config;
 
+import com.devloop.jfr.JwtVerificationEvent;
 import com.devloop.service.CustomUserDetailsService;
+import com.devloop.service.TokenService;
 import com.devloop.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,6 +29,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenService tokenService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
@@ -32,21 +39,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String username = null;
         String jwt = null;
 
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        event.outcome = JwtVerificationEvent.MALFORMED;
+        try {
             jwt = authHeader.substring(7);
+            Claims claims = null;
             try {
-                username = jwtUtil.extractUsername(jwt);
+                claims = jwtUtil.parseClaims(jwt);
+                username = claims.getSubject();
+            } catch (ExpiredJwtException e) {
+                event.outcome = JwtVerificationEvent.INVALID;
             } catch (Exception ignored) {}
-        }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+                UserDetails userDetails;
+                if (role != null) {
+                    // Token com papel: autentica sem ir ao banco; revogação vem do cache em memória
+                    userDetails = tokenService.isFamilyRevoked(claims.get(JwtUtil.FAMILY_CLAIM, String.class))
+                        ? null
+                        : org.springframework.security.core.userdetails.User
+                            .withUsername(username)
+                            .password("")
+                            .roles(role)
+                            .build();
+                } else {
+                    // Tokens emitidos antes do claim de papel
+                    event.userLookup = true;
+                    userDetails = userDetailsService.loadUserByUsername(username);
+                    if (!jwtUtil.validateToken(jwt, userDetails)) {
+                        userDetails = null;
+                    }
+                }
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authToken =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    event.outcome = JwtVerificationEvent.VALID;
+                } else {
+                    event.outcome = JwtVerificationEvent.INVALID;
+                }
             }
+        } finally {
+            event.commit();
         }
         chain.doFilter(request, response);
     }
@@ -0,0 +1,165 @@
+package com.devloop.config;
+
+import com.devloop.util.TokenBucketStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controle de admissão aplicado logo após a autenticação JWT:
+ * limita requisições por IP e por usuário (subject do token), com políticas por rota,
+ * e rejeita com 503 quando o número de requisições em andamento passa do limite.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${devloop.ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${devloop.ratelimit.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${devloop.ratelimit.max-in-flight:150}")
+    private int maxInFlight;
+
+    @Value("${devloop.ratelimit.auth.per-minute:10}")
+    private int authPerMinute;
+
+    @Value("${devloop.ratelimit.auth.burst:5}")
+    private int authBurst;
+
+    @Value("${devloop.ratelimit.user-list.per-minute:30}")
+    private int userListPerMinute;
+
+    @Value("${devloop.ratelimit.user-list.burst:10}")
+    private int userListBurst;
+
+    @Value("${devloop.ratelimit.default.per-minute:300}")
+    private int defaultPerMinute;
+
+    @Value("${devloop.ratelimit.default.burst:100}")
+    private int defaultBurst;
+
+    @Value("${devloop.ratelimit.ip.per-minute:600}")
+    private int ipPerMinute;
+
+    @Value("${devloop.ratelimit.ip.burst:200}")
+    private int ipBurst;
+
+    private TokenBucketStore buckets;
+    private Semaphore inFlight;
+
+    @PostConstruct
+    public void init() {
+        buckets = new TokenBucketStore(maxEntries);
+        inFlight = new Semaphore(maxInFlight);
+        meterRegistry.gauge("devloop.ratelimit.buckets", buckets, TokenBucketStore::size);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        // Conexões WebSocket/SockJS são longas e não entram na contagem de requisições
+        return !enabled || path.startsWith("/ws") || path.startsWith("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // Atrás de proxies confiáveis, o RemoteIpValve (server.forward-headers-strategy) já
+        // substitui o endereço remoto pelo cliente original do X-Forwarded-For
+        String ip = request.getRemoteAddr();
+
+        // Limite global por IP, independente de autenticação
+        long wait = buckets.tryConsume("ip", ip, intervalNanos(ipPerMinute), ipBurst);
+        if (wait == 0) {
+            wait = applyRoutePolicy(request, ip);
+        }
+        if (wait > 0) {
+            meterRegistry.counter("devloop.ratelimit.rejected", "reason", "rate").increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, wait, "Muitas requisições. Tente novamente em instantes.");
+            return;
+        }
+
+        if (!inFlight.tryAcquire()) {
+            meterRegistry.counter("devloop.ratelimit.rejected", "reason", "overload").increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1),
+                "Servidor sobrecarregado. Tente novamente em instantes.");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private long applyRoutePolicy(HttpServletRequest request, String ip) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+
+        // Login e registro executam BCrypt: limite mais agressivo, sempre por IP
+        if (path.startsWith("/auth/")) {
+            return buckets.tryConsume("auth", ip, intervalNanos(authPerMinute), authBurst);
+        }
+
+        String subject = currentSubject();
+        String key = subject != null ? subject : ip;
+        if ("GET".equals(method) && path.equals("/api/users")) {
+            return buckets.tryConsume("user-list", key, intervalNanos(userListPerMinute), userListBurst);
+        }
+        return buckets.tryConsume("default", key, intervalNanos(defaultPerMinute), defaultBurst);
+    }
+
+    private String currentSubject() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long waitNanos, String message) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), Map.of("error", message));
+    }
+
+    @Scheduled(fixedDelayString = "${devloop.ratelimit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        buckets.evictIdle();
+    }
+
+    private static long intervalNanos(int perMinute) {
+        return TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+    }
+}
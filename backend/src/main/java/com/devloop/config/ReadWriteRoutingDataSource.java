@@ -0,0 +1,154 @@
+package com.devloop.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encaminha transações readOnly para as réplicas (round-robin entre as que estão dentro do
+ * atraso máximo) e todo o resto para o primário.
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy: assim a conexão só é obtida no primeiro
+ * comando, quando o flag readOnly da transação já foi definido.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    // Réplica em dia quando o WAL receiver está conectado (com mensagem recente do primário) e não há
+    // WAL recebido pendente de aplicação; senão, idade da última transação aplicada. NULL = atraso
+    // desconhecido (receiver parado, sem nada aplicado ainda), tratado como réplica atrasada.
+    // Ler pg_stat_wal_receiver exige o papel pg_read_all_stats (ou pg_monitor) no usuário das réplicas.
+    static final String LAG_QUERY =
+        "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery() THEN 0"
+            + " WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming'"
+            + "   AND last_msg_receipt_time > now() - interval '1 minute') THEN NULL"
+            + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000"
+            + " END";
+
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Counter> routed = new HashMap<>();
+    private final Counter fallbacks;
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicaPools,
+                                      long maxLagMs, MeterRegistry meterRegistry) {
+        this.maxLagMs = maxLagMs;
+        this.replicas = new ArrayList<>();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routed.put(PRIMARY, routeCounter(meterRegistry, PRIMARY));
+        replicaPools.forEach((name, pool) -> {
+            Replica replica = new Replica(name, pool);
+            replicas.add(replica);
+            targets.put(name, pool);
+            routed.put(name, routeCounter(meterRegistry, name));
+            Gauge.builder("devloop.datasource.replica.lag", replica, r -> r.lagMs == Long.MAX_VALUE ? Double.NaN : r.lagMs)
+                .description("Atraso de replicação medido (ms)")
+                .baseUnit("milliseconds")
+                .tag("pool", name)
+                .register(meterRegistry);
+        });
+        this.fallbacks = Counter.builder("devloop.datasource.replica.fallback")
+            .description("Leituras enviadas ao primário por falta de réplica em dia")
+            .register(meterRegistry);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String pool) {
+        return Counter.builder("devloop.datasource.route")
+            .description("Conexões obtidas por pool")
+            .tag("pool", pool)
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly || DataSourceRouting.isPrimaryPinned()) {
+            // Transação de escrita: leituras seguintes da mesma requisição também vão ao primário.
+            // Comandos avulsos, fora de transação, vão ao primário sem fixar o resto da requisição.
+            if (!readOnly && TransactionSynchronizationManager.isActualTransactionActive()) {
+                DataSourceRouting.pinForRequest();
+            }
+            routed.get(PRIMARY).increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagMs <= maxLagMs) {
+                routed.get(replica.name).increment();
+                return replica.name;
+            }
+        }
+        fallbacks.increment();
+        routed.get(PRIMARY).increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Mede o atraso de cada réplica; uma réplica inacessível fica fora da rotação até a próxima medição.
+     */
+    public void checkReplicaLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                double measured = rs.getDouble(1);
+                if (rs.wasNull()) {
+                    if (replica.lagMs <= maxLagMs) {
+                        log.warn("Réplica {} sem WAL receiver ativo; leituras vão para o primário", replica.name);
+                    }
+                    replica.lagMs = Long.MAX_VALUE;
+                    continue;
+                }
+                long lag = (long) measured;
+                if (lag > maxLagMs && replica.lagMs <= maxLagMs) {
+                    log.warn("Réplica {} atrasada {} ms; leituras vão para o primário", replica.name, lag);
+                }
+                replica.lagMs = lag;
+            } catch (SQLException e) {
+                if (replica.lagMs != Long.MAX_VALUE) {
+                    log.warn("Réplica {} inacessível; removida da rotação", replica.name, e);
+                }
+                replica.lagMs = Long.MAX_VALUE;
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        // Desconhecido até a primeira medição
+        private volatile long lagMs = Long.MAX_VALUE;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.devloop.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as rotinas agendadas. O pool do agendador é configurado
+ * pelas propriedades spring.task.scheduling.* em application.properties.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
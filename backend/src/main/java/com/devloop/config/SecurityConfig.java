@@ -13,8 +13,13 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -23,6 +28,9 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -32,12 +40,26 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .antMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .antMatchers("/auth/**", "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                // Handshake WebSocket não carrega o header Authorization; o JWT é validado no CONNECT do STOMP
+                .antMatchers("/ws/**", "/ws-native").permitAll()
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            // 401 em vez de 403 para token ausente ou expirado: o frontend renova e repete a requisição
+            .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // Executa após o JWT para poder limitar por usuário autenticado
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
+    // O filtro roda apenas dentro da cadeia do Spring Security, não como filtro avulso do servlet
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -56,6 +78,8 @@ public class SecurityConfig {
         config.addAllowedOriginPattern("*"); // Use addAllowedOriginPattern para aceitar qualquer origem (ou especifique "http://localhost:3000")
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        // Headers do upload retomável (tus), do controle de carga e da sincronização lidos pelo frontend
+        config.setExposedHeaders(List.of("Location", "Tus-Resumable", "Upload-Offset", "Upload-Length", "Retry-After", "Sync-Version"));
         source.registerCorsConfiguration("/**", config);
         return new CorsFilter(source);
     }
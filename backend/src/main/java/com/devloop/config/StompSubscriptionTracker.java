@@ -0,0 +1,74 @@
+package com.devloop.config;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conta as assinaturas ativas por destino, para que o servidor só produza uma variante
+ * (ex.: o CBOR do chat) quando alguém a assina. Registrado depois do WebSocketAuthInterceptor:
+ * assinaturas recusadas não chegam a ser contadas.
+ */
+@Component
+public class StompSubscriptionTracker implements ChannelInterceptor {
+
+    // Sessão STOMP -> (id da assinatura -> destino)
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, @Nullable Exception ex) {
+        if (!sent || ex != null) {
+            return;
+        }
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (type == null || sessionId == null) {
+            return;
+        }
+        switch (type) {
+            case SUBSCRIBE:
+                String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+                String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+                if (destination != null && subscriptionId != null
+                        && subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                            .put(subscriptionId, destination) == null) {
+                    counts.merge(destination, 1, Integer::sum);
+                }
+                break;
+            case UNSUBSCRIBE:
+                Map<String, String> session = subscriptions.get(sessionId);
+                String removed = session != null
+                    ? session.remove(SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()))
+                    : null;
+                if (removed != null) {
+                    decrement(removed);
+                }
+                break;
+            case DISCONNECT:
+                // Chega tanto pelo frame DISCONNECT quanto pelo fechamento do WebSocket
+                Map<String, String> ended = subscriptions.remove(sessionId);
+                if (ended != null) {
+                    ended.values().forEach(this::decrement);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    public boolean hasSubscribers(String destination) {
+        return counts.containsKey(destination);
+    }
+
+    private void decrement(String destination) {
+        counts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,113 @@
+package com.devloop.config;
+
+import com.devloop.repository.SessionRepository;
+import com.devloop.service.CustomUserDetailsService;
+import com.devloop.service.TokenService;
+import com.devloop.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Autentica a sessão STOMP pelo JWT do frame CONNECT (header Authorization) e autoriza cada SUBSCRIBE.
+ * O handshake HTTP é público, então a conexão sem token válido é recusada aqui, com frame ERROR.
+ * O usuário associado permite o envio para destinos /user/queue/... pelo e-mail.
+ */
+@Component
+public class WebSocketAuthInterceptor implements ChannelInterceptor {
+
+    // Chat da sessão, em JSON ou CBOR: só participantes
+    private static final Pattern SESSION_TOPIC = Pattern.compile("^/topic/session/(\\d+)(\\.cbor)?$");
+    // Agenda pública de um mentor: qualquer usuário autenticado
+    private static final Pattern AVAILABILITY_TOPIC = Pattern.compile("^/topic/mentor/\\d+/availability$");
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            UserDetails userDetails = authenticate(accessor.getFirstNativeHeader("Authorization"));
+            if (userDetails == null) {
+                throw new AccessDeniedException("Token ausente ou inválido.");
+            }
+            accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscription(accessor.getUser(), accessor.getDestination());
+        }
+        return message;
+    }
+
+    // Mesmas regras do JwtAuthenticationFilter: tokens com papel dispensam o banco
+    private UserDetails authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        String jwt = authHeader.substring(7);
+        try {
+            Claims claims = jwtUtil.parseClaims(jwt);
+            String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+            if (role != null) {
+                if (tokenService.isFamilyRevoked(claims.get(JwtUtil.FAMILY_CLAIM, String.class))) {
+                    return null;
+                }
+                return org.springframework.security.core.userdetails.User
+                    .withUsername(claims.getSubject())
+                    .password("")
+                    .roles(role)
+                    .build();
+            }
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            return jwtUtil.validateToken(jwt, userDetails) ? userDetails : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void authorizeSubscription(Principal user, String destination) {
+        if (user == null) {
+            throw new AccessDeniedException("Conexão sem usuário autenticado.");
+        }
+        if (destination == null) {
+            throw new AccessDeniedException("Destino ausente.");
+        }
+        // Filas do usuário: o broker resolve para as sessões dele mesmo
+        if (destination.startsWith("/user/queue/")) {
+            return;
+        }
+        if (AVAILABILITY_TOPIC.matcher(destination).matches()) {
+            return;
+        }
+        Matcher session = SESSION_TOPIC.matcher(destination);
+        if (session.matches() && sessionRepository.isParticipantByEmail(Long.valueOf(session.group(1)), user.getName())) {
+            return;
+        }
+        throw new AccessDeniedException("Assinatura não permitida: " + destination);
+    }
+}
@@ -1,23 +1,54 @@
 package com.devloop.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.util.List;
+
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Autowired
+    private WebSocketAuthInterceptor webSocketAuthInterceptor;
+
+    @Autowired
+    private StompSubscriptionTracker stompSubscriptionTracker;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
+        config.setUserDestinationPrefix("/user");
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOrigins("*").withSockJS();
+        // WebSocket puro: o SockJS só transporta texto, então frames CBOR exigem este endpoint.
+        // O Tomcat negocia permessage-deflate em ambos quando o navegador oferece a extensão.
+        registry.addEndpoint("/ws-native").setAllowedOrigins("*");
+    }
+
+    /**
+     * CBOR só é usado quando a mensagem declara o content-type CBOR; o retorno true mantém os
+     * conversores padrão (JSON) para todo o resto.
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new CborMessageConverter());
+        return true;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // A autenticação vem antes: assinaturas recusadas não entram na contagem
+        registration.interceptors(webSocketAuthInterceptor, stompSubscriptionTracker);
     }
-}
\ No newline at end of file
+}
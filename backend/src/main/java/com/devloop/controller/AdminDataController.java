@@ -0,0 +1,94 @@
+package com.devloop.controller;
+
+import com.devloop.dto.DataImportProgressDto;
+import com.devloop.service.DataTransferService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exportação/importação em massa para a equipe de operações.
+ * Acesso restrito aos e-mails listados em devloop.ops.admin-emails.
+ */
+@RestController
+@RequestMapping("/api/admin/data")
+public class AdminDataController {
+
+    @Autowired
+    private DataTransferService dataTransferService;
+
+    @Value("${devloop.ops.admin-emails:}")
+    private List<String> adminEmails;
+
+    @GetMapping("/export/{table}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String table,
+                                                        @RequestParam(defaultValue = "ndjson") String format,
+                                                        Principal principal) {
+        requireOps(principal);
+        DataTransferService.Table source = DataTransferService.Table.fromName(table);
+        DataTransferService.Format output = DataTransferService.Format.fromName(format);
+        MediaType contentType = output == DataTransferService.Format.CSV
+            ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+            : MediaType.APPLICATION_NDJSON;
+        String filename = source.getTableName() + "." + output.name().toLowerCase();
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(out -> dataTransferService.export(source, output, out));
+    }
+
+    /**
+     * O corpo (CSV com cabeçalho ou NDJSON) é lido em fluxo e copiado em blocos.
+     * Em caso de falha, reenviar o mesmo arquivo com o mesmo jobId retoma do último checkpoint.
+     */
+    @PostMapping("/import/{table}")
+    public ResponseEntity<DataImportProgressDto> importData(@PathVariable String table,
+                                                            @RequestParam(defaultValue = "ndjson") String format,
+                                                            @RequestParam String jobId,
+                                                            HttpServletRequest request,
+                                                            Principal principal) throws IOException {
+        requireOps(principal);
+        DataImportProgressDto progress = dataTransferService.importData(
+            DataTransferService.Table.fromName(table),
+            DataTransferService.Format.fromName(format),
+            jobId,
+            request.getInputStream());
+        return ResponseEntity.ok(progress);
+    }
+
+    @GetMapping("/import/{jobId}/progress")
+    public ResponseEntity<DataImportProgressDto> getProgress(@PathVariable String jobId, Principal principal) {
+        requireOps(principal);
+        return dataTransferService.getProgress(jobId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    private void requireOps(Principal principal) {
+        if (!adminEmails.contains(principal.getName())) {
+            throw new AccessDeniedException("Acesso restrito à equipe de operações");
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<?> handleConflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+}
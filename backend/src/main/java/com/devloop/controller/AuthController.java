@@ -1,15 +1,16 @@
 package com.devloop.controller;
 
+import com.devloop.dto.AuthTokenDto;
 import com.devloop.dto.LoginRequest;
+import com.devloop.dto.RefreshTokenRequest;
 import com.devloop.dto.RegisterRequest;
 import com.devloop.service.AuthService;
-import com.devloop.util.JwtUtil;
+import com.devloop.service.TokenService;
 import com.devloop.entity.User;
 import com.devloop.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,7 +33,7 @@ public class AuthController {
     private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private TokenService tokenService;
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
@@ -42,19 +43,34 @@ public class AuthController {
             return ResponseEntity.status(401).body(Map.of("error", "Usuário não encontrado"));
         }
 
+        // Usuários vindos de importação não têm senha válida até a redefinição
+        if (user.isPasswordResetRequired()) {
+            return ResponseEntity.status(401).body(Map.of("error", "É necessário redefinir a senha"));
+        }
+
         if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword_hash())) {
             return ResponseEntity.status(401).body(Map.of("error", "Senha inválida"));
         }
 
-        UserDetails userDetails = org.springframework.security.core.userdetails.User
-            .withUsername(user.getEmail())
-            .password(user.getPassword_hash())
-            .roles(user.getRole().name())
-            .build();
+        // BCrypt só no login; as renovações seguintes usam o refresh token
+        return ResponseEntity.ok(tokenService.issue(user.getId(), user.getEmail(), user.getRole().name()));
+    }
 
-        String jwt = jwtUtil.generateToken(userDetails);
-        // Return JWT as a JSON object for consistency
-        return ResponseEntity.ok(Map.of("token", jwt)); 
+    /**
+     * Troca um refresh token válido por um novo par de tokens, sem senha
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthTokenDto> refresh(@RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(tokenService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * Revoga a família do refresh token; os access tokens dela deixam de valer
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequest request) {
+        tokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/register")
@@ -66,4 +82,9 @@ public class AuthController {
             return ResponseEntity.status(400).body(Map.of("error", e.getMessage()));
         }
     }
+
+    @ExceptionHandler(TokenService.InvalidRefreshTokenException.class)
+    public ResponseEntity<?> handleInvalidRefreshToken(TokenService.InvalidRefreshTokenException e) {
+        return ResponseEntity.status(401).body(Map.of("error", e.getMessage()));
+    }
 }
@@ -1,15 +1,32 @@
 package com.devloop.controller;
 
+import com.devloop.dto.AvailabilityBatchItemDto;
+import com.devloop.dto.AvailabilityBatchResponseDto;
 import com.devloop.entity.Availability;
 import com.devloop.entity.User;
 import com.devloop.repository.AvailabilityRepository;
 import com.devloop.repository.UserRepository;
+import com.devloop.service.AvailabilityBatchService;
+import com.devloop.service.AvailabilityService;
+import com.devloop.util.ETags;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.security.Principal;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequestMapping("/api/availabilities")
@@ -21,44 +38,91 @@ public class AvailabilityController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private AvailabilityBatchService availabilityBatchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${devloop.availability.batch.max-items:1000}")
+    private int batchMaxItems;
+
     @PostMapping
     public Availability createAvailability(@RequestBody Availability availability, Principal principal) {
-        String email = principal.getName();
-        User mentor = userRepository.findByEmail(email).orElseThrow();
-        availability.setMentor(mentor);
-        return availabilityRepository.save(availability);
+        return availabilityService.createAvailability(availability, principal.getName());
+    }
+
+    /**
+     * Importação em lote: aceita um array JSON ou NDJSON (um item por linha), lido de forma incremental.
+     * Retorna o resultado de cada item na ordem de envio.
+     */
+    @PostMapping(value = "/batch", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<?> importAvailabilities(HttpServletRequest request, Principal principal) throws IOException {
+        User mentor = userRepository.findByEmail(principal.getName()).orElseThrow();
+
+        List<AvailabilityBatchItemDto> items = new ArrayList<>();
+        try (MappingIterator<AvailabilityBatchItemDto> iterator =
+                 objectMapper.readerFor(AvailabilityBatchItemDto.class).readValues(request.getInputStream())) {
+            while (iterator.hasNextValue()) {
+                if (items.size() == batchMaxItems) {
+                    return ResponseEntity.status(413)
+                        .body(Map.of("error", "O lote excede o limite de " + batchMaxItems + " itens"));
+                }
+                items.add(iterator.nextValue());
+            }
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Lote inválido: " + e.getMessage()));
+        }
+
+        AvailabilityBatchResponseDto response = availabilityBatchService.importAvailabilities(mentor, items);
+        return ResponseEntity.ok(response);
     }
 
+    /**
+     * As disponibilidades embutem o mentor, então o ETag combina as versões de ambos.
+     * Sem cache local (no-cache): o cliente sempre revalida, pois a agenda muda a cada reserva.
+     */
     @GetMapping
-    public List<Availability> getAvailabilities(@RequestParam(required = false) Long mentorId) {
+    public ResponseEntity<List<Availability>> getAvailabilities(@RequestParam(required = false) Long mentorId, WebRequest request) {
+        String etag;
         if (mentorId != null) {
-            User mentor = userRepository.findById(mentorId).orElseThrow();
-            return availabilityRepository.findByMentor(mentor);
+            Long mentorVersion = userRepository.findVersionById(mentorId)
+                .orElseThrow(() -> new NoSuchElementException("Mentor não encontrado: " + mentorId));
+            AvailabilityRepository.VersionSummary summary = availabilityRepository.summarizeVersionsByMentor(mentorId);
+            etag = ETags.weak("availabilities-" + mentorId, mentorVersion,
+                summary.getTotal(), summary.getVersionSum(), summary.getMaxId());
+        } else {
+            AvailabilityRepository.VersionSummary summary = availabilityRepository.summarizeVersions();
+            UserRepository.VersionSummary users = userRepository.summarizeVersions();
+            etag = ETags.weak("availabilities", summary.getTotal(), summary.getVersionSum(), summary.getMaxId(),
+                users.getVersionSum());
         }
-        return availabilityRepository.findAll();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<Availability> availabilities = availabilityService.getAvailabilities(mentorId);
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(availabilities);
     }
 
     @PutMapping("/{id}")
     public Availability updateAvailability(@PathVariable Long id, @RequestBody Availability updatedAvailability, Principal principal) {
-        Availability availability = availabilityRepository.findById(id).orElseThrow();
-        // (Opcional) Verifique se o usuário autenticado é o mentor dono da disponibilidade
-        String email = principal.getName();
-        if (!availability.getMentor().getEmail().equals(email)) {
-            throw new RuntimeException("Você não tem permissão para atualizar esta disponibilidade.");
-        }
-        availability.setStart(updatedAvailability.getStart());
-        availability.setEndTime(updatedAvailability.getEndTime());
-        availability.setDayOfWeek(updatedAvailability.getDayOfWeek());
-        return availabilityRepository.save(availability);
+        return availabilityService.updateAvailability(id, updatedAvailability, principal.getName());
     }
 
     @DeleteMapping("/{id}")
     public void deleteAvailability(@PathVariable Long id, Principal principal) {
-        Availability availability = availabilityRepository.findById(id).orElseThrow();
-        String email = principal.getName();
-        if (!availability.getMentor().getEmail().equals(email)) {
-            throw new RuntimeException("Você não tem permissão para excluir esta disponibilidade.");
-        }
-        availabilityRepository.deleteById(id);
+        availabilityService.deleteAvailability(id, principal.getName());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<?> handleNotFound(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
     }
-}
\ No newline at end of file
+}
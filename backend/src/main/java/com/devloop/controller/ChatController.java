@@ -1,23 +1,75 @@
 package com.devloop.controller;
 
-import com.devloop.entity.Message;
+import com.devloop.config.CborMessageConverter;
+import com.devloop.config.StompSubscriptionTracker;
+import com.devloop.dto.ChatMessageDto;
+import com.devloop.jfr.ChatMessageEvent;
 import com.devloop.service.ChatService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 public class ChatController {
 
     private final ChatService chatService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StompSubscriptionTracker subscriptionTracker;
 
-    public ChatController(ChatService chatService) {
+    public ChatController(ChatService chatService, SimpMessagingTemplate messagingTemplate,
+                          StompSubscriptionTracker subscriptionTracker) {
         this.chatService = chatService;
+        this.messagingTemplate = messagingTemplate;
+        this.subscriptionTracker = subscriptionTracker;
     }
 
+    /**
+     * Persiste e retransmite só o DTO enxuto. Assinantes de /topic/session/{id} recebem JSON e os de
+     * /topic/session/{id}.cbor recebem CBOR em frames binários; cada variante só é gerada quando tem
+     * assinantes. O remetente vem da sessão STOMP autenticada; do payload só é lido o conteúdo.
+     */
     @MessageMapping("/session/{id}/send")
-    @SendTo("/topic/session/{id}")
-    public Message sendMessage(Message message) {
-        return chatService.saveMessage(message);
+    public void sendMessage(@DestinationVariable Long id, ChatMessageDto message, Principal principal) {
+        if (principal == null) {
+            throw new AccessDeniedException("Conexão sem usuário autenticado.");
+        }
+        ChatMessageEvent event = new ChatMessageEvent();
+        event.begin();
+        event.sessionId = id;
+        try {
+            long persistStart = System.nanoTime();
+            ChatMessageDto saved = chatService.sendMessage(id, principal.getName(), message.getContent());
+            event.persistDuration = System.nanoTime() - persistStart;
+            String destination = "/topic/session/" + id;
+            if (subscriptionTracker.hasSubscribers(destination)) {
+                messagingTemplate.convertAndSend(destination, saved);
+            }
+            if (subscriptionTracker.hasSubscribers(destination + ".cbor")) {
+                messagingTemplate.convertAndSend(destination + ".cbor", saved,
+                    Map.<String, Object>of(MessageHeaders.CONTENT_TYPE, CborMessageConverter.CBOR));
+            }
+            event.contentLength = saved.getContent().length();
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Histórico completo do chat da sessão, incluindo mensagens já arquivadas
+     */
+    @GetMapping("/sessions/{id}/messages")
+    public ResponseEntity<List<ChatMessageDto>> getHistory(@PathVariable Long id, Authentication authentication) {
+        return ResponseEntity.ok(chatService.getHistory(id, authentication.getName()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.devloop.controller;
+
+import com.devloop.dto.DashboardDto;
+import com.devloop.entity.User;
+import com.devloop.repository.UserRepository;
+import com.devloop.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Retorna em uma única chamada os dados agregados do dashboard do usuário autenticado
+     */
+    @GetMapping
+    public ResponseEntity<DashboardDto> getDashboard(Authentication authentication) {
+        User user = userRepository.findByEmail(authentication.getName()).orElseThrow();
+        return ResponseEntity.ok(dashboardService.getDashboard(user));
+    }
+}
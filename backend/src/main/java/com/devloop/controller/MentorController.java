@@ -0,0 +1,105 @@
+package com.devloop.controller;
+
+import com.devloop.dto.FreeBusyDto;
+import com.devloop.dto.MentorRecommendationDto;
+import com.devloop.dto.MentorSuggestionDto;
+import com.devloop.entity.User;
+import com.devloop.repository.UserRepository;
+import com.devloop.search.MentorRecommendationEngine;
+import com.devloop.search.MentorSearchIndex;
+import com.devloop.service.FreeBusyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@RestController
+@RequestMapping("/api/mentors")
+public class MentorController {
+
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final Pattern GRANULARITY = Pattern.compile("(\\d+)([mh])");
+
+    @Autowired
+    private MentorSearchIndex mentorSearchIndex;
+
+    @Autowired
+    private MentorRecommendationEngine mentorRecommendationEngine;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FreeBusyService freeBusyService;
+
+    /**
+     * Autocomplete por prefixo sobre nome, título e skills dos mentores (índice em memória)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<MentorSuggestionDto>> suggest(@RequestParam String q,
+                                                             @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(mentorSearchIndex.suggest(q, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * Mentores ranqueados por afinidade de skills, nota, disponibilidade próxima e histórico.
+     * Sem o parâmetro skills, usa as skills do próprio usuário.
+     */
+    @GetMapping("/recommended")
+    public ResponseEntity<List<MentorRecommendationDto>> recommended(@RequestParam(required = false) List<String> skills,
+                                                                     @RequestParam(defaultValue = "10") int limit,
+                                                                     Principal principal) {
+        User user = userRepository.findByEmail(principal.getName()).orElseThrow();
+        List<String> requested = skills != null ? skills : mentorRecommendationEngine.skillsOf(user.getEmail());
+        return ResponseEntity.ok(mentorRecommendationEngine.recommend(requested, user.getId(),
+            Math.max(0, Math.min(limit, MAX_SUGGESTIONS))));
+    }
+
+    /**
+     * Horários livres do mentor como bitmap compacto (ver FreeBusyDto).
+     * Padrão: os próximos 7 dias a partir de hoje, em blocos de 15 minutos.
+     */
+    @GetMapping("/{id}/freebusy")
+    public ResponseEntity<FreeBusyDto> freeBusy(@PathVariable Long id,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                @RequestParam(defaultValue = "15m") String granularity) {
+        LocalDateTime start = from != null ? from : LocalDate.now().atStartOfDay();
+        LocalDateTime end = to != null ? to : start.plusDays(7);
+        FreeBusyDto freeBusy = freeBusyService.getFreeBusy(id, start, end, parseGranularity(granularity));
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(freeBusy);
+    }
+
+    // "15m", "30m", "1h"...
+    private static int parseGranularity(String value) {
+        Matcher matcher = GRANULARITY.matcher(value.trim().toLowerCase());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Granularidade inválida: " + value);
+        }
+        int amount = Integer.parseInt(matcher.group(1));
+        return "h".equals(matcher.group(2)) ? amount * 60 : amount;
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<?> handleNotFound(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+    }
+}
@@ -0,0 +1,203 @@
+package com.devloop.controller;
+
+import com.devloop.dto.RecordingDto;
+import com.devloop.service.RecordingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.*;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Upload retomável de gravações seguindo o protocolo tus 1.0 (creation + checksum):
+ * POST cria o upload, HEAD informa o offset atual e PATCH anexa bytes a partir dele.
+ */
+@RestController
+@RequestMapping("/api/recordings")
+public class RecordingController {
+
+    private static final String TUS_RESUMABLE = "Tus-Resumable";
+    private static final String TUS_VERSION = "1.0.0";
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+    private static final int CHECKSUM_MISMATCH = 460;
+
+    @Autowired
+    private RecordingService recordingService;
+
+    @Value("${devloop.recordings.max-concurrent-uploads:8}")
+    private int maxConcurrentUploads;
+
+    // Limita PATCHs simultâneos para que uploads longos não ocupem todas as threads do Tomcat
+    private Semaphore uploadPermits;
+
+    @PostConstruct
+    public void init() {
+        uploadPermits = new Semaphore(maxConcurrentUploads);
+    }
+
+    @PostMapping
+    public ResponseEntity<RecordingDto> create(@RequestParam Long sessionId,
+                                               @RequestHeader(UPLOAD_LENGTH) long length,
+                                               @RequestHeader(value = "Upload-Metadata", required = false) String metadata,
+                                               Principal principal) {
+        Map<String, String> meta = parseMetadata(metadata);
+        RecordingDto recording = recordingService.createRecording(sessionId, principal.getName(),
+            meta.getOrDefault("filename", "recording"),
+            meta.getOrDefault("filetype", MediaType.APPLICATION_OCTET_STREAM_VALUE),
+            length);
+        return ResponseEntity.created(URI.create("/api/recordings/" + recording.getId()))
+            .header(TUS_RESUMABLE, TUS_VERSION)
+            .body(recording);
+    }
+
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> offset(@PathVariable Long id, Principal principal) {
+        RecordingDto recording = recordingService.getRecording(id, principal.getName());
+        return ResponseEntity.ok()
+            .header(TUS_RESUMABLE, TUS_VERSION)
+            .header(UPLOAD_OFFSET, String.valueOf(recording.getUploadOffset()))
+            .header(UPLOAD_LENGTH, String.valueOf(recording.getTotalSize()))
+            .header(HttpHeaders.CACHE_CONTROL, "no-store")
+            .build();
+    }
+
+    /**
+     * O corpo é lido direto do socket; sem permissão livre responde 503 em vez de enfileirar.
+     */
+    @PatchMapping(value = "/{id}", consumes = "application/offset+octet-stream")
+    public ResponseEntity<Void> append(@PathVariable Long id,
+                                       @RequestHeader(UPLOAD_OFFSET) long offset,
+                                       @RequestHeader(value = "Upload-Checksum", required = false) String checksum,
+                                       HttpServletRequest request,
+                                       Principal principal) throws IOException {
+        if (!uploadPermits.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .build();
+        }
+        try {
+            long newOffset = recordingService.appendChunk(id, principal.getName(), offset, request.getInputStream(), checksum);
+            return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(newOffset))
+                .build();
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RecordingDto>> listBySession(@RequestParam Long sessionId, Principal principal) {
+        return ResponseEntity.ok(recordingService.getRecordingsForSession(sessionId, principal.getName()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RecordingDto> getRecording(@PathVariable Long id, Principal principal) {
+        return ResponseEntity.ok(recordingService.getRecording(id, principal.getName()));
+    }
+
+    /**
+     * Reprodução com suporte a Range. Quando o conector do Tomcat aceita sendfile, a cópia
+     * arquivo → socket fica com o kernel (zero-copy); caso contrário o trecho é copiado
+     * com buffer pelo stream da resposta.
+     */
+    @GetMapping("/{id}/content")
+    public void content(@PathVariable Long id,
+                        @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                        Principal principal,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        RecordingDto recording = recordingService.getRecording(id, principal.getName());
+        if (!"COMPLETE".equals(recording.getStatus())) {
+            throw new IllegalStateException("O upload ainda não foi concluído");
+        }
+        long size = recording.getTotalSize();
+        long start = 0;
+        long end = size - 1;
+        if (range != null) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() != 1 || ranges.get(0).getRangeStart(size) >= size) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            start = ranges.get(0).getRangeStart(size);
+            end = ranges.get(0).getRangeEnd(size);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        long length = end - start + 1;
+        response.setContentType(recording.getContentType());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentLengthLong(length);
+
+        Path path = recordingService.getContentPath(id);
+        if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", path.toAbsolutePath().toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", start);
+            request.setAttribute("org.apache.tomcat.sendfile.end", end + 1);
+            return;
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            StreamUtils.copyRange(in, response.getOutputStream(), start, end);
+        }
+    }
+
+    // Upload-Metadata: pares "chave valorBase64" separados por vírgula
+    private Map<String, String> parseMetadata(String header) {
+        Map<String, String> metadata = new HashMap<>();
+        if (header == null || header.isBlank()) {
+            return metadata;
+        }
+        for (String pair : header.split(",")) {
+            String[] parts = pair.trim().split(" ", 2);
+            String value = parts.length > 1
+                ? new String(Base64.getDecoder().decode(parts[1].trim()), StandardCharsets.UTF_8)
+                : "";
+            metadata.put(parts[0], value);
+        }
+        return metadata;
+    }
+
+    @ExceptionHandler(RecordingService.ChecksumMismatchException.class)
+    public ResponseEntity<?> handleChecksumMismatch(RecordingService.ChecksumMismatchException e) {
+        return ResponseEntity.status(CHECKSUM_MISMATCH).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<?> handleConflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.devloop.controller;
+
+import com.devloop.dto.MessageSearchHitDto;
+import com.devloop.dto.ReviewSearchHitDto;
+import com.devloop.dto.SearchResultDto;
+import com.devloop.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping("/messages")
+    public ResponseEntity<SearchResultDto<MessageSearchHitDto>> searchMessages(@RequestParam String q,
+                                                                               @RequestParam(required = false) Long sessionId,
+                                                                               @RequestParam(defaultValue = "0") int page,
+                                                                               @RequestParam(defaultValue = "20") int size,
+                                                                               Authentication authentication) {
+        return ResponseEntity.ok(searchService.searchMessages(authentication.getName(), q, sessionId, page, size));
+    }
+
+    @GetMapping("/reviews")
+    public ResponseEntity<SearchResultDto<ReviewSearchHitDto>> searchReviews(@RequestParam String q,
+                                                                             @RequestParam(defaultValue = "0") int page,
+                                                                             @RequestParam(defaultValue = "20") int size,
+                                                                             Authentication authentication) {
+        return ResponseEntity.ok(searchService.searchReviews(authentication.getName(), q, page, size));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
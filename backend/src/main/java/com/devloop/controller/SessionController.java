@@ -1,18 +1,19 @@
 package com.devloop.controller;
 
 import com.devloop.entity.Session;
-import com.devloop.entity.User;
-import com.devloop.repository.UserRepository;
+import com.devloop.jfr.SessionBookingEvent;
 import com.devloop.service.SessionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.security.core.Authentication;
-import com.devloop.entity.Availability;
-import com.devloop.repository.AvailabilityRepository;
+import com.devloop.util.JsonArrayStreamer;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/sessions")
@@ -22,42 +23,39 @@ public class SessionController {
     private SessionService sessionService;
 
     @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private AvailabilityRepository availabilityRepository;
+    private JsonArrayStreamer jsonArrayStreamer;
 
+    /**
+     * Agenda em nome do usuário autenticado; a janela de disponibilidade é consumida na mesma transação
+     */
     @PostMapping
     public ResponseEntity<Session> createSession(@RequestBody Session session, Authentication authentication) {
-        // Pega o usuário autenticado pelo JWT
-        String email = authentication.getName();
-        User mentee = userRepository.findByEmail(email).orElseThrow();
-        session.setMentee(mentee);
-
-        // Validação: só pode agendar se houver disponibilidade
-        LocalDateTime scheduledTime = session.getScheduledTime();
-        User mentor = session.getMentor();
-        List<Availability> availabilities = availabilityRepository.findByMentor(mentor);
-        Availability slot = availabilities.stream()
-            .filter(a -> !scheduledTime.isBefore(a.getStart()) && !scheduledTime.isAfter(a.getEndTime()))
-            .findFirst()
-            .orElse(null);
-
-        if (slot == null) {
-            return ResponseEntity.badRequest().body(null); // ou lance uma exceção customizada
+        SessionBookingEvent event = new SessionBookingEvent();
+        event.begin();
+        if (session.getMentor() != null && session.getMentor().getId() != null) {
+            event.mentorId = session.getMentor().getId();
+        }
+        try {
+            Session booked = sessionService.bookSession(session, authentication.getName());
+            event.sessionId = booked.getId();
+            event.outcome = "BOOKED";
+            return ResponseEntity.ok(booked);
+        } catch (RuntimeException e) {
+            event.outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
         }
-
-        // Remove a disponibilidade usada
-        availabilityRepository.delete(slot);
-
-        Session createdSession = sessionService.createSession(session);
-        return ResponseEntity.ok(createdSession);
     }
 
+    /**
+     * Lista transmitida linha a linha: o uso de memória não cresce com o número de sessões
+     */
     @GetMapping
-    public ResponseEntity<List<Session>> getAllSessions() {
-        List<Session> sessions = sessionService.getAllSessions();
-        return ResponseEntity.ok(sessions);
+    public ResponseEntity<StreamingResponseBody> getAllSessions() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(jsonArrayStreamer.stream(sessionService::streamAllSessions));
     }
 
     @GetMapping("/{id}")
@@ -67,8 +65,9 @@ public class SessionController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Session> updateSession(@PathVariable Long id, @RequestBody Session session) {
-        Session updatedSession = sessionService.updateSession(id, session);
+    public ResponseEntity<Session> updateSession(@PathVariable Long id, @RequestBody Session session,
+                                                 Authentication authentication) {
+        Session updatedSession = sessionService.updateSession(id, session, authentication.getName());
         return ResponseEntity.ok(updatedSession);
     }
 
@@ -77,4 +76,38 @@ public class SessionController {
         sessionService.deleteSession(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<Session> confirmSession(@PathVariable Long id, Authentication authentication) {
+        return ResponseEntity.ok(sessionService.confirmSession(id, authentication.getName()));
+    }
+
+    /**
+     * Cancela a sessão e devolve o horário reservado à disponibilidade do mentor
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<Session> cancelSession(@PathVariable Long id, Authentication authentication) {
+        return ResponseEntity.ok(sessionService.cancelSession(id, authentication.getName()));
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<Session> completeSession(@PathVariable Long id, Authentication authentication) {
+        return ResponseEntity.ok(sessionService.completeSession(id, authentication.getName()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<?> handleInvalidTransition(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleConcurrentUpdate(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(Map.of("error", "A sessão foi alterada por outra requisição. Recarregue e tente novamente."));
+    }
 }
\ No newline at end of file
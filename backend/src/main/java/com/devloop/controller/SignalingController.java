@@ -0,0 +1,89 @@
+package com.devloop.controller;
+
+import com.devloop.dto.SignalMessage;
+import com.devloop.signaling.SignalingRoomRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Relay de sinalização WebRTC sobre o STOMP de /ws.
+ * Offer/answer/ICE vão apenas para o par indicado, pelo destino /user/queue/signal; nada é persistido.
+ */
+@Controller
+public class SignalingController {
+
+    public static final String DESTINATION = "/queue/signal";
+
+    @Autowired
+    private SignalingRoomRegistry roomRegistry;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @MessageMapping("/session/{id}/signal")
+    public void signal(@DestinationVariable Long id, @Payload SignalMessage message,
+                       Principal principal, SimpMessageHeaderAccessor headers) {
+        if (principal == null) {
+            throw new AccessDeniedException("Conecte-se com um token para iniciar chamadas");
+        }
+        String from = principal.getName();
+        if (message.getType() == null) {
+            throw new IllegalArgumentException("Tipo de sinalização ausente");
+        }
+        switch (message.getType()) {
+            case JOIN:
+                List<String> others = roomRegistry.join(id, from, headers.getSessionId());
+                send(from, new SignalMessage(SignalMessage.Type.PEERS, id, null, from, others));
+                others.forEach(peer -> send(peer, new SignalMessage(SignalMessage.Type.PEER_JOINED, id, from, peer, null)));
+                break;
+            case LEAVE:
+                roomRegistry.leave(id, from)
+                    .forEach(peer -> send(peer, new SignalMessage(SignalMessage.Type.PEER_LEFT, id, from, peer, null)));
+                break;
+            case OFFER:
+            case ANSWER:
+            case ICE:
+                String to = roomRegistry.resolvePeer(id, from, message.getTo());
+                if (to == null) {
+                    throw new IllegalStateException("Participante não está na chamada");
+                }
+                send(to, new SignalMessage(message.getType(), id, from, to, message.getPayload()));
+                break;
+            default:
+                throw new IllegalArgumentException("Tipo de sinalização não aceito: " + message.getType());
+        }
+    }
+
+    // Queda da conexão equivale a sair de todas as salas
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Principal user = event.getUser();
+        String name = user != null ? user.getName() : null;
+        roomRegistry.disconnect(event.getSessionId(), name)
+            .forEach((sessionId, peers) -> peers.forEach(peer ->
+                send(peer, new SignalMessage(SignalMessage.Type.PEER_LEFT, sessionId, name, peer, null))));
+    }
+
+    @MessageExceptionHandler({ IllegalArgumentException.class, IllegalStateException.class, AccessDeniedException.class })
+    @SendToUser(destinations = DESTINATION, broadcast = false)
+    public SignalMessage handleError(RuntimeException e) {
+        return new SignalMessage(SignalMessage.Type.ERROR, null, null, null, e.getMessage());
+    }
+
+    private void send(String user, SignalMessage message) {
+        messagingTemplate.convertAndSendToUser(user, DESTINATION, message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.devloop.controller;
+
+import com.devloop.dto.SyncDto;
+import com.devloop.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    public static final String VERSION_HEADER = "Sync-Version";
+
+    @Autowired
+    private SyncService syncService;
+
+    /**
+     * Alterações em sessões, disponibilidades e avaliações desde a versão do cliente.
+     * Sem alterações, responde 204 sem corpo; a nova versão vai sempre no header Sync-Version.
+     */
+    @GetMapping
+    public ResponseEntity<SyncDto> getChanges(@RequestParam(required = false) Long since,
+                                              @RequestParam(required = false) Long mentorId,
+                                              Authentication authentication) {
+        SyncDto changes = syncService.getChanges(authentication.getName(), since, mentorId);
+        if (since != null && changes.isEmpty()) {
+            return ResponseEntity.noContent()
+                .header(VERSION_HEADER, String.valueOf(changes.getVersion()))
+                .build();
+        }
+        return ResponseEntity.ok()
+            .header(VERSION_HEADER, String.valueOf(changes.getVersion()))
+            .body(changes);
+    }
+
+    @ExceptionHandler(SyncService.ChangesPrunedException.class)
+    public ResponseEntity<?> handlePruned(SyncService.ChangesPrunedException e) {
+        return ResponseEntity.status(HttpStatus.GONE).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -6,14 +6,20 @@ import com.devloop.dto.UserProfileDto;
 import com.devloop.entity.User;
 import com.devloop.repository.UserRepository;
 import com.devloop.service.UserService;
+import com.devloop.util.ETags;
+import com.devloop.util.JsonArrayStreamer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/users")
@@ -25,16 +31,45 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
+    /**
+     * Lista de usuários com ETag derivado do resumo de versões da tabela.
+     * Se nada mudou, responde 304 sem carregar nem serializar a lista;
+     * caso contrário, a lista é transmitida linha a linha.
+     */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userService.findAll();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<StreamingResponseBody> getAllUsers(WebRequest request) {
+        UserRepository.VersionSummary summary = userRepository.summarizeVersions();
+        String etag = ETags.weak("users", summary.getTotal(), summary.getVersionSum(), summary.getMaxId());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(jsonArrayStreamer.stream(userRepository::streamAll));
     }
 
+    /**
+     * Perfil com ETag baseado na versão da entidade: perfis são muito mais lidos que editados,
+     * então na maioria das vezes a requisição custa apenas a consulta da versão
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+    public ResponseEntity<User> getUserById(@PathVariable Long id, WebRequest request) {
+        Long version = userRepository.findVersionById(id)
+            .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        String etag = ETags.weak("user", id, version);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         User user = userService.findById(id);
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.maxAge(30, TimeUnit.SECONDS).cachePrivate().mustRevalidate())
+            .body(user);
     }
 
     @PostMapping
@@ -89,7 +124,7 @@ public class UserController {
     @GetMapping("/me")
     public ResponseEntity<UserDto> getCurrentUser(Authentication authentication) {
         String email = authentication.getName();
-        User user = userRepository.findByEmail(email).orElseThrow();
+        User user = userRepository.findWithSkillsByEmail(email).orElseThrow();
         // Corrija para garantir que o username não seja null
         String username = user.getName() != null ? user.getName() : user.getEmail();
         
@@ -122,4 +157,9 @@ public class UserController {
         User updatedUser = userService.updateProfileImage(id, imageData);
         return ResponseEntity.ok(updatedUser);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.devloop.dto;
+
+/**
+ * Par de tokens devolvido no login e em cada renovação. O refresh token só vale para uma renovação.
+ */
+public class AuthTokenDto {
+    private String token;
+    private String refreshToken;
+    private String tokenType = "Bearer";
+    private long expiresIn;
+
+    public AuthTokenDto() {}
+
+    public AuthTokenDto(String token, String refreshToken, long expiresIn) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+    public String getTokenType() { return tokenType; }
+    public void setTokenType(String tokenType) { this.tokenType = tokenType; }
+    public long getExpiresIn() { return expiresIn; }
+    public void setExpiresIn(long expiresIn) { this.expiresIn = expiresIn; }
+}
@@ -0,0 +1,28 @@
+package com.devloop.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Item de importação em lote de disponibilidades.
+ * Com id, atualiza uma disponibilidade existente do mentor; sem id, cria uma nova.
+ */
+public class AvailabilityBatchItemDto {
+    private Long id;
+    private LocalDateTime start;
+    private LocalDateTime endTime;
+    private DayOfWeek dayOfWeek;
+    private List<String> timeSlots;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public LocalDateTime getStart() { return start; }
+    public void setStart(LocalDateTime start) { this.start = start; }
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+    public DayOfWeek getDayOfWeek() { return dayOfWeek; }
+    public void setDayOfWeek(DayOfWeek dayOfWeek) { this.dayOfWeek = dayOfWeek; }
+    public List<String> getTimeSlots() { return timeSlots; }
+    public void setTimeSlots(List<String> timeSlots) { this.timeSlots = timeSlots; }
+}
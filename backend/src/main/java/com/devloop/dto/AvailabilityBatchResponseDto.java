@@ -0,0 +1,32 @@
+package com.devloop.dto;
+
+import java.util.List;
+
+public class AvailabilityBatchResponseDto {
+    private int created;
+    private int updated;
+    private int rejected;
+    private List<AvailabilityBatchResultDto> results;
+
+    public AvailabilityBatchResponseDto() {}
+
+    public AvailabilityBatchResponseDto(List<AvailabilityBatchResultDto> results) {
+        this.results = results;
+        for (AvailabilityBatchResultDto result : results) {
+            switch (result.getStatus()) {
+                case CREATED: created++; break;
+                case UPDATED: updated++; break;
+                default: rejected++;
+            }
+        }
+    }
+
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    public List<AvailabilityBatchResultDto> getResults() { return results; }
+    public void setResults(List<AvailabilityBatchResultDto> results) { this.results = results; }
+}
@@ -0,0 +1,33 @@
+package com.devloop.dto;
+
+public class AvailabilityBatchResultDto {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        REJECTED
+    }
+
+    private int index;
+    private Status status;
+    private Long id;
+    private String error;
+
+    public AvailabilityBatchResultDto() {}
+
+    public AvailabilityBatchResultDto(int index, Status status, Long id, String error) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,54 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Agenda atual de um mentor, enviada em /topic/mentor/{id}/availability após alterações.
+ * Várias alterações próximas chegam como uma só mensagem; reasons lista os tipos de evento.
+ */
+public class AvailabilityChangeDto {
+    private Long mentorId;
+    private List<String> reasons;
+    private List<Window> availabilities;
+    private LocalDateTime changedAt;
+
+    public AvailabilityChangeDto() {}
+
+    public AvailabilityChangeDto(Long mentorId, List<String> reasons, List<Window> availabilities, LocalDateTime changedAt) {
+        this.mentorId = mentorId;
+        this.reasons = reasons;
+        this.availabilities = availabilities;
+        this.changedAt = changedAt;
+    }
+
+    public Long getMentorId() { return mentorId; }
+    public void setMentorId(Long mentorId) { this.mentorId = mentorId; }
+    public List<String> getReasons() { return reasons; }
+    public void setReasons(List<String> reasons) { this.reasons = reasons; }
+    public List<Window> getAvailabilities() { return availabilities; }
+    public void setAvailabilities(List<Window> availabilities) { this.availabilities = availabilities; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+
+    public static class Window {
+        private Long id;
+        private LocalDateTime start;
+        private LocalDateTime endTime;
+
+        public Window() {}
+
+        public Window(Long id, LocalDateTime start, LocalDateTime endTime) {
+            this.id = id;
+            this.start = start;
+            this.endTime = endTime;
+        }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public LocalDateTime getStart() { return start; }
+        public void setStart(LocalDateTime start) { this.start = start; }
+        public LocalDateTime getEndTime() { return endTime; }
+        public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+    }
+}
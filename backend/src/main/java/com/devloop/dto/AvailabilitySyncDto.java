@@ -0,0 +1,33 @@
+package com.devloop.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Estado atual de uma disponibilidade no /api/sync. O mentor vai só como id.
+ */
+public class AvailabilitySyncDto {
+    private Long id;
+    private Long mentorId;
+    private LocalDateTime start;
+    private LocalDateTime endTime;
+    private DayOfWeek dayOfWeek;
+    private List<String> timeSlots;
+    private Long version;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getMentorId() { return mentorId; }
+    public void setMentorId(Long mentorId) { this.mentorId = mentorId; }
+    public LocalDateTime getStart() { return start; }
+    public void setStart(LocalDateTime start) { this.start = start; }
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+    public DayOfWeek getDayOfWeek() { return dayOfWeek; }
+    public void setDayOfWeek(DayOfWeek dayOfWeek) { this.dayOfWeek = dayOfWeek; }
+    public List<String> getTimeSlots() { return timeSlots; }
+    public void setTimeSlots(List<String> timeSlots) { this.timeSlots = timeSlots; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
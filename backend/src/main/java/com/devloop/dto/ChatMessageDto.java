@@ -0,0 +1,39 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representação enxuta de uma mensagem de chat, usada no histórico da sessão
+ */
+public class ChatMessageDto {
+    private Long id;
+    private Long sessionId;
+    private Long senderId;
+    private String senderName;
+    private String content;
+    private LocalDateTime sentAt;
+
+    public ChatMessageDto() {}
+
+    public ChatMessageDto(Long id, Long sessionId, Long senderId, String senderName, String content, LocalDateTime sentAt) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.content = content;
+        this.sentAt = sentAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public Long getSenderId() { return senderId; }
+    public void setSenderId(Long senderId) { this.senderId = senderId; }
+    public String getSenderName() { return senderName; }
+    public void setSenderName(String senderName) { this.senderName = senderName; }
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+    public LocalDateTime getSentAt() { return sentAt; }
+    public void setSentAt(LocalDateTime sentAt) { this.sentAt = sentAt; }
+}
@@ -0,0 +1,45 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO com os dados agregados exibidos no dashboard do usuário autenticado
+ */
+public class DashboardDto {
+    private Long userId;
+    private String role;
+    private long totalSessions;
+    private Map<String, Long> sessionsByStatus;
+    private long connections;
+    private double mentoringHours;
+    private long pendingReviews;
+    private long openAvailabilitySlots;
+    private long openAvailabilityMinutes;
+    private List<UpcomingSessionDto> upcomingSessions;
+    private LocalDateTime generatedAt;
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+    public long getTotalSessions() { return totalSessions; }
+    public void setTotalSessions(long totalSessions) { this.totalSessions = totalSessions; }
+    public Map<String, Long> getSessionsByStatus() { return sessionsByStatus; }
+    public void setSessionsByStatus(Map<String, Long> sessionsByStatus) { this.sessionsByStatus = sessionsByStatus; }
+    public long getConnections() { return connections; }
+    public void setConnections(long connections) { this.connections = connections; }
+    public double getMentoringHours() { return mentoringHours; }
+    public void setMentoringHours(double mentoringHours) { this.mentoringHours = mentoringHours; }
+    public long getPendingReviews() { return pendingReviews; }
+    public void setPendingReviews(long pendingReviews) { this.pendingReviews = pendingReviews; }
+    public long getOpenAvailabilitySlots() { return openAvailabilitySlots; }
+    public void setOpenAvailabilitySlots(long openAvailabilitySlots) { this.openAvailabilitySlots = openAvailabilitySlots; }
+    public long getOpenAvailabilityMinutes() { return openAvailabilityMinutes; }
+    public void setOpenAvailabilityMinutes(long openAvailabilityMinutes) { this.openAvailabilityMinutes = openAvailabilityMinutes; }
+    public List<UpcomingSessionDto> getUpcomingSessions() { return upcomingSessions; }
+    public void setUpcomingSessions(List<UpcomingSessionDto> upcomingSessions) { this.upcomingSessions = upcomingSessions; }
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+}
@@ -0,0 +1,42 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+
+public class DataImportProgressDto {
+
+    private String jobId;
+    private String table;
+    private String format;
+    private long rowsCommitted;
+    private String status;
+    private String error;
+    private LocalDateTime updatedAt;
+
+    public DataImportProgressDto() {}
+
+    public DataImportProgressDto(String jobId, String table, String format, long rowsCommitted,
+                                 String status, String error, LocalDateTime updatedAt) {
+        this.jobId = jobId;
+        this.table = table;
+        this.format = format;
+        this.rowsCommitted = rowsCommitted;
+        this.status = status;
+        this.error = error;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+    public String getTable() { return table; }
+    public void setTable(String table) { this.table = table; }
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+    public long getRowsCommitted() { return rowsCommitted; }
+    public void setRowsCommitted(long rowsCommitted) { this.rowsCommitted = rowsCommitted; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
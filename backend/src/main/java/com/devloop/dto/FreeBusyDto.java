@@ -0,0 +1,42 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Agenda livre/ocupada compactada: o bit i (byte i / 8, bit i % 8, do menos significativo)
+ * indica se o intervalo [from + i * granularidade, from + (i + 1) * granularidade) está livre.
+ * O bitmap é enviado em Base64.
+ */
+public class FreeBusyDto {
+
+    private Long mentorId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int granularityMinutes;
+    private int slots;
+    private String bitmap;
+
+    public FreeBusyDto() {}
+
+    public FreeBusyDto(Long mentorId, LocalDateTime from, LocalDateTime to, int granularityMinutes, int slots, String bitmap) {
+        this.mentorId = mentorId;
+        this.from = from;
+        this.to = to;
+        this.granularityMinutes = granularityMinutes;
+        this.slots = slots;
+        this.bitmap = bitmap;
+    }
+
+    public Long getMentorId() { return mentorId; }
+    public void setMentorId(Long mentorId) { this.mentorId = mentorId; }
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+    public int getGranularityMinutes() { return granularityMinutes; }
+    public void setGranularityMinutes(int granularityMinutes) { this.granularityMinutes = granularityMinutes; }
+    public int getSlots() { return slots; }
+    public void setSlots(int slots) { this.slots = slots; }
+    public String getBitmap() { return bitmap; }
+    public void setBitmap(String bitmap) { this.bitmap = bitmap; }
+}
@@ -0,0 +1,50 @@
+package com.devloop.dto;
+
+import java.util.List;
+
+public class MentorRecommendationDto {
+
+    private Long id;
+    private String name;
+    private String title;
+    private List<String> skills;
+    private double score;
+    private Double ratingAverage;
+    private int ratingCount;
+    private long availableMinutes;
+    private int completedSessions;
+
+    public MentorRecommendationDto() {}
+
+    public MentorRecommendationDto(Long id, String name, String title, List<String> skills, double score,
+                                   Double ratingAverage, int ratingCount, long availableMinutes, int completedSessions) {
+        this.id = id;
+        this.name = name;
+        this.title = title;
+        this.skills = skills;
+        this.score = score;
+        this.ratingAverage = ratingAverage;
+        this.ratingCount = ratingCount;
+        this.availableMinutes = availableMinutes;
+        this.completedSessions = completedSessions;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public List<String> getSkills() { return skills; }
+    public void setSkills(List<String> skills) { this.skills = skills; }
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+    public Double getRatingAverage() { return ratingAverage; }
+    public void setRatingAverage(Double ratingAverage) { this.ratingAverage = ratingAverage; }
+    public int getRatingCount() { return ratingCount; }
+    public void setRatingCount(int ratingCount) { this.ratingCount = ratingCount; }
+    public long getAvailableMinutes() { return availableMinutes; }
+    public void setAvailableMinutes(long availableMinutes) { this.availableMinutes = availableMinutes; }
+    public int getCompletedSessions() { return completedSessions; }
+    public void setCompletedSessions(int completedSessions) { this.completedSessions = completedSessions; }
+}
@@ -0,0 +1,29 @@
+package com.devloop.dto;
+
+import java.util.List;
+
+public class MentorSuggestionDto {
+
+    private Long id;
+    private String name;
+    private String title;
+    private List<String> skills;
+
+    public MentorSuggestionDto() {}
+
+    public MentorSuggestionDto(Long id, String name, String title, List<String> skills) {
+        this.id = id;
+        this.name = name;
+        this.title = title;
+        this.skills = skills;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public List<String> getSkills() { return skills; }
+    public void setSkills(List<String> skills) { this.skills = skills; }
+}
@@ -0,0 +1,44 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mensagem encontrada na busca textual. O snippet é HTML escapado com os termos entre &lt;mark&gt;
+ */
+public class MessageSearchHitDto {
+    private Long id;
+    private Long sessionId;
+    private Long senderId;
+    private String senderName;
+    private String snippet;
+    private LocalDateTime sentAt;
+    private double rank;
+
+    public MessageSearchHitDto() {}
+
+    public MessageSearchHitDto(Long id, Long sessionId, Long senderId, String senderName, String snippet,
+                               LocalDateTime sentAt, double rank) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.snippet = snippet;
+        this.sentAt = sentAt;
+        this.rank = rank;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public Long getSenderId() { return senderId; }
+    public void setSenderId(Long senderId) { this.senderId = senderId; }
+    public String getSenderName() { return senderName; }
+    public void setSenderName(String senderName) { this.senderName = senderName; }
+    public String getSnippet() { return snippet; }
+    public void setSnippet(String snippet) { this.snippet = snippet; }
+    public LocalDateTime getSentAt() { return sentAt; }
+    public void setSentAt(LocalDateTime sentAt) { this.sentAt = sentAt; }
+    public double getRank() { return rank; }
+    public void setRank(double rank) { this.rank = rank; }
+}
@@ -0,0 +1,29 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+
+public class NotificationDto {
+
+    private String type;
+    private Long sessionId;
+    private String message;
+    private LocalDateTime createdAt;
+
+    public NotificationDto() {}
+
+    public NotificationDto(String type, Long sessionId, String message, LocalDateTime createdAt) {
+        this.type = type;
+        this.sessionId = sessionId;
+        this.message = message;
+        this.createdAt = createdAt;
+    }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,54 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+
+public class RecordingDto {
+
+    private Long id;
+    private Long sessionId;
+    private Long uploaderId;
+    private String fileName;
+    private String contentType;
+    private long totalSize;
+    private long uploadOffset;
+    private String sha256;
+    private String status;
+    private LocalDateTime createdAt;
+
+    public RecordingDto() {}
+
+    public RecordingDto(Long id, Long sessionId, Long uploaderId, String fileName, String contentType, long totalSize,
+                        long uploadOffset, String sha256, String status, LocalDateTime createdAt) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.uploaderId = uploaderId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.totalSize = totalSize;
+        this.uploadOffset = uploadOffset;
+        this.sha256 = sha256;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public Long getUploaderId() { return uploaderId; }
+    public void setUploaderId(Long uploaderId) { this.uploaderId = uploaderId; }
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    public long getTotalSize() { return totalSize; }
+    public void setTotalSize(long totalSize) { this.totalSize = totalSize; }
+    public long getUploadOffset() { return uploadOffset; }
+    public void setUploadOffset(long uploadOffset) { this.uploadOffset = uploadOffset; }
+    public String getSha256() { return sha256; }
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,42 @@
+package com.devloop.dto;
+
+/**
+ * Avaliação encontrada na busca textual. O snippet é HTML escapado com os termos entre &lt;mark&gt;
+ */
+public class ReviewSearchHitDto {
+    private Long id;
+    private Long sessionId;
+    private Long reviewerId;
+    private String reviewerName;
+    private int rating;
+    private String snippet;
+    private double rank;
+
+    public ReviewSearchHitDto() {}
+
+    public ReviewSearchHitDto(Long id, Long sessionId, Long reviewerId, String reviewerName, int rating,
+                              String snippet, double rank) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.reviewerId = reviewerId;
+        this.reviewerName = reviewerName;
+        this.rating = rating;
+        this.snippet = snippet;
+        this.rank = rank;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public Long getReviewerId() { return reviewerId; }
+    public void setReviewerId(Long reviewerId) { this.reviewerId = reviewerId; }
+    public String getReviewerName() { return reviewerName; }
+    public void setReviewerName(String reviewerName) { this.reviewerName = reviewerName; }
+    public int getRating() { return rating; }
+    public void setRating(int rating) { this.rating = rating; }
+    public String getSnippet() { return snippet; }
+    public void setSnippet(String snippet) { this.snippet = snippet; }
+    public double getRank() { return rank; }
+    public void setRank(double rank) { this.rank = rank; }
+}
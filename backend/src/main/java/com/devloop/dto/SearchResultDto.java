@@ -0,0 +1,35 @@
+package com.devloop.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados da busca textual, ordenada por relevância
+ */
+public class SearchResultDto<T> {
+    private String query;
+    private int page;
+    private int size;
+    private long total;
+    private List<T> items;
+
+    public SearchResultDto() {}
+
+    public SearchResultDto(String query, int page, int size, long total, List<T> items) {
+        this.query = query;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.items = items;
+    }
+
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+}
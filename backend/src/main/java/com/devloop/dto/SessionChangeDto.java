@@ -0,0 +1,30 @@
+package com.devloop.dto;
+
+/**
+ * Alteração de uma sessão enviada aos participantes em /user/queue/sessions.
+ * Traz só o identificador e o novo status; o cliente busca o restante pelo /api/sync.
+ */
+public class SessionChangeDto {
+    private Long sessionId;
+    private Long mentorId;
+    private String type;
+    private String status;
+
+    public SessionChangeDto() {}
+
+    public SessionChangeDto(Long sessionId, Long mentorId, String type, String status) {
+        this.sessionId = sessionId;
+        this.mentorId = mentorId;
+        this.type = type;
+        this.status = status;
+    }
+
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public Long getMentorId() { return mentorId; }
+    public void setMentorId(Long mentorId) { this.mentorId = mentorId; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
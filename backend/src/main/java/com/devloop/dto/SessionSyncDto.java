@@ -0,0 +1,34 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado atual de uma sessão no /api/sync. Participantes vão só como ids, sem os dados do usuário.
+ */
+public class SessionSyncDto {
+    private Long id;
+    private Long mentorId;
+    private Long menteeId;
+    private LocalDateTime scheduledTime;
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+    private String status;
+    private Long version;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getMentorId() { return mentorId; }
+    public void setMentorId(Long mentorId) { this.mentorId = mentorId; }
+    public Long getMenteeId() { return menteeId; }
+    public void setMenteeId(Long menteeId) { this.menteeId = menteeId; }
+    public LocalDateTime getScheduledTime() { return scheduledTime; }
+    public void setScheduledTime(LocalDateTime scheduledTime) { this.scheduledTime = scheduledTime; }
+    public LocalDateTime getSlotStart() { return slotStart; }
+    public void setSlotStart(LocalDateTime slotStart) { this.slotStart = slotStart; }
+    public LocalDateTime getSlotEnd() { return slotEnd; }
+    public void setSlotEnd(LocalDateTime slotEnd) { this.slotEnd = slotEnd; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -0,0 +1,47 @@
+package com.devloop.dto;
+
+/**
+ * Mensagem de sinalização WebRTC. O payload (SDP ou candidato ICE) é repassado sem interpretação.
+ */
+public class SignalMessage {
+
+    public enum Type {
+        JOIN,
+        LEAVE,
+        OFFER,
+        ANSWER,
+        ICE,
+        PEERS,
+        PEER_JOINED,
+        PEER_LEFT,
+        ERROR
+    }
+
+    private Type type;
+    private Long sessionId;
+    // Preenchido pelo servidor com o usuário autenticado; o valor enviado pelo cliente é ignorado
+    private String from;
+    private String to;
+    private Object payload;
+
+    public SignalMessage() {}
+
+    public SignalMessage(Type type, Long sessionId, String from, String to, Object payload) {
+        this.type = type;
+        this.sessionId = sessionId;
+        this.from = from;
+        this.to = to;
+        this.payload = payload;
+    }
+
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public String getFrom() { return from; }
+    public void setFrom(String from) { this.from = from; }
+    public String getTo() { return to; }
+    public void setTo(String to) { this.to = to; }
+    public Object getPayload() { return payload; }
+    public void setPayload(Object payload) { this.payload = payload; }
+}
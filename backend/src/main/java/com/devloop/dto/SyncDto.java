@@ -0,0 +1,50 @@
+package com.devloop.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Alterações desde a versão informada pelo cliente. A versão devolvida é o próximo "since".
+ */
+public class SyncDto {
+    private long version;
+    private Changes<SessionSyncDto> sessions = new Changes<>();
+    private Changes<AvailabilitySyncDto> availabilities = new Changes<>();
+    private Changes<ReviewDto> reviews = new Changes<>();
+
+    public SyncDto() {}
+
+    public SyncDto(long version) {
+        this.version = version;
+    }
+
+    public boolean isEmpty() {
+        return sessions.isEmpty() && availabilities.isEmpty() && reviews.isEmpty();
+    }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+    public Changes<SessionSyncDto> getSessions() { return sessions; }
+    public void setSessions(Changes<SessionSyncDto> sessions) { this.sessions = sessions; }
+    public Changes<AvailabilitySyncDto> getAvailabilities() { return availabilities; }
+    public void setAvailabilities(Changes<AvailabilitySyncDto> availabilities) { this.availabilities = availabilities; }
+    public Changes<ReviewDto> getReviews() { return reviews; }
+    public void setReviews(Changes<ReviewDto> reviews) { this.reviews = reviews; }
+
+    /**
+     * Registros inseridos ou alterados, com o estado atual, e ids removidos
+     */
+    public static class Changes<T> {
+        private List<T> upserted = new ArrayList<>();
+        private List<Long> deleted = new ArrayList<>();
+
+        public boolean isEmpty() {
+            return upserted.isEmpty() && deleted.isEmpty();
+        }
+
+        public List<T> getUpserted() { return upserted; }
+        public void setUpserted(List<T> upserted) { this.upserted = upserted; }
+        public List<Long> getDeleted() { return deleted; }
+        public void setDeleted(List<Long> deleted) { this.deleted = deleted; }
+    }
+}
@@ -0,0 +1,31 @@
+package com.devloop.dto;
+
+import java.time.LocalDateTime;
+
+public class UpcomingSessionDto {
+    private Long id;
+    private LocalDateTime scheduledTime;
+    private LocalDateTime endTime;
+    private String status;
+    private Long mentorId;
+    private String mentorName;
+    private Long menteeId;
+    private String menteeName;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public LocalDateTime getScheduledTime() { return scheduledTime; }
+    public void setScheduledTime(LocalDateTime scheduledTime) { this.scheduledTime = scheduledTime; }
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Long getMentorId() { return mentorId; }
+    public void setMentorId(Long mentorId) { this.mentorId = mentorId; }
+    public String getMentorName() { return mentorName; }
+    public void setMentorName(String mentorName) { this.mentorName = mentorName; }
+    public Long getMenteeId() { return menteeId; }
+    public void setMenteeId(Long menteeId) { this.menteeId = menteeId; }
+    public String getMenteeName() { return menteeName; }
+    public void setMenteeName(String menteeName) { this.menteeName = menteeName; }
+}
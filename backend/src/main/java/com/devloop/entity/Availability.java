@@ -1,12 +1,17 @@
 package com.devloop.entity;
 
+import org.hibernate.annotations.BatchSize;
+
 import javax.persistence.*;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "availabilities")
+@Table(name = "availabilities", indexes = {
+    @Index(name = "idx_availabilities_end_time", columnList = "end_time"),
+    @Index(name = "idx_availabilities_mentor_end_time", columnList = "mentor_id, end_time")
+})
 public class Availability {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,10 +28,14 @@ public class Availability {
     private DayOfWeek dayOfWeek;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "availability_time_slots", joinColumns = @JoinColumn(name = "availability_id"))
     @Column(name = "time_slot")
     private List<String> timeSlots;
 
+    @Version
+    private Long version;
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -40,4 +49,6 @@ public class Availability {
     public void setDayOfWeek(DayOfWeek dayOfWeek) { this.dayOfWeek = dayOfWeek; }
     public List<String> getTimeSlots() { return timeSlots; }
     public void setTimeSlots(List<String> timeSlots) { this.timeSlots = timeSlots; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
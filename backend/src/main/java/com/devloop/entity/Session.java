@@ -4,9 +4,14 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sessions")
+@Table(name = "sessions", indexes = {
+    @Index(name = "idx_sessions_status_scheduled_time", columnList = "status, scheduled_time")
+})
 public class Session {
 
+    // Sessões não têm duração própria; o frontend sempre assumiu 1 hora
+    public static final int DEFAULT_DURATION_MINUTES = 60;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -22,8 +27,23 @@ public class Session {
     @Column(name = "scheduled_time", nullable = false)
     private LocalDateTime scheduledTime;
 
-    @Column(name = "status", nullable = false)
-    private String status; // e.g., pending, confirmed, done
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private SessionStatus status;
+
+    // Janela da disponibilidade consumida no agendamento, devolvida em caso de cancelamento
+    @Column(name = "slot_start")
+    private LocalDateTime slotStart;
+
+    @Column(name = "slot_end")
+    private LocalDateTime slotEnd;
+
+    @Version
+    private Long version;
+
+    // Gravado apenas pelo agendador de lembretes (e limpo no reagendamento), nunca pelo JPA
+    @Column(name = "reminder_sent_at", insertable = false, updatable = false)
+    private LocalDateTime reminderSentAt;
 
     // Getters and Setters
 
@@ -59,11 +79,43 @@ public class Session {
         this.scheduledTime = scheduledTime;
     }
 
-    public String getStatus() {
+    public SessionStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(SessionStatus status) {
         this.status = status;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getSlotStart() {
+        return slotStart;
+    }
+
+    public void setSlotStart(LocalDateTime slotStart) {
+        this.slotStart = slotStart;
+    }
+
+    public LocalDateTime getSlotEnd() {
+        return slotEnd;
+    }
+
+    public void setSlotEnd(LocalDateTime slotEnd) {
+        this.slotEnd = slotEnd;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getReminderSentAt() {
+        return reminderSentAt;
+    }
+
+    public void setReminderSentAt(LocalDateTime reminderSentAt) {
+        this.reminderSentAt = reminderSentAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.devloop.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Locale;
+
+/**
+ * Ciclo de vida de uma sessão de mentoria.
+ * PENDING -> CONFIRMED -> COMPLETED, com cancelamento permitido enquanto a sessão não terminou.
+ * Sessões que passam do horário ainda pendentes são marcadas como EXPIRED pela rotina de limpeza.
+ */
+public enum SessionStatus {
+    PENDING,
+    CONFIRMED,
+    CANCELLED,
+    COMPLETED,
+    EXPIRED;
+
+    public boolean canTransitionTo(SessionStatus target) {
+        switch (this) {
+            case PENDING:
+                return target == CONFIRMED || target == CANCELLED || target == EXPIRED;
+            case CONFIRMED:
+                return target == COMPLETED || target == CANCELLED;
+            default:
+                return false;
+        }
+    }
+
+    public boolean isTerminal() {
+        return this == CANCELLED || this == COMPLETED || this == EXPIRED;
+    }
+
+    /**
+     * Aceita também os valores legados em texto livre ("pending", "done", ...)
+     */
+    @JsonCreator
+    public static SessionStatus fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        if (normalized.equals("DONE")) {
+            return COMPLETED;
+        }
+        if (normalized.equals("CANCELED")) {
+            return CANCELLED;
+        }
+        return SessionStatus.valueOf(normalized);
+    }
+}
@@ -0,0 +1,67 @@
+package com.devloop.entity;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+/**
+ * Skill canônica do dicionário. Usuários apontam para o id em user_skill;
+ * grafias alternativas ficam em skill_aliases.
+ */
+@Entity
+@Table(name = "skills")
+public class Skill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // Chave de busca: sem espaços nas pontas, espaços internos colapsados e minúsculas
+    @Column(name = "normalized_name", nullable = false, unique = true, length = 100)
+    private String normalizedName;
+
+    // Getters and Setters
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public void setNormalizedName(String normalizedName) {
+        this.normalizedName = normalizedName;
+    }
+
+    // Igualdade pela chave natural: o Set de skills do usuário é comparado elemento a elemento
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Skill)) {
+            return false;
+        }
+        return Objects.equals(normalizedName, ((Skill) o).getNormalizedName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(normalizedName);
+    }
+}
@@ -1,12 +1,22 @@
 package com.devloop.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.BatchSize;
+
 import javax.persistence.*;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "users")
 public class User {
 
+    // Marcador de senha inutilizável (não é um hash BCrypt): o usuário precisa redefinir a senha
+    public static final String PASSWORD_RESET_REQUIRED = "!reset-required";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -16,6 +26,8 @@ public class User {
     @Column(unique = true)
     private String email;
 
+    // Aceito na criação, nunca serializado de volta
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password_hash;
 
     @Enumerated(EnumType.STRING)
@@ -29,14 +41,33 @@ public class User {
     @Column(columnDefinition = "TEXT")
     private String experience;
     
-    @ElementCollection
-    @CollectionTable(name = "user_skills", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "skill")
-    private List<String> skills;
+    // Sem open-in-view, as skills são inicializadas nos serviços; o lote evita uma consulta por usuário
+    // Set sobre o dicionário de skills: alterações viram INSERT/DELETE só das linhas que mudaram
+    @ManyToMany
+    @BatchSize(size = 50)
+    @JoinTable(name = "user_skill",
+               joinColumns = @JoinColumn(name = "user_id"),
+               inverseJoinColumns = @JoinColumn(name = "skill_id"))
+    @OrderBy("name")
+    private Set<Skill> skills = new LinkedHashSet<>();
+
+    // Nomes recebidos no corpo da requisição; o serviço os resolve pelo SkillDictionary
+    @Transient
+    private List<String> requestedSkills;
     
     @Column(columnDefinition = "TEXT")
     private String profileImage;
 
+    @Version
+    private Long version;
+
+    // Agregados mantidos pelo RatingAggregateListener; nunca escritos pelo JPA
+    @Column(name = "rating_average", insertable = false, updatable = false)
+    private Double ratingAverage;
+
+    @Column(name = "rating_count", insertable = false, updatable = false)
+    private Integer ratingCount;
+
     public enum Role {
         MENTOR,
         MENTEE
@@ -76,6 +107,11 @@ public class User {
         this.password_hash = password_hash;
     }
 
+    @JsonIgnore
+    public boolean isPasswordResetRequired() {
+        return PASSWORD_RESET_REQUIRED.equals(password_hash);
+    }
+
     public Role getRole() {
         return role;
     }
@@ -108,12 +144,24 @@ public class User {
         this.experience = experience;
     }
     
+    // Nomes canônicos, que é o que a API expõe
     public List<String> getSkills() {
-        return skills;
+        return skills.stream().map(Skill::getName).collect(Collectors.toList());
     }
-    
+
     public void setSkills(List<String> skills) {
-        this.skills = skills;
+        this.requestedSkills = skills;
+    }
+
+    @JsonIgnore
+    public List<String> getRequestedSkills() {
+        return requestedSkills;
+    }
+
+    // Alterar o conjunto no lugar, não substituí-lo, para manter a atualização por diferença
+    @JsonIgnore
+    public Set<Skill> getSkillSet() {
+        return skills;
     }
     
     public String getProfileImage() {
@@ -123,4 +171,28 @@ public class User {
     public void setProfileImage(String profileImage) {
         this.profileImage = profileImage;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Double getRatingAverage() {
+        return ratingAverage;
+    }
+
+    public void setRatingAverage(Double ratingAverage) {
+        this.ratingAverage = ratingAverage;
+    }
+
+    public Integer getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(Integer ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+}
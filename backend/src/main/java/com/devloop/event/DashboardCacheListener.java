@@ -0,0 +1,25 @@
+package com.devloop.event;
+
+import com.devloop.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sessões, reviews e mudanças de agenda alteram os contadores do dashboard dos envolvidos.
+ */
+@Component
+public class DashboardCacheListener implements DomainEventListener {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type.isSessionEvent() || type.isReviewEvent() || type == DomainEventType.AVAILABILITY_CHANGED;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        event.getUserIds().forEach(dashboardService::evict);
+    }
+}
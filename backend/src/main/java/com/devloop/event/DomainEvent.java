@@ -0,0 +1,64 @@
+package com.devloop.event;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Evento já persistido no outbox. Os atributos são os mesmos gravados no payload JSON,
+ * então o relay reconstrói exatamente o evento publicado após o commit.
+ */
+public class DomainEvent {
+
+    public static final String USER_IDS = "userIds";
+
+    private final Long id;
+    private final DomainEventType type;
+    private final Long aggregateId;
+    private final Map<String, Object> attributes;
+    private final int attempts;
+    private final LocalDateTime occurredAt;
+
+    public DomainEvent(Long id, DomainEventType type, Long aggregateId, Map<String, Object> attributes,
+                       int attempts, LocalDateTime occurredAt) {
+        this.id = id;
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.attempts = attempts;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() { return id; }
+    public DomainEventType getType() { return type; }
+    public Long getAggregateId() { return aggregateId; }
+    public Map<String, Object> getAttributes() { return attributes; }
+    public int getAttempts() { return attempts; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    public Long getLong(String name) {
+        Object value = attributes.get(name);
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    public String getString(String name) {
+        Object value = attributes.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    // Usuários afetados pelo evento (após o JSON, os ids podem voltar como Integer)
+    public List<Long> getUserIds() {
+        Object value = attributes.get(USER_IDS);
+        if (!(value instanceof Collection)) {
+            return List.of();
+        }
+        return ((Collection<?>) value).stream()
+            .filter(Number.class::isInstance)
+            .map(id -> ((Number) id).longValue())
+            .distinct()
+            .collect(Collectors.toList());
+    }
+}
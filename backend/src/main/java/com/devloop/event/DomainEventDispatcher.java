@@ -0,0 +1,108 @@
+package com.devloop.event;
+
+import com.devloop.config.DataSourceRouting;
+import com.devloop.entity.OutboxEvent;
+import com.devloop.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Entrega os eventos aos listeners no pool assíncrono assim que a transação é confirmada.
+ * Falhas são reagendadas com backoff exponencial; esgotadas as tentativas, o evento vai para DEAD.
+ */
+@Component
+public class DomainEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventDispatcher.class);
+
+    @Autowired
+    private List<DomainEventListener> listeners;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    @Qualifier("domainEventExecutor")
+    private Executor domainEventExecutor;
+
+    @Value("${devloop.events.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${devloop.events.backoff-seconds:5}")
+    private long backoffSeconds;
+
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter deadLettered;
+
+    public DomainEventDispatcher(MeterRegistry meterRegistry) {
+        this.delivered = meterRegistry.counter("devloop.events.delivered");
+        this.failed = meterRegistry.counter("devloop.events.failed");
+        this.deadLettered = meterRegistry.counter("devloop.events.dead");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommitted(DomainEvent event) {
+        try {
+            domainEventExecutor.execute(() -> dispatch(event));
+        } catch (RejectedExecutionException e) {
+            // Pool saturado: o evento continua PENDING no outbox e será entregue pelo relay
+            log.warn("Fila de eventos cheia; {} #{} fica para o relay", event.getType(), event.getId());
+        }
+    }
+
+    /**
+     * Executa os listeners do evento e registra o resultado no outbox.
+     */
+    public boolean dispatch(DomainEvent event) {
+        // Os listeners reagem a uma escrita recém-confirmada; ler de uma réplica atrasada daria dados velhos
+        return DataSourceRouting.onPrimary(() -> deliver(event));
+    }
+
+    private boolean deliver(DomainEvent event) {
+        for (DomainEventListener listener : listeners) {
+            if (!listener.supports(event.getType())) {
+                continue;
+            }
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                fail(event, listener, e);
+                return false;
+            }
+        }
+        outboxEventRepository.markPublished(event.getId(), OutboxEvent.Status.PUBLISHED, LocalDateTime.now());
+        delivered.increment();
+        return true;
+    }
+
+    private void fail(DomainEvent event, DomainEventListener listener, RuntimeException e) {
+        int attempts = event.getAttempts() + 1;
+        String error = listener.getClass().getSimpleName() + ": " + e.getMessage();
+        if (attempts >= maxAttempts) {
+            outboxEventRepository.markFailed(event.getId(), OutboxEvent.Status.DEAD, attempts, LocalDateTime.now(), error);
+            deadLettered.increment();
+            log.error("Evento {} #{} descartado após {} tentativas", event.getType(), event.getId(), attempts, e);
+            return;
+        }
+        long delay = backoffSeconds << Math.min(attempts - 1, 10);
+        outboxEventRepository.markFailed(event.getId(), OutboxEvent.Status.PENDING, attempts,
+            LocalDateTime.now().plusSeconds(delay), error);
+        failed.increment();
+        log.warn("Falha ao entregar {} #{} (tentativa {}); nova tentativa em {}s",
+            event.getType(), event.getId(), attempts, delay, e);
+    }
+}
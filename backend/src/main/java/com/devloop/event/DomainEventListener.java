@@ -0,0 +1,13 @@
+package com.devloop.event;
+
+/**
+ * Efeito colateral executado fora da requisição, após o commit.
+ * A entrega é "pelo menos uma vez": uma falha reexecuta todos os listeners do evento,
+ * então cada implementação deve ser idempotente.
+ */
+public interface DomainEventListener {
+
+    boolean supports(DomainEventType type);
+
+    void onEvent(DomainEvent event);
+}
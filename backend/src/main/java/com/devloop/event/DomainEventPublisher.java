@@ -0,0 +1,57 @@
+package com.devloop.event;
+
+import com.devloop.entity.OutboxEvent;
+import com.devloop.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Grava o evento no outbox e o anuncia para os listeners.
+ * Deve ser chamado dentro da transação da escrita: o evento só é entregue se ela for confirmada.
+ * Sem transação ativa a chamada falha, em vez de gravar o outbox fora da escrita.
+ */
+@Component
+public class DomainEventPublisher {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // O relay só reenvia depois deste prazo, para não competir com a entrega imediata pós-commit
+    @Value("${devloop.events.relay-grace-seconds:60}")
+    private long relayGraceSeconds;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEventType type, Long aggregateId, Map<String, Object> attributes) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent row = new OutboxEvent();
+        row.setEventType(type.name());
+        row.setAggregateId(aggregateId);
+        try {
+            row.setPayload(objectMapper.writeValueAsString(attributes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o evento " + type, e);
+        }
+        row.setStatus(OutboxEvent.Status.PENDING);
+        row.setAttempts(0);
+        row.setCreatedAt(now);
+        row.setNextAttemptAt(now.plusSeconds(relayGraceSeconds));
+        outboxEventRepository.save(row);
+
+        applicationEventPublisher.publishEvent(new DomainEvent(row.getId(), type, aggregateId, attributes, 0, now));
+    }
+}
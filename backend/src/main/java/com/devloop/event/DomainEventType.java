@@ -0,0 +1,23 @@
+package com.devloop.event;
+
+public enum DomainEventType {
+    SESSION_BOOKED,
+    SESSION_UPDATED,
+    SESSION_STATUS_CHANGED,
+    SESSION_DELETED,
+    AVAILABILITY_CHANGED,
+    REVIEW_CREATED,
+    REVIEW_UPDATED,
+    REVIEW_DELETED,
+    USER_REGISTERED,
+    PROFILE_UPDATED,
+    USER_DELETED;
+
+    public boolean isSessionEvent() {
+        return name().startsWith("SESSION_");
+    }
+
+    public boolean isReviewEvent() {
+        return name().startsWith("REVIEW_");
+    }
+}
@@ -0,0 +1,26 @@
+package com.devloop.event;
+
+import com.devloop.service.FreeBusyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mudanças de agenda e de sessões invalidam as semanas em cache dos usuários envolvidos.
+ */
+@Component
+public class FreeBusyCacheListener implements DomainEventListener {
+
+    @Autowired
+    private FreeBusyService freeBusyService;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type.isSessionEvent() || type == DomainEventType.AVAILABILITY_CHANGED || type == DomainEventType.USER_DELETED;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        event.getUserIds().forEach(freeBusyService::evict);
+        freeBusyService.evict(event.getLong("userId"));
+    }
+}
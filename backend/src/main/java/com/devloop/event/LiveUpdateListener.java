@@ -0,0 +1,183 @@
+package com.devloop.event;
+
+import com.devloop.config.DataSourceRouting;
+import com.devloop.dto.AvailabilityChangeDto;
+import com.devloop.dto.SessionChangeDto;
+import com.devloop.entity.User;
+import com.devloop.repository.AvailabilityRepository;
+import com.devloop.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Empurra mudanças de agenda e de sessões pelo broker STOMP, depois do commit (via outbox).
+ *
+ * Os eventos de um mesmo mentor são acumulados por uma janela curta e enviados juntos:
+ * a agenda atual vai para /topic/mentor/{id}/availability e as sessões alteradas para
+ * /user/queue/sessions de cada participante. O envio é best-effort e não é repetido;
+ * clientes que perderem mensagens se recuperam pelo /api/sync.
+ */
+@Component
+public class LiveUpdateListener implements DomainEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateListener.class);
+
+    public static final String SESSIONS_DESTINATION = "/queue/sessions";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${devloop.live.coalesce-window-ms:250}")
+    private long coalesceWindowMs;
+
+    @Value("${devloop.live.horizon-days:28}")
+    private long horizonDays;
+
+    private final Map<Long, PendingPush> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-update-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter events;
+    private final Counter pushes;
+
+    public LiveUpdateListener(MeterRegistry meterRegistry) {
+        this.events = meterRegistry.counter("devloop.live.events");
+        this.pushes = meterRegistry.counter("devloop.live.pushes");
+    }
+
+    public static String availabilityTopic(Long mentorId) {
+        return "/topic/mentor/" + mentorId + "/availability";
+    }
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type.isSessionEvent() || type == DomainEventType.AVAILABILITY_CHANGED;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        Long mentorId = event.getLong("mentorId");
+        if (mentorId == null) {
+            return;
+        }
+        events.increment();
+        // O primeiro evento da janela agenda o envio; os seguintes só se somam a ele
+        pending.compute(mentorId, (id, push) -> {
+            if (push == null) {
+                push = new PendingPush();
+                flusher.schedule(() -> flush(id), coalesceWindowMs, TimeUnit.MILLISECONDS);
+            }
+            push.add(event);
+            return push;
+        });
+    }
+
+    private void flush(Long mentorId) {
+        PendingPush push = pending.remove(mentorId);
+        if (push == null) {
+            return;
+        }
+        try {
+            // Leitura logo após o commit: uma réplica atrasada ainda mostraria o horário reservado
+            DataSourceRouting.onPrimary(() -> {
+                send(mentorId, push);
+                return null;
+            });
+            pushes.increment();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao enviar atualização ao vivo do mentor {}", mentorId, e);
+        }
+    }
+
+    private void send(Long mentorId, PendingPush push) {
+        if (push.availabilityChanged) {
+            LocalDateTime now = LocalDateTime.now();
+            List<AvailabilityChangeDto.Window> windows = availabilityRepository
+                .findIntervalsByMentorBetween(mentorId, now, now.plusDays(horizonDays)).stream()
+                .map(interval -> new AvailabilityChangeDto.Window(interval.getId(), interval.getStart(), interval.getEndTime()))
+                .collect(Collectors.toList());
+            messagingTemplate.convertAndSend(availabilityTopic(mentorId),
+                new AvailabilityChangeDto(mentorId, new ArrayList<>(push.reasons), windows, now));
+        }
+        if (push.sessions.isEmpty()) {
+            return;
+        }
+        Set<Long> userIds = push.sessions.values().stream()
+            .flatMap(change -> change.userIds.stream())
+            .collect(Collectors.toSet());
+        for (User user : userRepository.findAllById(userIds)) {
+            List<SessionChangeDto> changes = push.sessions.values().stream()
+                .filter(change -> change.userIds.contains(user.getId()))
+                .map(change -> change.dto)
+                .collect(Collectors.toList());
+            messagingTemplate.convertAndSendToUser(user.getEmail(), SESSIONS_DESTINATION, changes);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    private static final class PendingPush {
+        final Set<String> reasons = new LinkedHashSet<>();
+        // Por sessão, só a última alteração da janela
+        final Map<Long, SessionChange> sessions = new LinkedHashMap<>();
+        boolean availabilityChanged;
+
+        // Chamado dentro do compute do mapa: uma thread por vez para o mesmo mentor
+        void add(DomainEvent event) {
+            DomainEventType type = event.getType();
+            reasons.add(type.name());
+            // Reservas consomem a janela; cancelamentos e exclusões podem devolvê-la
+            if (type != DomainEventType.SESSION_UPDATED) {
+                availabilityChanged = true;
+            }
+            if (type.isSessionEvent()) {
+                sessions.put(event.getAggregateId(), new SessionChange(
+                    new SessionChangeDto(event.getAggregateId(), event.getLong("mentorId"), type.name(), event.getString("status")),
+                    event.getUserIds()));
+            }
+        }
+    }
+
+    private static final class SessionChange {
+        final SessionChangeDto dto;
+        final List<Long> userIds;
+
+        SessionChange(SessionChangeDto dto, List<Long> userIds) {
+            this.dto = dto;
+            this.userIds = userIds;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.devloop.event;
+
+import com.devloop.search.MentorRecommendationEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcula o vetor de features do mentor afetado: reviews mudam a nota, sessões mudam
+ * o histórico e a agenda livre, e alterações de perfil mudam as skills.
+ */
+@Component
+public class MentorRecommendationListener implements DomainEventListener {
+
+    @Autowired
+    private MentorRecommendationEngine mentorRecommendationEngine;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type.isSessionEvent()
+            || type.isReviewEvent()
+            || type == DomainEventType.AVAILABILITY_CHANGED
+            || type == DomainEventType.PROFILE_UPDATED
+            || type == DomainEventType.USER_REGISTERED
+            || type == DomainEventType.USER_DELETED;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        Long mentorId = event.getLong("mentorId");
+        mentorRecommendationEngine.refresh(mentorId != null ? mentorId : event.getAggregateId());
+    }
+}
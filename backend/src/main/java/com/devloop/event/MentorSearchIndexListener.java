@@ -0,0 +1,28 @@
+package com.devloop.event;
+
+import com.devloop.search.MentorSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantém o índice de autocomplete atualizado a partir das alterações de usuários.
+ * Relê o usuário do banco, então a reentrega e a ordem dos eventos não importam.
+ */
+@Component
+public class MentorSearchIndexListener implements DomainEventListener {
+
+    @Autowired
+    private MentorSearchIndex mentorSearchIndex;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type == DomainEventType.PROFILE_UPDATED
+            || type == DomainEventType.USER_REGISTERED
+            || type == DomainEventType.USER_DELETED;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        mentorSearchIndex.refresh(event.getAggregateId());
+    }
+}
@@ -0,0 +1,61 @@
+package com.devloop.event;
+
+import com.devloop.dto.NotificationDto;
+import com.devloop.entity.User;
+import com.devloop.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Notifica os participantes via STOMP em /user/queue/notifications.
+ * Só chega a quem está conectado com um JWT válido; não há entrega offline.
+ */
+@Component
+public class NotificationListener implements DomainEventListener {
+
+    public static final String DESTINATION = "/queue/notifications";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type == DomainEventType.SESSION_BOOKED
+            || type == DomainEventType.SESSION_STATUS_CHANGED
+            || type == DomainEventType.REVIEW_CREATED;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        List<Long> recipients;
+        String message;
+        Long sessionId;
+        switch (event.getType()) {
+            case SESSION_BOOKED:
+                recipients = List.of(event.getLong("mentorId"));
+                message = "Nova sessão agendada";
+                sessionId = event.getAggregateId();
+                break;
+            case SESSION_STATUS_CHANGED:
+                recipients = event.getUserIds();
+                message = "Sessão " + event.getString("status");
+                sessionId = event.getAggregateId();
+                break;
+            default:
+                recipients = List.of(event.getLong(RatingAggregateListener.MENTOR_ID));
+                message = "Você recebeu uma nova avaliação";
+                sessionId = event.getLong("sessionId");
+                break;
+        }
+        NotificationDto notification = new NotificationDto(event.getType().name(), sessionId, message, event.getOccurredAt());
+        for (User user : userRepository.findAllById(recipients)) {
+            messagingTemplate.convertAndSendToUser(user.getEmail(), DESTINATION, notification);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.devloop.event;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantém a média e o total de avaliações do mentor em users.
+ * Recalcula a partir das reviews em vez de somar deltas, o que torna a reentrega inofensiva.
+ * Roda antes dos demais listeners, que podem ler a média atualizada.
+ */
+@Component
+@Order(0)
+public class RatingAggregateListener implements DomainEventListener {
+
+    public static final String MENTOR_ID = "mentorId";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type.isReviewEvent();
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        Long mentorId = event.getLong(MENTOR_ID);
+        if (mentorId == null) {
+            return;
+        }
+        // A versão muda junto para invalidar os ETags do perfil e da listagem
+        jdbcTemplate.update(
+            "UPDATE users u SET rating_average = agg.average, rating_count = agg.total, " +
+            "version = COALESCE(u.version, 0) + 1 " +
+            "FROM (SELECT AVG(r.rating)::float8 AS average, COUNT(*) AS total FROM reviews r " +
+            "JOIN sessions s ON s.id = r.session_id " +
+            "WHERE s.mentor_id = ? AND r.reviewer_id <> s.mentor_id) agg " +
+            "WHERE u.id = ?",
+            mentorId, mentorId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.devloop.event;
+
+import com.devloop.scheduler.SessionReminderScheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reagenda (ou cancela) o lembrete quando a sessão é criada, alterada ou removida.
+ */
+@Component
+public class SessionReminderListener implements DomainEventListener {
+
+    @Autowired
+    private SessionReminderScheduler sessionReminderScheduler;
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type.isSessionEvent();
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        sessionReminderScheduler.reschedule(event.getAggregateId());
+    }
+}
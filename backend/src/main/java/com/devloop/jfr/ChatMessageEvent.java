@@ -0,0 +1,31 @@
+package com.devloop.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Mensagem de chat: persistência seguida do envio ao tópico da sessão.
+ * A duração do evento cobre as duas etapas; persistDuration isola a gravação.
+ */
+@Name("com.devloop.ChatMessage")
+@Label("Chat Message")
+@Category({ "DevLoop", "Chat" })
+@StackTrace(false)
+public class ChatMessageEvent extends Event {
+
+    @Label("Session Id")
+    public long sessionId;
+
+    @Label("Persist Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long persistDuration;
+
+    @Label("Content Length")
+    @Description("Tamanho do texto da mensagem em caracteres")
+    public int contentLength;
+}
@@ -0,0 +1,175 @@
+package com.devloop.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Principal;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gravação sob demanda do Java Flight Recorder em /actuator/flightrecorder.
+ * POST inicia uma gravação limitada em duração e tamanho, DELETE interrompe e
+ * GET /actuator/flightrecorder/{id} devolve o arquivo .jfr. Uma gravação por vez,
+ * restrita aos e-mails de devloop.ops.admin-emails.
+ */
+@Component
+@WebEndpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+
+    @Value("${devloop.ops.admin-emails:}")
+    private List<String> adminEmails;
+
+    @Value("${devloop.jfr.default-duration-seconds:60}")
+    private int defaultDurationSeconds;
+
+    @Value("${devloop.jfr.max-duration-seconds:300}")
+    private int maxDurationSeconds;
+
+    @Value("${devloop.jfr.max-size-bytes:104857600}")
+    private long maxSizeBytes;
+
+    private Recording recording;
+    private Path file;
+
+    @ReadOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> status(Principal principal) {
+        if (!isOps(principal)) {
+            return new WebEndpointResponse<>(HttpStatus.FORBIDDEN.value());
+        }
+        return new WebEndpointResponse<>(describe());
+    }
+
+    /**
+     * @param durationSeconds duração da gravação, limitada por devloop.jfr.max-duration-seconds
+     * @param settings configuração do JDK: "default" (baixo custo) ou "profile"
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Integer durationSeconds,
+                                                                       @Nullable String settings,
+                                                                       Principal principal) throws IOException {
+        if (!isOps(principal)) {
+            return new WebEndpointResponse<>(HttpStatus.FORBIDDEN.value());
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(Map.of("error", "Já existe uma gravação em andamento"), HttpStatus.CONFLICT.value());
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : "default");
+        } catch (ParseException | IOException e) {
+            return new WebEndpointResponse<>(Map.of("error", "Configuração JFR inválida: " + settings),
+                HttpStatus.BAD_REQUEST.value());
+        }
+        discard();
+
+        int seconds = Math.min(durationSeconds != null ? Math.max(durationSeconds, 1) : defaultDurationSeconds, maxDurationSeconds);
+        file = Files.createTempFile("devloop-", ".jfr");
+        recording = new Recording(configuration);
+        recording.setName("devloop-" + Instant.now());
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(seconds));
+        recording.setMaxSize(maxSizeBytes);
+        // Ao fim da duração o JFR para sozinho e grava o arquivo no destino
+        recording.setDestination(file);
+        recording.start();
+        log.info("Gravação JFR #{} iniciada por {} ({}s, {})", recording.getId(), principal.getName(), seconds,
+            configuration.getName());
+        return new WebEndpointResponse<>(describe());
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop(Principal principal) {
+        if (!isOps(principal)) {
+            return new WebEndpointResponse<>(HttpStatus.FORBIDDEN.value());
+        }
+        if (recording == null) {
+            return new WebEndpointResponse<>(HttpStatus.NOT_FOUND.value());
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return new WebEndpointResponse<>(describe());
+    }
+
+    /**
+     * O arquivo só fica disponível depois que a gravação termina (pela duração ou pelo DELETE).
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector long id, Principal principal) {
+        if (!isOps(principal)) {
+            return new WebEndpointResponse<>(HttpStatus.FORBIDDEN.value());
+        }
+        if (recording == null || recording.getId() != id) {
+            return new WebEndpointResponse<>(HttpStatus.NOT_FOUND.value());
+        }
+        if (recording.getState() != RecordingState.STOPPED || !Files.exists(file)) {
+            return new WebEndpointResponse<>(HttpStatus.CONFLICT.value());
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file));
+    }
+
+    @PreDestroy
+    public synchronized void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Não foi possível remover {}", file, e);
+            }
+            file = null;
+        }
+    }
+
+    private Map<String, Object> describe() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("id", recording.getId());
+        status.put("name", recording.getName());
+        status.put("state", recording.getState().name());
+        status.put("startTime", String.valueOf(recording.getStartTime()));
+        status.put("stopTime", String.valueOf(recording.getStopTime()));
+        status.put("durationSeconds", recording.getDuration() != null ? recording.getDuration().getSeconds() : null);
+        status.put("maxSizeBytes", recording.getMaxSize());
+        if (recording.getState() == RecordingState.STOPPED) {
+            status.put("download", "/actuator/flightrecorder/" + recording.getId());
+        }
+        return status;
+    }
+
+    private boolean isOps(Principal principal) {
+        return principal != null && adminEmails.contains(principal.getName());
+    }
+}
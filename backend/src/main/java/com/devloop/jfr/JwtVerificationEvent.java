@@ -0,0 +1,30 @@
+package com.devloop.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Verificação do JWT de uma requisição, incluindo a carga do usuário.
+ */
+@Name("com.devloop.JwtVerification")
+@Label("JWT Verification")
+@Category({ "DevLoop", "Security" })
+@Description("Extração, carga do usuário e validação do token Bearer")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    public static final String VALID = "VALID";
+    public static final String INVALID = "INVALID";
+    public static final String MALFORMED = "MALFORMED";
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("User Lookup")
+    @Description("Se o usuário precisou ser carregado do banco")
+    public boolean userLookup;
+}
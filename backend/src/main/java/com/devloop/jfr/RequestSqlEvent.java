@@ -0,0 +1,36 @@
+package com.devloop.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Uma requisição HTTP com o total de comandos SQL emitidos pelo Hibernate e o tempo gasto neles.
+ */
+@Name("com.devloop.RequestSql")
+@Label("Request SQL")
+@Category({ "DevLoop", "Database" })
+@Description("Comandos SQL executados durante uma requisição HTTP")
+@StackTrace(false)
+public class RequestSqlEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Statements")
+    public int statements;
+
+    @Label("SQL Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sqlTime;
+}
@@ -0,0 +1,44 @@
+package com.devloop.jfr;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Emite um RequestSqlEvent por requisição. Sem gravação ativa o evento está desabilitado
+ * e o filtro apenas repassa a requisição.
+ */
+@Component
+public class RequestSqlFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestSqlEvent event = new RequestSqlEvent();
+        if (!event.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        event.begin();
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                event.uri = request.getRequestURI();
+                event.status = response.getStatus();
+                event.statements = stats.getStatements();
+                event.sqlTime = stats.getNanos();
+                event.commit();
+            }
+        }
+    }
+}
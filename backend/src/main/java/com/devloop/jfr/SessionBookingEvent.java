@@ -0,0 +1,27 @@
+package com.devloop.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Agendamento de sessão, da validação da janela até o commit.
+ */
+@Name("com.devloop.SessionBooking")
+@Label("Session Booking")
+@Category({ "DevLoop", "Sessions" })
+@Description("Reserva de sessão, incluindo a trava da disponibilidade e o commit")
+public class SessionBookingEvent extends Event {
+
+    @Label("Mentor Id")
+    public long mentorId;
+
+    @Label("Session Id")
+    public long sessionId;
+
+    @Label("Outcome")
+    @Description("BOOKED ou o nome da exceção que interrompeu a reserva")
+    public String outcome;
+}
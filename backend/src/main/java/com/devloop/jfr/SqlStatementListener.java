@@ -0,0 +1,40 @@
+package com.devloop.jfr;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Registrado em cada sessão do Hibernate via hibernate.session.events.auto.
+ * Mede a execução de cada comando (e de cada lote) e soma nos contadores da requisição.
+ */
+public class SqlStatementListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.devloop.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChangeLogMigration implements CommandLineRunner {
+
+    private static final String[] TRACKED_TABLES = { "sessions", "availabilities", "reviews" };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Log somente de inserção: uma linha por escrita, com a transação que a fez e os usuários afetados
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS change_log (" +
+            "version BIGSERIAL PRIMARY KEY, " +
+            "tx_id BIGINT NOT NULL DEFAULT txid_current(), " +
+            "entity VARCHAR(32) NOT NULL, " +
+            "entity_id BIGINT NOT NULL, " +
+            "op CHAR(1) NOT NULL, " +
+            "mentor_id BIGINT, " +
+            "mentee_id BIGINT, " +
+            "changed_at TIMESTAMP NOT NULL DEFAULT now()" +
+            ")"
+        );
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_change_log_tx_id ON change_log (tx_id)");
+        // Tabela só cresce em ordem de tempo: BRIN basta para a limpeza por data
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_change_log_changed_at ON change_log USING BRIN (changed_at)");
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS change_log_state (" +
+            "id INTEGER PRIMARY KEY, " +
+            "pruned_before_tx BIGINT NOT NULL" +
+            ")"
+        );
+        jdbcTemplate.update("INSERT INTO change_log_state (id, pruned_before_tx) VALUES (1, 0) ON CONFLICT (id) DO NOTHING");
+
+        // Avaliações herdam os participantes da sessão; disponibilidades só têm o mentor
+        jdbcTemplate.execute(
+            "CREATE OR REPLACE FUNCTION devloop_log_change() RETURNS trigger AS $$ " +
+            "DECLARE " +
+            "  r RECORD; " +
+            "  mentor BIGINT; " +
+            "  mentee BIGINT; " +
+            "BEGIN " +
+            "  IF TG_OP = 'DELETE' THEN r := OLD; ELSE r := NEW; END IF; " +
+            "  IF TG_TABLE_NAME = 'reviews' THEN " +
+            "    SELECT s.mentor_id, s.mentee_id INTO mentor, mentee FROM sessions s WHERE s.id = r.session_id; " +
+            "  ELSIF TG_TABLE_NAME = 'sessions' THEN " +
+            "    mentor := r.mentor_id; mentee := r.mentee_id; " +
+            "  ELSE " +
+            "    mentor := r.mentor_id; " +
+            "  END IF; " +
+            "  INSERT INTO change_log (entity, entity_id, op, mentor_id, mentee_id) " +
+            "  VALUES (TG_TABLE_NAME, r.id, CASE WHEN TG_OP = 'DELETE' THEN 'D' ELSE 'U' END, mentor, mentee); " +
+            "  RETURN NULL; " +
+            "END $$ LANGUAGE plpgsql"
+        );
+        for (String table : TRACKED_TABLES) {
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_" + table + "_change_log ON " + table);
+            jdbcTemplate.execute(
+                "CREATE TRIGGER trg_" + table + "_change_log AFTER INSERT OR DELETE ON " + table +
+                " FOR EACH ROW EXECUTE PROCEDURE devloop_log_change()");
+            // UPDATE que não altera nada (ex.: save de entidade sem mudança) não gera entrada
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_" + table + "_change_log_update ON " + table);
+            jdbcTemplate.execute(
+                "CREATE TRIGGER trg_" + table + "_change_log_update AFTER UPDATE ON " + table +
+                " FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*) EXECUTE PROCEDURE devloop_log_change()");
+        }
+    }
+}
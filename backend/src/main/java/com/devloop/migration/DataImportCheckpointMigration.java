@@ -0,0 +1,30 @@
+package com.devloop.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DataImportCheckpointMigration implements CommandLineRunner {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Um registro por job de importação: quantas linhas já foram confirmadas, para retomar de onde parou
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS data_import_checkpoints (" +
+            "job_id VARCHAR(64) PRIMARY KEY, " +
+            "table_name VARCHAR(32) NOT NULL, " +
+            "format VARCHAR(8) NOT NULL, " +
+            "rows_committed BIGINT NOT NULL DEFAULT 0, " +
+            "status VARCHAR(16) NOT NULL, " +
+            "error TEXT, " +
+            "started_at TIMESTAMP NOT NULL DEFAULT now(), " +
+            "updated_at TIMESTAMP NOT NULL DEFAULT now()" +
+            ")"
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.devloop.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EntityVersionMigration implements CommandLineRunner {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Linhas criadas antes da coluna de versão começam na versão 0 (usada nos ETags)
+        jdbcTemplate.update("UPDATE users SET version = 0 WHERE version IS NULL");
+        jdbcTemplate.update("UPDATE availabilities SET version = 0 WHERE version IS NULL");
+    }
+}
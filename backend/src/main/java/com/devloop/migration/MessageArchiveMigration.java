@@ -0,0 +1,41 @@
+package com.devloop.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MessageArchiveMigration implements CommandLineRunner {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${devloop.chat.archive.partitions:8}")
+    private int partitions;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Arquivo de mensagens particionado por hash da sessão: a leitura do histórico toca uma única partição
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS messages_archive (" +
+            "id BIGINT NOT NULL, " +
+            "session_id BIGINT NOT NULL, " +
+            "sender_id BIGINT NOT NULL, " +
+            "content TEXT NOT NULL, " +
+            "sent_at TIMESTAMP NOT NULL, " +
+            "archived_at TIMESTAMP NOT NULL DEFAULT now(), " +
+            "PRIMARY KEY (session_id, id)" +
+            ") PARTITION BY HASH (session_id)"
+        );
+        for (int i = 0; i < partitions; i++) {
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS messages_archive_p" + i + " PARTITION OF messages_archive " +
+                "FOR VALUES WITH (MODULUS " + partitions + ", REMAINDER " + i + ")"
+            );
+        }
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS idx_messages_archive_session_sent_at ON messages_archive (session_id, sent_at)");
+    }
+}
@@ -0,0 +1,39 @@
+package com.devloop.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RefreshTokenMigration implements CommandLineRunner {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Só o SHA-256 do refresh token é gravado; a família agrupa as rotações de um mesmo login
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS refresh_tokens (" +
+            "id BIGSERIAL PRIMARY KEY, " +
+            "token_hash CHAR(64) NOT NULL UNIQUE, " +
+            "user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE, " +
+            "family_id UUID NOT NULL, " +
+            "created_at TIMESTAMP NOT NULL DEFAULT now(), " +
+            "expires_at TIMESTAMP NOT NULL, " +
+            "used_at TIMESTAMP, " +
+            "revoked_at TIMESTAMP" +
+            ")"
+        );
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family ON refresh_tokens (family_id) WHERE revoked_at IS NULL");
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user ON refresh_tokens (user_id) WHERE revoked_at IS NULL");
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at)");
+        // Revogações recentes são lidas periodicamente por todas as instâncias
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS idx_refresh_tokens_revoked_at ON refresh_tokens (revoked_at) WHERE revoked_at IS NOT NULL");
+    }
+}
@@ -0,0 +1,41 @@
+package com.devloop.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchIndexMigration implements CommandLineRunner {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${devloop.search.text-config:portuguese}")
+    private String textConfig;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Colunas tsvector geradas pelo banco e indexadas com GIN; a primeira execução reescreve as tabelas
+        addSearchColumn("messages", "content");
+        addSearchColumn("messages_archive", "content");
+        addSearchColumn("reviews", "comment");
+    }
+
+    private void addSearchColumn(String table, String column) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+        if (!Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        String vector = column + "_tsv";
+        jdbcTemplate.execute(
+            "ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS " + vector + " tsvector " +
+            "GENERATED ALWAYS AS (to_tsvector('" + textConfig + "'::regconfig, coalesce(" + column + ", ''))) STORED"
+        );
+        // Em messages_archive o índice do pai é criado em cada partição
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS idx_" + table + "_" + vector + " ON " + table + " USING GIN (" + vector + ")"
+        );
+    }
+}
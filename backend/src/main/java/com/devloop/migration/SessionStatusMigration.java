@@ -0,0 +1,33 @@
+package com.devloop.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SessionStatusMigration implements CommandLineRunner {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // Converte os status legados em texto livre para os valores do enum SessionStatus
+        int completed = jdbcTemplate.update(
+            "UPDATE sessions SET status = 'COMPLETED' WHERE LOWER(status) IN ('done', 'completed')");
+        int cancelled = jdbcTemplate.update(
+            "UPDATE sessions SET status = 'CANCELLED' WHERE LOWER(status) IN ('cancelled', 'canceled')");
+        int normalized = jdbcTemplate.update(
+            "UPDATE sessions SET status = UPPER(status) WHERE status <> UPPER(status)");
+        int unknown = jdbcTemplate.update(
+            "UPDATE sessions SET status = 'PENDING' " +
+            "WHERE status IS NULL OR status NOT IN ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED', 'EXPIRED')");
+        if (completed + cancelled + normalized + unknown > 0) {
+            System.out.println("Status de " + (completed + cancelled + normalized + unknown) + " sessões convertidos para o novo formato");
+        }
+
+        // Linhas anteriores ao controle de versão otimista começam na versão 0
+        jdbcTemplate.update("UPDATE sessions SET version = 0 WHERE version IS NULL");
+    }
+}
@@ -0,0 +1,114 @@
+package com.devloop.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SkillDictionaryMigration implements CommandLineRunner {
+
+    // Mesma normalização de SkillDictionary.normalize
+    private static final String NORMALIZED = "lower(regexp_replace(trim(skill), '\\s+', ' ', 'g'))";
+
+    // Grafias alternativas comuns -> nome canônico
+    private static final String[][] ALIASES = {
+        { "js", "JavaScript" },
+        { "ts", "TypeScript" },
+        { "reactjs", "React" },
+        { "react.js", "React" },
+        { "node", "Node.js" },
+        { "nodejs", "Node.js" },
+        { "golang", "Go" },
+        { "k8s", "Kubernetes" },
+        { "postgres", "PostgreSQL" },
+        { "py", "Python" },
+        { "springboot", "Spring Boot" },
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS skills (" +
+            "id SERIAL PRIMARY KEY, " +
+            "name VARCHAR(100) NOT NULL, " +
+            "normalized_name VARCHAR(100) NOT NULL UNIQUE" +
+            ")"
+        );
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS skill_aliases (" +
+            "alias VARCHAR(100) PRIMARY KEY, " +
+            "skill_id INTEGER NOT NULL REFERENCES skills(id) ON DELETE CASCADE" +
+            ")"
+        );
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS user_skill (" +
+            "user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE, " +
+            "skill_id INTEGER NOT NULL REFERENCES skills(id), " +
+            "PRIMARY KEY (user_id, skill_id)" +
+            ")"
+        );
+        // O ddl-auto=update cria user_skill antes desta migração, com FKs sem cascade: o CREATE acima não
+        // tem efeito, então a FK para users é trocada explicitamente
+        jdbcTemplate.execute(
+            "DO $$ DECLARE fk RECORD; BEGIN " +
+            "FOR fk IN SELECT conname FROM pg_constraint WHERE conrelid = 'user_skill'::regclass " +
+            "AND confrelid = 'users'::regclass AND contype = 'f' AND confdeltype <> 'c' LOOP " +
+            "EXECUTE format('ALTER TABLE user_skill DROP CONSTRAINT %I', fk.conname); " +
+            "END LOOP; " +
+            "IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'user_skill'::regclass " +
+            "AND confrelid = 'users'::regclass AND contype = 'f') THEN " +
+            "ALTER TABLE user_skill ADD CONSTRAINT fk_user_skill_user " +
+            "FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE; " +
+            "END IF; END $$"
+        );
+        // Filtros por skill partem do id da skill
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_user_skill_skill ON user_skill (skill_id, user_id)");
+
+        for (String[] alias : ALIASES) {
+            jdbcTemplate.update(
+                "INSERT INTO skills (name, normalized_name) VALUES (?, lower(?)) ON CONFLICT (normalized_name) DO NOTHING",
+                alias[1], alias[1]);
+            jdbcTemplate.update(
+                "INSERT INTO skill_aliases (alias, skill_id) SELECT ?, id FROM skills WHERE normalized_name = lower(?) " +
+                "ON CONFLICT (alias) DO NOTHING",
+                alias[0], alias[1]);
+        }
+
+        Boolean legacy = jdbcTemplate.queryForObject("SELECT to_regclass('user_skills') IS NOT NULL", Boolean.class);
+        if (Boolean.TRUE.equals(legacy)) {
+            migrateLegacySkills();
+        }
+    }
+
+    /**
+     * Copia as strings de user_skills para o dicionário e para user_skill. Cada passo é idempotente,
+     * então uma interrupção é retomada na próxima inicialização; a tabela antiga é renomeada ao final.
+     */
+    private void migrateLegacySkills() {
+        int skills = jdbcTemplate.update(
+            "INSERT INTO skills (name, normalized_name) " +
+            "SELECT DISTINCT ON (k) n, k FROM (" +
+            "  SELECT left(regexp_replace(trim(skill), '\\s+', ' ', 'g'), 100) AS n, left(" + NORMALIZED + ", 100) AS k " +
+            "  FROM user_skills) s " +
+            "WHERE k <> '' AND NOT EXISTS (SELECT 1 FROM skill_aliases a WHERE a.alias = s.k) " +
+            "ORDER BY k, n " +
+            "ON CONFLICT (normalized_name) DO NOTHING"
+        );
+        int links = jdbcTemplate.update(
+            "INSERT INTO user_skill (user_id, skill_id) " +
+            "SELECT DISTINCT l.user_id, COALESCE(a.skill_id, s.id) FROM (" +
+            "  SELECT user_id, left(" + NORMALIZED + ", 100) AS k FROM user_skills) l " +
+            "LEFT JOIN skill_aliases a ON a.alias = l.k " +
+            "LEFT JOIN skills s ON s.normalized_name = l.k " +
+            "WHERE COALESCE(a.skill_id, s.id) IS NOT NULL " +
+            "ON CONFLICT DO NOTHING"
+        );
+        // Mantida por uma versão para conferência; pode ser removida depois
+        jdbcTemplate.execute("ALTER TABLE user_skills RENAME TO user_skills_legacy");
+        System.out.println("Skills migradas de 'user_skills': " + skills + " skills, " + links + " vínculos");
+    }
+}
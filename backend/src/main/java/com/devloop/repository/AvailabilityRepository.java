@@ -2,10 +2,81 @@ package com.devloop.repository;
 
 import com.devloop.entity.Availability;
 import com.devloop.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AvailabilityRepository extends JpaRepository<Availability, Long> {
     List<Availability> findByMentor(User mentor);
+
+    // Listagens serializadas: mentor e horários na mesma consulta
+    @EntityGraph(attributePaths = {"mentor", "timeSlots"})
+    List<Availability> findWithSlotsByMentorId(Long mentorId);
+
+    @EntityGraph(attributePaths = {"mentor", "timeSlots"})
+    @Query("SELECT a FROM Availability a")
+    List<Availability> findAllWithSlots();
+
+    @EntityGraph(attributePaths = {"mentor", "timeSlots"})
+    List<Availability> findWithSlotsByIdIn(Collection<Long> ids);
+
+    /**
+     * Janelas do mentor que cobrem o horário, travadas até o fim da transação da reserva
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Availability a WHERE a.mentor.id = :mentorId " +
+           "AND a.start <= :time AND a.endTime >= :time ORDER BY a.start")
+    List<Availability> findCoveringForUpdate(@Param("mentorId") Long mentorId, @Param("time") LocalDateTime time);
+
+    interface Interval {
+        Long getId();
+        LocalDateTime getStart();
+        LocalDateTime getEndTime();
+    }
+
+    @Query("SELECT a.id AS id, a.start AS start, a.endTime AS endTime FROM Availability a " +
+           "WHERE a.mentor.id = :mentorId AND a.endTime > :from")
+    List<Interval> findIntervalsByMentor(@Param("mentorId") Long mentorId, @Param("from") LocalDateTime from);
+
+    @Query("SELECT a.id FROM Availability a WHERE a.mentor.id = :mentorId AND a.id IN :ids")
+    List<Long> findIdsByMentorAndIdIn(@Param("mentorId") Long mentorId, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id AS id, a.start AS start, a.endTime AS endTime FROM Availability a " +
+           "WHERE a.mentor.id = :mentorId AND a.endTime > :from AND a.start < :to")
+    List<Interval> findIntervalsByMentorBetween(@Param("mentorId") Long mentorId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    interface VersionSummary {
+        Long getTotal();
+        Long getVersionSum();
+        Long getMaxId();
+    }
+
+    @Query("SELECT COUNT(a) AS total, COALESCE(SUM(a.version), 0) AS versionSum, COALESCE(MAX(a.id), 0) AS maxId " +
+           "FROM Availability a WHERE a.mentor.id = :mentorId")
+    VersionSummary summarizeVersionsByMentor(@Param("mentorId") Long mentorId);
+
+    @Query("SELECT COUNT(a) AS total, COALESCE(SUM(a.version), 0) AS versionSum, COALESCE(MAX(a.id), 0) AS maxId " +
+           "FROM Availability a")
+    VersionSummary summarizeVersions();
+
+    interface Coverage {
+        Long getSlots();
+        Long getMinutes();
+    }
+
+    @Query(value = "SELECT COUNT(*) AS slots, " +
+                   "CAST(COALESCE(SUM(EXTRACT(EPOCH FROM (end_time - start)) / 60), 0) AS BIGINT) AS minutes " +
+                   "FROM availabilities WHERE mentor_id = :mentorId AND end_time > :from",
+           nativeQuery = true)
+    Coverage coverageForMentor(@Param("mentorId") Long mentorId, @Param("from") LocalDateTime from);
 }
@@ -0,0 +1,84 @@
+package com.devloop.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Leitura e limpeza do change_log alimentado pelos triggers da ChangeLogMigration.
+ *
+ * A versão de sincronização é o xmin do snapshot: toda transação com id menor já terminou,
+ * então nada abaixo dela pode aparecer depois. Entradas de transações com id maior que ainda
+ * estavam em andamento entram na próxima leitura, que usa tx_id >= versão.
+ */
+@Repository
+public class ChangeLogRepository {
+
+    public static final String SESSIONS = "sessions";
+    public static final String AVAILABILITIES = "availabilities";
+    public static final String REVIEWS = "reviews";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public long currentVersion() {
+        return jdbcTemplate.queryForObject("SELECT txid_snapshot_xmin(txid_current_snapshot())", Long.class);
+    }
+
+    public long prunedBefore() {
+        return jdbcTemplate.queryForObject("SELECT pruned_before_tx FROM change_log_state WHERE id = 1", Long.class);
+    }
+
+    /**
+     * Última operação de cada entidade alterada desde a versão: sessões e avaliações em que o usuário
+     * participa e disponibilidades (públicas), opcionalmente de um único mentor.
+     */
+    public List<Change> findChanges(long since, Long userId, Long mentorId) {
+        return jdbcTemplate.query(
+            "SELECT DISTINCT ON (entity, entity_id) entity, entity_id, op FROM change_log " +
+            "WHERE tx_id >= ? AND (" +
+            "  (entity IN ('" + SESSIONS + "', '" + REVIEWS + "') AND (mentor_id = ? OR mentee_id = ?)) " +
+            "  OR (entity = '" + AVAILABILITIES + "' AND (CAST(? AS BIGINT) IS NULL OR mentor_id = ?))) " +
+            "ORDER BY entity, entity_id, version DESC",
+            (rs, rowNum) -> new Change(rs.getString("entity"), rs.getLong("entity_id"), "D".equals(rs.getString("op"))),
+            since, userId, userId, mentorId, mentorId);
+    }
+
+    /**
+     * Remove um lote de entradas anteriores ao corte e avança a marca de poda; clientes com
+     * versão abaixo dela precisam recarregar tudo.
+     */
+    public int pruneBatch(LocalDateTime cutoff, int batchSize) {
+        return jdbcTemplate.queryForObject(
+            "WITH pruned AS (" +
+            "  DELETE FROM change_log WHERE version IN (" +
+            "    SELECT version FROM change_log WHERE changed_at < ? ORDER BY version LIMIT ?) " +
+            "  RETURNING tx_id), " +
+            "mark AS (" +
+            "  UPDATE change_log_state SET pruned_before_tx = GREATEST(pruned_before_tx, " +
+            "    (SELECT MAX(tx_id) + 1 FROM pruned)) " +
+            "  WHERE id = 1 AND EXISTS (SELECT 1 FROM pruned)) " +
+            "SELECT COUNT(*) FROM pruned",
+            Integer.class, Timestamp.valueOf(cutoff), batchSize);
+    }
+
+    public static final class Change {
+        private final String entity;
+        private final long entityId;
+        private final boolean deleted;
+
+        public Change(String entity, long entityId, boolean deleted) {
+            this.entity = entity;
+            this.entityId = entityId;
+            this.deleted = deleted;
+        }
+
+        public String getEntity() { return entity; }
+        public long getEntityId() { return entityId; }
+        public boolean isDeleted() { return deleted; }
+    }
+}
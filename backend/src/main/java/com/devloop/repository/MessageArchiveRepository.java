@@ -0,0 +1,53 @@
+package com.devloop.repository;
+
+import com.devloop.dto.ChatMessageDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Acesso à tabela messages_archive, particionada por hash de session_id.
+ * Não há entidade JPA: o arquivo é somente de inserção e leitura por sessão.
+ */
+@Repository
+public class MessageArchiveRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public List<ChatMessageDto> findHistoryBySessionId(Long sessionId) {
+        return jdbcTemplate.query(
+            "SELECT a.id, a.session_id, a.sender_id, u.name, a.content, a.sent_at " +
+            "FROM messages_archive a LEFT JOIN users u ON u.id = a.sender_id " +
+            "WHERE a.session_id = ? ORDER BY a.sent_at ASC, a.id ASC",
+            (rs, rowNum) -> new ChatMessageDto(
+                rs.getLong("id"),
+                rs.getLong("session_id"),
+                rs.getLong("sender_id"),
+                rs.getString("name"),
+                rs.getString("content"),
+                rs.getTimestamp("sent_at").toLocalDateTime()),
+            sessionId);
+    }
+
+    /**
+     * Move um lote de mensagens de sessões encerradas antes do corte para o arquivo,
+     * em um único comando (DELETE ... RETURNING alimentando o INSERT).
+     */
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        return jdbcTemplate.update(
+            "WITH moved AS (" +
+            "  DELETE FROM messages WHERE id IN (" +
+            "    SELECT m.id FROM messages m JOIN sessions s ON s.id = m.session_id " +
+            "    WHERE s.status IN ('COMPLETED', 'CANCELLED', 'EXPIRED') AND s.scheduled_time < ? " +
+            "    ORDER BY m.id LIMIT ? FOR UPDATE OF m SKIP LOCKED) " +
+            "  RETURNING id, session_id, sender_id, content, sent_at) " +
+            "INSERT INTO messages_archive (id, session_id, sender_id, content, sent_at, archived_at) " +
+            "SELECT id, session_id, sender_id, content, sent_at, now() FROM moved",
+            Timestamp.valueOf(cutoff), batchSize);
+    }
+}
@@ -1,6 +1,16 @@
 package com.devloop.repository;
 
+import com.devloop.dto.ChatMessageDto;
 import com.devloop.entity.Message;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface MessageRepository extends JpaRepository<Message, Long> {}
+import java.util.List;
+
+public interface MessageRepository extends JpaRepository<Message, Long> {
+
+    @Query("SELECT new com.devloop.dto.ChatMessageDto(m.id, m.session.id, m.sender.id, m.sender.name, m.content, m.sentAt) " +
+           "FROM Message m WHERE m.session.id = :sessionId ORDER BY m.sentAt ASC, m.id ASC")
+    List<ChatMessageDto> findHistoryBySessionId(@Param("sessionId") Long sessionId);
+}
@@ -0,0 +1,10 @@
+package com.devloop.repository;
+
+import com.devloop.entity.Recording;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RecordingRepository extends JpaRepository<Recording, Long> {
+    List<Recording> findBySessionIdOrderByCreatedAtDesc(Long sessionId);
+}
@@ -0,0 +1,96 @@
+package com.devloop.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Acesso à tabela refresh_tokens. Tokens são identificados pelo hash; o valor em claro nunca é gravado.
+ */
+@Repository
+public class RefreshTokenRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insert(String tokenHash, Long userId, UUID familyId, LocalDateTime expiresAt) {
+        jdbcTemplate.update(
+            "INSERT INTO refresh_tokens (token_hash, user_id, family_id, expires_at) VALUES (?, ?, ?, ?)",
+            tokenHash, userId, familyId, Timestamp.valueOf(expiresAt));
+    }
+
+    /**
+     * Marca o token como usado e devolve o dono, em um único comando. Só uma chamada
+     * vence para o mesmo token, mesmo entre instâncias; vazio se usado, revogado ou expirado.
+     */
+    public Optional<Consumed> consume(String tokenHash) {
+        List<Consumed> rows = jdbcTemplate.query(
+            "UPDATE refresh_tokens t SET used_at = now() FROM users u " +
+            "WHERE u.id = t.user_id AND t.token_hash = ? " +
+            "AND t.used_at IS NULL AND t.revoked_at IS NULL AND t.expires_at > now() " +
+            "RETURNING t.user_id, t.family_id, u.email, u.role",
+            (rs, rowNum) -> new Consumed(
+                rs.getLong("user_id"),
+                rs.getObject("family_id", UUID.class),
+                rs.getString("email"),
+                rs.getString("role")),
+            tokenHash);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Família de um token já usado: reapresentá-lo indica que ele vazou.
+     */
+    public Optional<UUID> findFamilyOfUsed(String tokenHash) {
+        return jdbcTemplate.queryForList(
+            "SELECT family_id FROM refresh_tokens WHERE token_hash = ? AND used_at IS NOT NULL",
+            UUID.class, tokenHash).stream().findFirst();
+    }
+
+    public Optional<UUID> findFamily(String tokenHash) {
+        return jdbcTemplate.queryForList(
+            "SELECT family_id FROM refresh_tokens WHERE token_hash = ?", UUID.class, tokenHash).stream().findFirst();
+    }
+
+    public int revokeFamily(UUID familyId) {
+        return jdbcTemplate.update(
+            "UPDATE refresh_tokens SET revoked_at = now() WHERE family_id = ? AND revoked_at IS NULL", familyId);
+    }
+
+    public List<UUID> findFamiliesRevokedSince(LocalDateTime since) {
+        return jdbcTemplate.queryForList(
+            "SELECT DISTINCT family_id FROM refresh_tokens WHERE revoked_at > ?", UUID.class, Timestamp.valueOf(since));
+    }
+
+    public int deleteExpired(LocalDateTime cutoff, int batchSize) {
+        return jdbcTemplate.update(
+            "DELETE FROM refresh_tokens WHERE id IN (" +
+            "SELECT id FROM refresh_tokens WHERE expires_at < ? ORDER BY expires_at LIMIT ?)",
+            Timestamp.valueOf(cutoff), batchSize);
+    }
+
+    public static final class Consumed {
+        private final Long userId;
+        private final UUID familyId;
+        private final String email;
+        private final String role;
+
+        public Consumed(Long userId, UUID familyId, String email, String role) {
+            this.userId = userId;
+            this.familyId = familyId;
+            this.email = email;
+            this.role = role;
+        }
+
+        public Long getUserId() { return userId; }
+        public UUID getFamilyId() { return familyId; }
+        public String getEmail() { return email; }
+        public String getRole() { return role; }
+    }
+}
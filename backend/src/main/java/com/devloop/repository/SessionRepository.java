@@ -1,6 +1,73 @@
 package com.devloop.repository;
 
 import com.devloop.entity.Session;
+import com.devloop.entity.SessionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface SessionRepository extends JpaRepository<Session, Long> {}
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface SessionRepository extends JpaRepository<Session, Long> {
+
+    // Deve ser consumido dentro de uma transação; o fetch size faz o driver usar cursor
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT s FROM Session s JOIN FETCH s.mentor JOIN FETCH s.mentee ORDER BY s.id")
+    Stream<Session> streamAll();
+
+    interface StatusCount {
+        SessionStatus getStatus();
+        Long getTotal();
+    }
+
+    @Query("SELECT s.status AS status, COUNT(s) AS total FROM Session s " +
+           "WHERE s.mentor.id = :userId OR s.mentee.id = :userId GROUP BY s.status")
+    List<StatusCount> countByStatusForUser(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(DISTINCT CASE WHEN mentor_id = :userId THEN mentee_id ELSE mentor_id END) " +
+                   "FROM sessions WHERE mentor_id = :userId OR mentee_id = :userId",
+           nativeQuery = true)
+    long countConnectionsForUser(@Param("userId") Long userId);
+
+    @Query("SELECT s FROM Session s JOIN FETCH s.mentor JOIN FETCH s.mentee " +
+           "WHERE (s.mentor.id = :userId OR s.mentee.id = :userId) " +
+           "AND s.scheduledTime >= :from AND s.status <> com.devloop.entity.SessionStatus.CANCELLED " +
+           "ORDER BY s.scheduledTime ASC")
+    List<Session> findUpcomingForUser(@Param("userId") Long userId, @Param("from") LocalDateTime from, Pageable pageable);
+
+    @Query("SELECT COUNT(s) FROM Session s " +
+           "WHERE (s.mentor.id = :userId OR s.mentee.id = :userId) " +
+           "AND s.status = com.devloop.entity.SessionStatus.COMPLETED " +
+           "AND NOT EXISTS (SELECT r.id FROM Review r WHERE r.session = s AND r.reviewer.id = :userId)")
+    long countPendingReviewsForUser(@Param("userId") Long userId);
+
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Session s " +
+           "WHERE s.id = :sessionId AND (s.mentor.id = :userId OR s.mentee.id = :userId)")
+    boolean isParticipant(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Session s " +
+           "WHERE s.id = :sessionId AND (s.mentor.email = :email OR s.mentee.email = :email)")
+    boolean isParticipantByEmail(@Param("sessionId") Long sessionId, @Param("email") String email);
+
+    // Horários em que o usuário está ocupado, como mentor ou mentee
+    @Query("SELECT s.scheduledTime FROM Session s " +
+           "WHERE (s.mentor.id = :userId OR s.mentee.id = :userId) " +
+           "AND s.scheduledTime >= :from AND s.scheduledTime < :to " +
+           "AND s.status <> com.devloop.entity.SessionStatus.CANCELLED")
+    List<LocalDateTime> findBusyTimesForUser(@Param("userId") Long userId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    // Reagendamento: o lembrete deve ser enviado de novo para o novo horário
+    @Modifying
+    @Query(value = "UPDATE sessions SET reminder_sent_at = NULL WHERE id = :id", nativeQuery = true)
+    int clearReminderSentAt(@Param("id") Long id);
+}
@@ -0,0 +1,6 @@
+package com.devloop.repository;
+
+import com.devloop.entity.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SkillRepository extends JpaRepository<Skill, Integer> {}
@@ -0,0 +1,122 @@
+package com.devloop.repository;
+
+import com.devloop.dto.MessageSearchHitDto;
+import com.devloop.dto.ReviewSearchHitDto;
+import com.devloop.dto.SearchResultDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Busca textual sobre as colunas tsvector geradas pela SearchIndexMigration.
+ *
+ * O filtro usa o índice GIN; ts_rank_cd e COUNT(*) OVER () rodam só sobre as ocorrências,
+ * e ts_headline, que relê o texto, só sobre a página devolvida. O conteúdo é escapado
+ * antes do destaque, então o snippet pode ser exibido como HTML.
+ */
+@Repository
+public class TextSearchRepository {
+
+    private static final String TSQUERY = "websearch_to_tsquery(?::regconfig, ?)";
+
+    private static final String HEADLINE_OPTIONS =
+        "'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2, FragmentDelimiter=\" … \"'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${devloop.search.text-config:portuguese}")
+    private String textConfig;
+
+    /**
+     * Mensagens das sessões em que o usuário é mentor ou mentee, na tabela quente e no arquivo.
+     * O total vem da própria página; uma página além do fim devolve total zero.
+     */
+    public SearchResultDto<MessageSearchHitDto> searchMessages(Long userId, Long sessionId, String query, int page, int size) {
+        String sessionFilter = sessionId != null ? " AND s.id = ?" : "";
+        String hits =
+            "SELECT m.id, m.session_id, m.sender_id, m.content, m.sent_at, " +
+            "ts_rank_cd(m.content_tsv, " + TSQUERY + ") AS rank " +
+            "FROM %s m JOIN sessions s ON s.id = m.session_id " +
+            "WHERE m.content_tsv @@ " + TSQUERY + " AND (s.mentor_id = ? OR s.mentee_id = ?)" + sessionFilter;
+
+        List<Object> args = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            args.add(textConfig); args.add(query);
+            args.add(textConfig); args.add(query);
+            args.add(userId); args.add(userId);
+            if (sessionId != null) {
+                args.add(sessionId);
+            }
+        }
+        args.add(size);
+        args.add((long) page * size);
+        args.add(textConfig);
+        args.add(textConfig);
+        args.add(query);
+
+        AtomicLong total = new AtomicLong();
+        List<MessageSearchHitDto> items = jdbcTemplate.query(
+            "WITH hits AS (" + String.format(hits, "messages") + " UNION ALL " + String.format(hits, "messages_archive") + "), " +
+            "page AS (SELECT h.*, COUNT(*) OVER () AS total FROM hits h " +
+            "  ORDER BY h.rank DESC, h.sent_at DESC, h.id DESC LIMIT ? OFFSET ?) " +
+            "SELECT p.id, p.session_id, p.sender_id, u.name, p.sent_at, p.rank, p.total, " +
+            "ts_headline(?::regconfig, " + escapeHtml("p.content") + ", " + TSQUERY + ", " + HEADLINE_OPTIONS + ") AS snippet " +
+            "FROM page p LEFT JOIN users u ON u.id = p.sender_id " +
+            "ORDER BY p.rank DESC, p.sent_at DESC, p.id DESC",
+            (rs, rowNum) -> {
+                total.set(rs.getLong("total"));
+                return new MessageSearchHitDto(
+                    rs.getLong("id"),
+                    rs.getLong("session_id"),
+                    rs.getLong("sender_id"),
+                    rs.getString("name"),
+                    rs.getString("snippet"),
+                    rs.getTimestamp("sent_at").toLocalDateTime(),
+                    rs.getDouble("rank"));
+            },
+            args.toArray());
+        return new SearchResultDto<>(query, page, size, total.get(), items);
+    }
+
+    /**
+     * Comentários de avaliação das sessões em que o usuário é mentor ou mentee.
+     */
+    public SearchResultDto<ReviewSearchHitDto> searchReviews(Long userId, String query, int page, int size) {
+        AtomicLong total = new AtomicLong();
+        List<ReviewSearchHitDto> items = jdbcTemplate.query(
+            "WITH page AS (" +
+            "  SELECT r.id, r.session_id, r.reviewer_id, r.rating, r.comment, " +
+            "  ts_rank_cd(r.comment_tsv, " + TSQUERY + ") AS rank, COUNT(*) OVER () AS total " +
+            "  FROM reviews r JOIN sessions s ON s.id = r.session_id " +
+            "  WHERE r.comment_tsv @@ " + TSQUERY + " AND (s.mentor_id = ? OR s.mentee_id = ?) " +
+            "  ORDER BY rank DESC, r.id DESC LIMIT ? OFFSET ?) " +
+            "SELECT p.id, p.session_id, p.reviewer_id, u.name, p.rating, p.rank, p.total, " +
+            "ts_headline(?::regconfig, " + escapeHtml("p.comment") + ", " + TSQUERY + ", " + HEADLINE_OPTIONS + ") AS snippet " +
+            "FROM page p LEFT JOIN users u ON u.id = p.reviewer_id " +
+            "ORDER BY p.rank DESC, p.id DESC",
+            (rs, rowNum) -> {
+                total.set(rs.getLong("total"));
+                return new ReviewSearchHitDto(
+                    rs.getLong("id"),
+                    rs.getLong("session_id"),
+                    rs.getLong("reviewer_id"),
+                    rs.getString("name"),
+                    rs.getInt("rating"),
+                    rs.getString("snippet"),
+                    rs.getDouble("rank"));
+            },
+            textConfig, query, textConfig, query, userId, userId, size, (long) page * size,
+            textConfig, textConfig, query);
+        return new SearchResultDto<>(query, page, size, total.get(), items);
+    }
+
+    private static String escapeHtml(String column) {
+        return "replace(replace(replace(coalesce(" + column + ", ''), '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+    }
+}
@@ -1,10 +1,55 @@
 package com.devloop.repository;
 
 import com.devloop.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Só o necessário para identificar o remetente de uma mensagem, sem carregar o perfil
+     */
+    interface Identity {
+        Long getId();
+        String getName();
+    }
+
+    Optional<Identity> findIdentityByEmail(String email);
+
+    // Perfil completo para serialização: as skills vêm na mesma consulta
+    @EntityGraph(attributePaths = "skills")
+    Optional<User> findWithSkillsById(Long id);
+
+    @EntityGraph(attributePaths = "skills")
+    Optional<User> findWithSkillsByEmail(String email);
+
+    // Deve ser consumido dentro de uma transação; o fetch size faz o driver usar cursor
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    Stream<User> streamAll();
+
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Resumo barato do estado da tabela: muda sempre que um usuário é criado, alterado ou removido
+     */
+    interface VersionSummary {
+        Long getTotal();
+        Long getVersionSum();
+        Long getMaxId();
+    }
+
+    @Query("SELECT COUNT(u) AS total, COALESCE(SUM(u.version), 0) AS versionSum, COALESCE(MAX(u.id), 0) AS maxId FROM User u")
+    VersionSummary summarizeVersions();
+}
@@ -0,0 +1,71 @@
+package com.devloop.scheduler;
+
+import com.devloop.repository.ChangeLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Remove do change_log as entradas mais antigas que a retenção. Clientes parados há mais
+ * tempo que isso recebem 410 no /api/sync e recarregam as listas completas.
+ */
+@Component
+public class ChangeLogPruner {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogPruner.class);
+    private static final String LOCK_NAME = "devloop.change-log-pruner";
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobLock jobLock;
+
+    @Value("${devloop.sync.retention-days:7}")
+    private long retentionDays;
+
+    @Value("${devloop.sync.prune-batch-size:5000}")
+    private int batchSize;
+
+    @Value("${devloop.sync.prune-max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    private final Counter entriesPruned;
+
+    public ChangeLogPruner(MeterRegistry meterRegistry) {
+        this.entriesPruned = meterRegistry.counter("devloop.sync.change-log.pruned");
+    }
+
+    @Scheduled(fixedDelayString = "${devloop.sync.prune-fixed-delay-ms:3600000}",
+               initialDelayString = "${devloop.sync.prune-initial-delay-ms:180000}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer pruned = transactionTemplate.execute(status ->
+                jobLock.tryLockForTransaction(LOCK_NAME) ? changeLogRepository.pruneBatch(cutoff, batchSize) : -1);
+            if (pruned == null || pruned < 0) {
+                break;
+            }
+            total += pruned;
+            entriesPruned.increment(pruned);
+            if (pruned < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("{} entradas removidas do change_log", total);
+        }
+    }
+}
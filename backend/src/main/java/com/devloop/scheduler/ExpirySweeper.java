@@ -0,0 +1,140 @@
+package com.devloop.scheduler;
+
+import com.devloop.service.DashboardService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rotina periódica que mantém as tabelas quentes pequenas:
+ * remove disponibilidades já encerradas e expira sessões que ficaram pendentes após o horário.
+ * Trabalha em lotes limitados, cada um em sua própria transação, protegida por um lock entre instâncias.
+ */
+@Component
+public class ExpirySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpirySweeper.class);
+    private static final String LOCK_NAME = "devloop.expiry-sweeper";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobLock jobLock;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Value("${devloop.sweeper.enabled:true}")
+    private boolean enabled;
+
+    @Value("${devloop.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${devloop.sweeper.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${devloop.sweeper.availability-retention-minutes:0}")
+    private long availabilityRetentionMinutes;
+
+    @Value("${devloop.sweeper.pending-session-grace-minutes:60}")
+    private long pendingSessionGraceMinutes;
+
+    private final Counter availabilitiesDeleted;
+    private final Counter sessionsExpired;
+    private final Counter runsSkipped;
+    private final Timer runTimer;
+
+    public ExpirySweeper(MeterRegistry meterRegistry) {
+        this.availabilitiesDeleted = meterRegistry.counter("devloop.sweeper.availabilities.deleted");
+        this.sessionsExpired = meterRegistry.counter("devloop.sweeper.sessions.expired");
+        this.runsSkipped = meterRegistry.counter("devloop.sweeper.runs.skipped");
+        this.runTimer = meterRegistry.timer("devloop.sweeper.run");
+    }
+
+    @Scheduled(fixedDelayString = "${devloop.sweeper.fixed-delay-ms:60000}",
+               initialDelayString = "${devloop.sweeper.initial-delay-ms:30000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        runTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            int deleted = runInBatches(() -> deleteExpiredAvailabilities(now.minusMinutes(availabilityRetentionMinutes)));
+            int expired = runInBatches(() -> expireStaleSessions(now.minusMinutes(pendingSessionGraceMinutes)));
+            if (deleted > 0 || expired > 0) {
+                log.info("Limpeza concluída: {} disponibilidades removidas, {} sessões expiradas", deleted, expired);
+            }
+        });
+    }
+
+    private int runInBatches(BatchOperation operation) {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer affected = transactionTemplate.execute(status ->
+                jobLock.tryLockForTransaction(LOCK_NAME) ? operation.run() : -1);
+            if (affected == null || affected < 0) {
+                // Outra instância está executando a limpeza
+                runsSkipped.increment();
+                break;
+            }
+            total += affected;
+            if (affected < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int deleteExpiredAvailabilities(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM availabilities WHERE end_time < ? ORDER BY end_time LIMIT ? FOR UPDATE SKIP LOCKED",
+            Long.class, Timestamp.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long[] idArray = ids.toArray(new Long[0]);
+        jdbcTemplate.update("DELETE FROM availability_time_slots WHERE availability_id = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)));
+        int deleted = jdbcTemplate.update("DELETE FROM availabilities WHERE id = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)));
+        availabilitiesDeleted.increment(deleted);
+        return deleted;
+    }
+
+    private int expireStaleSessions(LocalDateTime cutoff) {
+        List<Map<String, Object>> expired = jdbcTemplate.queryForList(
+            "UPDATE sessions SET status = 'EXPIRED', version = version + 1 " +
+            "WHERE id IN (SELECT id FROM sessions WHERE status = 'PENDING' AND scheduled_time < ? " +
+            "ORDER BY scheduled_time LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING mentor_id, mentee_id",
+            Timestamp.valueOf(cutoff), batchSize);
+        for (Map<String, Object> row : expired) {
+            dashboardService.evict(((Number) row.get("mentor_id")).longValue());
+            dashboardService.evict(((Number) row.get("mentee_id")).longValue());
+        }
+        sessionsExpired.increment(expired.size());
+        return expired.size();
+    }
+
+    @FunctionalInterface
+    private interface BatchOperation {
+        int run();
+    }
+}
@@ -0,0 +1,23 @@
+package com.devloop.scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lock entre instâncias baseado em advisory locks do PostgreSQL.
+ * O lock é de transação: é liberado automaticamente no commit/rollback,
+ * então deve ser adquirido dentro da transação que executa o trabalho.
+ */
+@Component
+public class JobLock {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public boolean tryLockForTransaction(String jobName) {
+        Boolean acquired = jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, jobName);
+        return Boolean.TRUE.equals(acquired);
+    }
+}
@@ -0,0 +1,77 @@
+package com.devloop.scheduler;
+
+import com.devloop.repository.MessageArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Move para messages_archive as mensagens de sessões encerradas há mais de N dias,
+ * mantendo a tabela messages restrita às conversas ativas.
+ */
+@Component
+public class MessageArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageArchiver.class);
+    private static final String LOCK_NAME = "devloop.message-archiver";
+
+    @Autowired
+    private MessageArchiveRepository messageArchiveRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobLock jobLock;
+
+    @Value("${devloop.chat.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${devloop.chat.archive.after-days:30}")
+    private long afterDays;
+
+    @Value("${devloop.chat.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${devloop.chat.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    private final Counter messagesArchived;
+
+    public MessageArchiver(MeterRegistry meterRegistry) {
+        this.messagesArchived = meterRegistry.counter("devloop.chat.archive.messages");
+    }
+
+    @Scheduled(fixedDelayString = "${devloop.chat.archive.fixed-delay-ms:3600000}",
+               initialDelayString = "${devloop.chat.archive.initial-delay-ms:120000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer moved = transactionTemplate.execute(status ->
+                jobLock.tryLockForTransaction(LOCK_NAME) ? messageArchiveRepository.archiveBatch(cutoff, batchSize) : -1);
+            if (moved == null || moved < 0) {
+                break;
+            }
+            total += moved;
+            messagesArchived.increment(moved);
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("{} mensagens movidas para o arquivo", total);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.devloop.scheduler;
+
+import com.devloop.entity.OutboxEvent;
+import com.devloop.event.DomainEvent;
+import com.devloop.event.DomainEventDispatcher;
+import com.devloop.event.DomainEventType;
+import com.devloop.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reenvia eventos do outbox que não foram entregues após o commit
+ * (falha de listener, pool saturado ou queda da instância) e remove os já publicados.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String LOCK_NAME = "devloop.outbox-relay";
+    private static final TypeReference<Map<String, Object>> PAYLOAD = new TypeReference<>() {};
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private DomainEventDispatcher dispatcher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobLock jobLock;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${devloop.events.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${devloop.events.retention-days:7}")
+    private long retentionDays;
+
+    @Scheduled(fixedDelayString = "${devloop.events.relay.fixed-delay-ms:15000}",
+               initialDelayString = "${devloop.events.relay.initial-delay-ms:20000}")
+    public void relay() {
+        // O lock só garante que uma instância por vez lê o lote; a entrega é idempotente de qualquer forma
+        List<OutboxEvent> due = transactionTemplate.execute(status -> jobLock.tryLockForTransaction(LOCK_NAME)
+            ? outboxEventRepository.findDue(OutboxEvent.Status.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize))
+            : List.of());
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+        int delivered = 0;
+        for (OutboxEvent row : due) {
+            DomainEvent event;
+            try {
+                event = toEvent(row);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // Não há como entregar um evento ilegível: vai direto para DEAD
+                outboxEventRepository.markFailed(row.getId(), OutboxEvent.Status.DEAD, row.getAttempts() + 1,
+                    LocalDateTime.now(), e.getMessage());
+                continue;
+            }
+            if (dispatcher.dispatch(event)) {
+                delivered++;
+            }
+        }
+        log.info("Relay do outbox: {} de {} eventos entregues", delivered, due.size());
+    }
+
+    @Scheduled(cron = "${devloop.events.cleanup-cron:0 30 3 * * *}")
+    public void deletePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(
+            OutboxEvent.Status.PUBLISHED, LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Outbox: {} eventos publicados removidos", deleted);
+        }
+    }
+
+    private DomainEvent toEvent(OutboxEvent row) {
+        Map<String, Object> attributes;
+        try {
+            attributes = objectMapper.readValue(row.getPayload(), PAYLOAD);
+        } catch (IOException e) {
+            throw new IllegalStateException("Payload inválido no evento #" + row.getId(), e);
+        }
+        return new DomainEvent(row.getId(), DomainEventType.valueOf(row.getEventType()), row.getAggregateId(),
+            attributes, row.getAttempts(), row.getCreatedAt());
+    }
+}
@@ -0,0 +1,206 @@
+package com.devloop.scheduler;
+
+import com.devloop.dto.NotificationDto;
+import com.devloop.util.HashedTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Lembretes de sessão via STOMP em /user/queue/reminders, {@code lead-minutes} antes do horário.
+ *
+ * Apenas as sessões cujo lembrete vence dentro da janela deslizante ficam no timing wheel;
+ * a janela é recarregada periodicamente (e na inicialização) a partir de reminder_sent_at,
+ * que só é gravado depois do envio. Assim, um lembrete perdido por queda da instância
+ * é reenviado na próxima carga: a entrega é "pelo menos uma vez".
+ */
+@Component
+public class SessionReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionReminderScheduler.class);
+
+    public static final String DESTINATION = "/queue/reminders";
+
+    private static final String REMINDER_QUERY =
+        "SELECT s.id, s.scheduled_time FROM sessions s " +
+        "WHERE s.reminder_sent_at IS NULL AND s.status IN ('PENDING', 'CONFIRMED') " +
+        "AND s.scheduled_time > ? AND s.scheduled_time <= ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobLock jobLock;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    @Qualifier("reminderExecutor")
+    private Executor reminderExecutor;
+
+    @Value("${devloop.reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${devloop.reminders.lead-minutes:15}")
+    private long leadMinutes;
+
+    @Value("${devloop.reminders.window-minutes:60}")
+    private long windowMinutes;
+
+    @Value("${devloop.reminders.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${devloop.reminders.wheel-size:512}")
+    private int wheelSize;
+
+    private HashedTimingWheel<Long> wheel;
+
+    private final Counter sent;
+    private final Counter skipped;
+
+    public SessionReminderScheduler(MeterRegistry meterRegistry) {
+        this.sent = meterRegistry.counter("devloop.reminders.sent");
+        this.skipped = meterRegistry.counter("devloop.reminders.skipped");
+    }
+
+    @PostConstruct
+    public void init() {
+        // O wheel só enfileira; o envio roda no pool para não atrasar os próximos ticks
+        wheel = new HashedTimingWheel<>(tickMillis, wheelSize,
+            sessionId -> reminderExecutor.execute(() -> deliver(sessionId)), "session-reminder-wheel");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        wheel.start();
+        loadWindow();
+    }
+
+    @PreDestroy
+    public void stop() {
+        wheel.stop();
+    }
+
+    /**
+     * Carrega as sessões cujo lembrete vence até o fim da próxima janela.
+     * O intervalo de recarga deve ser menor que a janela, para que as janelas se sobreponham.
+     */
+    @Scheduled(fixedDelayString = "${devloop.reminders.refresh-ms:600000}",
+               initialDelayString = "${devloop.reminders.refresh-ms:600000}")
+    public void loadWindow() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int[] loaded = { 0 };
+        jdbcTemplate.query(REMINDER_QUERY,
+            rs -> {
+                schedule(rs);
+                loaded[0]++;
+            },
+            Timestamp.valueOf(now), Timestamp.valueOf(now.plusMinutes(leadMinutes + windowMinutes)));
+        log.debug("Janela de lembretes carregada: {} sessões ({} no wheel)", loaded[0], wheel.size());
+    }
+
+    /**
+     * Recalcula o lembrete de uma sessão após uma alteração (reagendamento, cancelamento, exclusão).
+     */
+    public void reschedule(Long sessionId) {
+        if (!enabled) {
+            return;
+        }
+        wheel.cancel(sessionId);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.query(REMINDER_QUERY + " AND s.id = ?",
+            this::schedule,
+            Timestamp.valueOf(now), Timestamp.valueOf(now.plusMinutes(leadMinutes + windowMinutes)), sessionId);
+    }
+
+    private void schedule(ResultSet rs) throws SQLException {
+        LocalDateTime fireAt = rs.getTimestamp("scheduled_time").toLocalDateTime().minusMinutes(leadMinutes);
+        wheel.schedule(rs.getLong("id"), fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * Confere a sessão, envia aos participantes e só então grava reminder_sent_at.
+     * O lock por sessão evita que duas instâncias enviem o mesmo lembrete ao mesmo tempo.
+     */
+    private void deliver(Long sessionId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!jobLock.tryLockForTransaction("devloop.reminder." + sessionId)) {
+                    return;
+                }
+                List<ReminderTarget> targets = jdbcTemplate.query(
+                    "SELECT s.scheduled_time, m.email AS mentor_email, e.email AS mentee_email FROM sessions s " +
+                    "JOIN users m ON m.id = s.mentor_id JOIN users e ON e.id = s.mentee_id " +
+                    "WHERE s.id = ? AND s.reminder_sent_at IS NULL AND s.status IN ('PENDING', 'CONFIRMED') " +
+                    "AND s.scheduled_time > now()",
+                    (rs, rowNum) -> new ReminderTarget(
+                        rs.getTimestamp("scheduled_time").toLocalDateTime(),
+                        rs.getString("mentor_email"),
+                        rs.getString("mentee_email")),
+                    sessionId);
+                if (targets.isEmpty()) {
+                    skipped.increment();
+                    return;
+                }
+                ReminderTarget target = targets.get(0);
+                if (target.scheduledTime.minusMinutes(leadMinutes).isAfter(LocalDateTime.now().plusSeconds(5))) {
+                    // Reagendada para mais tarde desde que entrou no wheel
+                    reschedule(sessionId);
+                    return;
+                }
+                NotificationDto reminder = new NotificationDto("SESSION_REMINDER", sessionId,
+                    "Sua sessão começa em " + leadMinutes + " minutos", LocalDateTime.now());
+                messagingTemplate.convertAndSendToUser(target.mentorEmail, DESTINATION, reminder);
+                messagingTemplate.convertAndSendToUser(target.menteeEmail, DESTINATION, reminder);
+                jdbcTemplate.update("UPDATE sessions SET reminder_sent_at = now() WHERE id = ?", sessionId);
+                sent.increment();
+            });
+        } catch (RuntimeException e) {
+            // reminder_sent_at continua null: a próxima carga da janela agenda de novo
+            log.warn("Falha ao enviar lembrete da sessão {}", sessionId, e);
+        }
+    }
+
+    private static final class ReminderTarget {
+        final LocalDateTime scheduledTime;
+        final String mentorEmail;
+        final String menteeEmail;
+
+        ReminderTarget(LocalDateTime scheduledTime, String mentorEmail, String menteeEmail) {
+            this.scheduledTime = scheduledTime;
+            this.mentorEmail = mentorEmail;
+            this.menteeEmail = menteeEmail;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.devloop.search;
+
+import com.devloop.dto.MentorRecommendationDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Ranqueia mentores para as skills pedidas por um mentee.
+ *
+ * Cada mentor tem um vetor de features pré-calculado (skills como ids do SkillDictionary,
+ * nota bayesiana, minutos livres no horizonte e sessões concluídas). A consulta só percorre
+ * um array desses vetores e seleciona os K melhores com um heap; nada vai ao banco.
+ * Os vetores são recalculados por mentor a partir dos eventos de domínio.
+ */
+@Component
+public class MentorRecommendationEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(MentorRecommendationEngine.class);
+
+    private static final String FEATURE_QUERY =
+        "SELECT u.id, u.name, u.title, u.rating_average, u.rating_count, " +
+        "COALESCE(a.free_minutes, 0) AS free_minutes, COALESCE(h.completed, 0) AS completed " +
+        "FROM users u " +
+        "LEFT JOIN (SELECT mentor_id, " +
+        "  SUM(EXTRACT(EPOCH FROM (LEAST(end_time, ?) - GREATEST(start, ?))) / 60) AS free_minutes " +
+        "  FROM availabilities WHERE end_time > ? AND start < ? GROUP BY mentor_id) a ON a.mentor_id = u.id " +
+        "LEFT JOIN (SELECT mentor_id, COUNT(*) AS completed FROM sessions " +
+        "  WHERE status = 'COMPLETED' GROUP BY mentor_id) h ON h.mentor_id = u.id " +
+        "WHERE u.role = 'MENTOR'";
+
+    private static final String SKILL_QUERY =
+        "SELECT s.user_id, s.skill_id FROM user_skill s JOIN users u ON u.id = s.user_id WHERE u.role = 'MENTOR'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Value("${devloop.recommendation.horizon-days:14}")
+    private long horizonDays;
+
+    @Value("${devloop.recommendation.target-free-minutes:600}")
+    private double targetFreeMinutes;
+
+    @Value("${devloop.recommendation.rating-prior-mean:4.0}")
+    private double ratingPriorMean;
+
+    @Value("${devloop.recommendation.rating-prior-weight:5}")
+    private double ratingPriorWeight;
+
+    @Value("${devloop.recommendation.weights.skills:0.5}")
+    private double skillWeight;
+
+    @Value("${devloop.recommendation.weights.rating:0.25}")
+    private double ratingWeight;
+
+    @Value("${devloop.recommendation.weights.availability:0.15}")
+    private double availabilityWeight;
+
+    @Value("${devloop.recommendation.weights.history:0.1}")
+    private double historyWeight;
+
+    // Vetores em array para varredura sequencial; substituído por inteiro a cada escrita
+    private volatile MentorFeatures[] features = new MentorFeatures[0];
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    // Guardados por this: mentores recalculados enquanto uma reconstrução carregava do banco
+    private boolean rebuilding;
+    private final Set<Long> refreshedDuringRebuild = new LinkedHashSet<>();
+
+    // Guardados por this: ordem de início de cada refresh e a última aplicada por mentor. Um refresh
+    // que começou antes leu um estado mais antigo e não sobrescreve um que começou depois. As entradas
+    // ficam mesmo após a remoção do mentor, para que uma leitura atrasada não o traga de volta.
+    private long refreshSequence;
+    private final Map<Long, Long> appliedSequence = new HashMap<>();
+
+    // Serializa as reconstruções sem bloquear refresh() durante a carga
+    private final Object rebuildLock = new Object();
+
+    private final Timer queryTimer;
+
+    public MentorRecommendationEngine(MeterRegistry meterRegistry) {
+        this.queryTimer = meterRegistry.timer("devloop.recommendation.query");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    // Os minutos livres dependem do relógio, então o conjunto é recalculado periodicamente
+    @Scheduled(fixedDelayString = "${devloop.recommendation.rebuild-interval-ms:300000}",
+               initialDelayString = "${devloop.recommendation.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long started = System.nanoTime();
+            synchronized (this) {
+                rebuilding = true;
+                refreshedDuringRebuild.clear();
+            }
+            List<MentorFeatures> loaded = load("", null);
+            List<Long> replay;
+            synchronized (this) {
+                positions.clear();
+                for (int i = 0; i < loaded.size(); i++) {
+                    positions.put(loaded.get(i).id, i);
+                }
+                features = loaded.toArray(new MentorFeatures[0]);
+                rebuilding = false;
+                replay = new ArrayList<>(refreshedDuringRebuild);
+                refreshedDuringRebuild.clear();
+            }
+            // A carga pode ter lido o mentor antes da alteração; recalcula depois da troca
+            replay.forEach(this::refresh);
+            log.info("Vetores de recomendação recalculados: {} mentores em {} ms",
+                loaded.size(), (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    /**
+     * Recalcula o vetor de um mentor; remove-o se o usuário não existir ou não for mais mentor.
+     */
+    public void refresh(Long userId) {
+        long sequence;
+        synchronized (this) {
+            sequence = ++refreshSequence;
+        }
+        List<MentorFeatures> loaded = load(" AND u.id = ?", userId);
+        synchronized (this) {
+            if (rebuilding) {
+                refreshedDuringRebuild.add(userId);
+            }
+            Long applied = appliedSequence.get(userId);
+            if (applied != null && applied > sequence) {
+                return;
+            }
+            appliedSequence.put(userId, sequence);
+            MentorFeatures[] current = features;
+            Integer position = positions.get(userId);
+            MentorFeatures[] updated;
+            if (loaded.isEmpty()) {
+                if (position == null) {
+                    return;
+                }
+                // Remove trocando com o último, para manter o array denso
+                updated = Arrays.copyOf(current, current.length - 1);
+                int last = current.length - 1;
+                if (position != last) {
+                    updated[position] = current[last];
+                    positions.put(current[last].id, position);
+                }
+                positions.remove(userId);
+            } else if (position == null) {
+                updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = loaded.get(0);
+                positions.put(userId, current.length);
+            } else {
+                updated = current.clone();
+                updated[position] = loaded.get(0);
+            }
+            features = updated;
+        }
+    }
+
+    /**
+     * Os K mentores com maior pontuação para as skills pedidas, ignorando o próprio usuário.
+     * Com skills informadas, mentores sem nenhuma skill em comum ficam de fora.
+     */
+    public List<MentorRecommendationDto> recommend(List<String> requestedSkills, Long excludeUserId, int limit) {
+        return queryTimer.record(() -> {
+            // Aliases caem no mesmo id; skills desconhecidas contam como pedidas, mas não casam
+            int[] wanted = requestedSkills.stream()
+                .map(SkillDictionary::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .mapToInt(skill -> {
+                    Integer id = skillDictionary.lookup(skill);
+                    return id != null ? id : -1;
+                })
+                .toArray();
+            int requested = wanted.length;
+            wanted = Arrays.stream(wanted).filter(id -> id >= 0).distinct().sorted().toArray();
+
+            PriorityQueue<Scored> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(s -> s.score));
+            for (MentorFeatures mentor : features) {
+                if (excludeUserId != null && mentor.id == excludeUserId) {
+                    continue;
+                }
+                double overlap = 0;
+                if (requested > 0) {
+                    int shared = intersectionSize(wanted, mentor.skillIds);
+                    if (shared == 0) {
+                        continue;
+                    }
+                    overlap = (double) shared / requested;
+                }
+                double score = skillWeight * overlap
+                    + ratingWeight * mentor.rating
+                    + availabilityWeight * Math.min(1.0, mentor.freeMinutes / targetFreeMinutes)
+                    + historyWeight * mentor.completed / (mentor.completed + 10.0);
+                if (top.size() < limit) {
+                    top.offer(new Scored(mentor, score));
+                } else if (limit > 0 && score > top.peek().score) {
+                    top.poll();
+                    top.offer(new Scored(mentor, score));
+                }
+            }
+
+            List<MentorRecommendationDto> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Scored scored = top.poll();
+                MentorFeatures mentor = scored.mentor;
+                result.add(new MentorRecommendationDto(mentor.id, mentor.name, mentor.title, mentor.skills,
+                    Math.round(scored.score * 1000) / 1000.0, mentor.ratingAverage, mentor.ratingCount,
+                    Math.round(mentor.freeMinutes), mentor.completed));
+            }
+            Collections.reverse(result);
+            return result;
+        });
+    }
+
+    public List<String> skillsOf(String email) {
+        return jdbcTemplate.queryForList(
+            "SELECT k.name FROM user_skill s JOIN skills k ON k.id = s.skill_id " +
+            "JOIN users u ON u.id = s.user_id WHERE u.email = ?",
+            String.class, email);
+    }
+
+    private List<MentorFeatures> load(String filter, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp from = Timestamp.valueOf(now);
+        Timestamp horizon = Timestamp.valueOf(now.plusDays(horizonDays));
+
+        Map<Long, List<Integer>> skillsByMentor = new HashMap<>();
+        jdbcTemplate.query(SKILL_QUERY + filter, rs -> {
+            skillsByMentor.computeIfAbsent(rs.getLong("user_id"), id -> new ArrayList<>()).add(rs.getInt("skill_id"));
+        }, userId != null ? new Object[] { userId } : new Object[0]);
+
+        Object[] args = userId != null
+            ? new Object[] { horizon, from, from, horizon, userId }
+            : new Object[] { horizon, from, from, horizon };
+        Map<Long, MentorFeatures> mentors = new LinkedHashMap<>();
+        jdbcTemplate.query(FEATURE_QUERY + filter, rs -> {
+            long id = rs.getLong("id");
+            double average = rs.getDouble("rating_average");
+            Double ratingAverage = rs.wasNull() ? null : average;
+            int ratingCount = rs.getInt("rating_count");
+            int[] skillIds = skillsByMentor.getOrDefault(id, List.of()).stream()
+                .mapToInt(Integer::intValue).sorted().toArray();
+            mentors.put(id, new MentorFeatures(id, rs.getString("name"), rs.getString("title"), skillNames(skillIds),
+                skillIds, bayesianRating(ratingAverage, ratingCount), ratingAverage, ratingCount,
+                rs.getDouble("free_minutes"), rs.getInt("completed")));
+        }, args);
+        return new ArrayList<>(mentors.values());
+    }
+
+    // Poucas avaliações puxam a nota para a média a priori; resultado em [0, 1]
+    private double bayesianRating(Double average, int count) {
+        double mean = average != null && count > 0
+            ? (count * average + ratingPriorWeight * ratingPriorMean) / (count + ratingPriorWeight)
+            : ratingPriorMean;
+        return mean / 5.0;
+    }
+
+    // Nomes vêm do dicionário internado: cada vetor referencia as mesmas strings
+    private List<String> skillNames(int[] skillIds) {
+        List<String> names = new ArrayList<>(skillIds.length);
+        for (int skillId : skillIds) {
+            String name = skillDictionary.name(skillId);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    // Interseção de dois arrays ordenados em tempo linear
+    private static int intersectionSize(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int shared = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private static final class MentorFeatures {
+        final long id;
+        final String name;
+        final String title;
+        final List<String> skills;
+        final int[] skillIds;
+        final double rating;
+        final Double ratingAverage;
+        final int ratingCount;
+        final double freeMinutes;
+        final int completed;
+
+        MentorFeatures(long id, String name, String title, List<String> skills, int[] skillIds, double rating,
+                       Double ratingAverage, int ratingCount, double freeMinutes, int completed) {
+            this.id = id;
+            this.name = name;
+            this.title = title;
+            this.skills = List.copyOf(skills);
+            this.skillIds = skillIds;
+            this.rating = rating;
+            this.ratingAverage = ratingAverage;
+            this.ratingCount = ratingCount;
+            this.freeMinutes = freeMinutes;
+            this.completed = completed;
+        }
+    }
+
+    private static final class Scored {
+        final MentorFeatures mentor;
+        final double score;
+
+        Scored(MentorFeatures mentor, double score) {
+            this.mentor = mentor;
+            this.score = score;
+        }
+    }
+}
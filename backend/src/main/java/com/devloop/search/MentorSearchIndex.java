@@ -0,0 +1,405 @@
+package com.devloop.search;
+
+import com.devloop.dto.MentorSuggestionDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória sobre nome, título e skills dos mentores, para autocomplete.
+ *
+ * Os termos ficam em um dicionário ordenado (skip list), então a busca por prefixo é uma
+ * varredura de intervalo; cada termo aponta para um int[] ordenado de ordinais de documento.
+ * As atualizações incrementais alteram o estado no lugar (mapa de ordinais, entradas e
+ * postings de vários termos), então leituras usam o read lock e escritas o write lock;
+ * as consultas ao banco ficam sempre fora do lock.
+ */
+@Component
+public class MentorSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(MentorSearchIndex.class);
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}+#]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    // Limita a expansão de prefixos muito curtos (ex.: "a") a um número fixo de termos
+    private static final int MAX_PREFIX_TERMS = 2048;
+
+    private static final String MENTOR_QUERY =
+        "SELECT u.id, u.name, u.title, k.name AS skill FROM users u " +
+        "LEFT JOIN user_skill s ON s.user_id = u.id " +
+        "LEFT JOIN skills k ON k.id = s.skill_id " +
+        "WHERE u.role = 'MENTOR'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guardados pelo lock
+    private State state = new State(new ConcurrentSkipListMap<>(), new Entry[0], new HashMap<>());
+    private boolean rebuilding;
+    // Usuários atualizados enquanto uma reconstrução carregava do banco: reaplicados após a troca
+    private final Set<Long> refreshedDuringRebuild = new LinkedHashSet<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Reconstrução periódica: as atualizações incrementais chegam apenas à instância
+     * que confirmou a escrita, então as demais convergem aqui. Reconstruções não se sobrepõem.
+     */
+    @Scheduled(fixedDelayString = "${devloop.search.rebuild-interval-ms:600000}",
+               initialDelayString = "${devloop.search.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            refreshedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Map<Long, Entry> loaded = loadMentors(MENTOR_QUERY + " ORDER BY u.id");
+
+        Entry[] entries = new Entry[Math.max(16, loaded.size())];
+        Map<Long, Integer> ordinals = new HashMap<>();
+        Map<String, IntList> builders = new HashMap<>();
+        int ordinal = 0;
+        for (Entry entry : loaded.values()) {
+            entries[ordinal] = entry;
+            ordinals.put(entry.userId, ordinal);
+            // Ordinais crescentes: cada lista de postings já sai ordenada
+            for (String term : entry.terms) {
+                builders.computeIfAbsent(term, t -> new IntList()).add(ordinal);
+            }
+            ordinal++;
+        }
+        ConcurrentSkipListMap<String, int[]> postings = new ConcurrentSkipListMap<>();
+        builders.forEach((term, list) -> postings.put(term, list.toArray()));
+
+        List<Long> replay;
+        lock.writeLock().lock();
+        try {
+            state = new State(postings, entries, ordinals);
+            rebuilding = false;
+            replay = new ArrayList<>(refreshedDuringRebuild);
+            refreshedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // A carga pode ter lido a linha antes da alteração; relê depois da troca
+        replay.forEach(this::refresh);
+        log.info("Índice de mentores reconstruído: {} mentores, {} termos em {} ms",
+            loaded.size(), postings.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Recarrega um usuário do banco: insere/atualiza se for mentor, remove caso contrário.
+     */
+    public void refresh(Long userId) {
+        Entry entry = loadMentors(MENTOR_QUERY + " AND u.id = ?", userId).get(userId);
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                refreshedDuringRebuild.add(userId);
+            }
+            State current = state;
+            Integer ordinal = current.ordinals.get(userId);
+            if (ordinal != null) {
+                for (String term : current.entries[ordinal].terms) {
+                    removePosting(current.postings, term, ordinal);
+                }
+            }
+            if (entry == null) {
+                if (ordinal != null) {
+                    current.entries[ordinal] = null;
+                    current.ordinals.remove(userId);
+                    current.freeOrdinals.push(ordinal);
+                }
+                return;
+            }
+            if (ordinal == null) {
+                ordinal = current.freeOrdinals.isEmpty() ? current.ordinals.size() : current.freeOrdinals.pop();
+                current.ordinals.put(userId, ordinal);
+            }
+            Entry[] entries = current.entries;
+            if (ordinal >= entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(ordinal + 1, entries.length * 2));
+            }
+            entries[ordinal] = entry;
+            for (String term : entry.terms) {
+                addPosting(current.postings, term, ordinal);
+            }
+            state = current.withEntries(entries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<MentorSuggestionDto> suggest(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return suggest(state, tokens, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<MentorSuggestionDto> suggest(State current, List<String> tokens, int limit) {
+
+        // Cada token casa por prefixo (OR entre os termos expandidos); tokens combinam por AND
+        BitSet candidates = null;
+        for (String token : tokens) {
+            BitSet matches = new BitSet();
+            int expanded = 0;
+            for (int[] list : current.postings.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                for (int ordinal : list) {
+                    matches.set(ordinal);
+                }
+                if (++expanded == MAX_PREFIX_TERMS) {
+                    break;
+                }
+            }
+            if (candidates == null) {
+                candidates = matches;
+            } else {
+                candidates.and(matches);
+            }
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        // Top-K: o heap mantém os melhores resultados, com o pior na cabeça
+        Comparator<Scored> ranking = Comparator.<Scored>comparingInt(s -> s.score)
+            .thenComparing(s -> s.entry.name, Comparator.reverseOrder());
+        PriorityQueue<Scored> top = new PriorityQueue<>(limit + 1, ranking);
+        Entry[] entries = current.entries;
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            Entry entry = ordinal < entries.length ? entries[ordinal] : null;
+            if (entry == null) {
+                continue;
+            }
+            top.offer(new Scored(entry, entry.score(tokens)));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<MentorSuggestionDto> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Entry entry = top.poll().entry;
+            result.add(new MentorSuggestionDto(entry.userId, entry.name, entry.title, entry.skills));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private Map<Long, Entry> loadMentors(String sql, Object... args) {
+        Map<Long, EntryBuilder> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            long id = rs.getLong("id");
+            EntryBuilder builder = rows.computeIfAbsent(id, key -> new EntryBuilder(key));
+            builder.name = rs.getString("name");
+            builder.title = rs.getString("title");
+            String skill = rs.getString("skill");
+            if (skill != null) {
+                builder.skills.add(skill);
+            }
+        }, args);
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        rows.forEach((id, builder) -> entries.put(id, builder.build()));
+        return entries;
+    }
+
+    private static void addPosting(ConcurrentSkipListMap<String, int[]> postings, String term, int ordinal) {
+        int[] current = postings.getOrDefault(term, new int[0]);
+        int position = Arrays.binarySearch(current, ordinal);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        int[] updated = new int[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, insertAt);
+        updated[insertAt] = ordinal;
+        System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+        postings.put(term, updated);
+    }
+
+    private static void removePosting(ConcurrentSkipListMap<String, int[]> postings, String term, int ordinal) {
+        int[] current = postings.get(term);
+        if (current == null) {
+            return;
+        }
+        int position = Arrays.binarySearch(current, ordinal);
+        if (position < 0) {
+            return;
+        }
+        if (current.length == 1) {
+            postings.remove(term);
+            return;
+        }
+        int[] updated = new int[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+        postings.put(term, updated);
+    }
+
+    // Minúsculas e sem acentos, para "João" casar com "joao"
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase();
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class State {
+        final ConcurrentSkipListMap<String, int[]> postings;
+        final Entry[] entries;
+        final Map<Long, Integer> ordinals;
+        final ArrayDeque<Integer> freeOrdinals;
+
+        State(ConcurrentSkipListMap<String, int[]> postings, Entry[] entries, Map<Long, Integer> ordinals) {
+            this(postings, entries, ordinals, new ArrayDeque<>());
+        }
+
+        private State(ConcurrentSkipListMap<String, int[]> postings, Entry[] entries, Map<Long, Integer> ordinals,
+                      ArrayDeque<Integer> freeOrdinals) {
+            this.postings = postings;
+            this.entries = entries;
+            this.ordinals = ordinals;
+            this.freeOrdinals = freeOrdinals;
+        }
+
+        State withEntries(Entry[] entries) {
+            return entries == this.entries ? this : new State(postings, entries, ordinals, freeOrdinals);
+        }
+    }
+
+    private static final class Entry {
+        final long userId;
+        final String name;
+        final String title;
+        final List<String> skills;
+        final String[] nameTerms;
+        final String[] titleTerms;
+        final String[] skillTerms;
+        final Set<String> terms;
+
+        Entry(long userId, String name, String title, List<String> skills) {
+            this.userId = userId;
+            this.name = name != null ? name : "";
+            this.title = title;
+            this.skills = List.copyOf(skills);
+            this.nameTerms = tokenize(name).toArray(new String[0]);
+            this.titleTerms = tokenize(title).toArray(new String[0]);
+            this.skillTerms = tokenize(String.join(" ", skills)).toArray(new String[0]);
+            Set<String> all = new LinkedHashSet<>();
+            all.addAll(Arrays.asList(nameTerms));
+            all.addAll(Arrays.asList(titleTerms));
+            all.addAll(Arrays.asList(skillTerms));
+            this.terms = all;
+        }
+
+        // Nome pesa mais que skill, que pesa mais que título; termo exato vale um ponto extra
+        int score(List<String> tokens) {
+            int score = 0;
+            for (String token : tokens) {
+                score += match(nameTerms, token, 3) + match(skillTerms, token, 2) + match(titleTerms, token, 1);
+            }
+            return score;
+        }
+
+        private static int match(String[] terms, String token, int weight) {
+            int best = 0;
+            for (String term : terms) {
+                if (term.equals(token)) {
+                    return weight + 1;
+                }
+                if (term.startsWith(token)) {
+                    best = weight;
+                }
+            }
+            return best;
+        }
+    }
+
+    private static final class EntryBuilder {
+        final long userId;
+        String name;
+        String title;
+        final List<String> skills = new ArrayList<>();
+
+        EntryBuilder(long userId) {
+            this.userId = userId;
+        }
+
+        Entry build() {
+            return new Entry(userId, name, title, skills);
+        }
+    }
+
+    private static final class Scored {
+        final Entry entry;
+        final int score;
+
+        Scored(Entry entry, int score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.devloop.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Dicionário de skills em memória: chave normalizada (ou alias) -> id, e id -> nome canônico.
+ *
+ * Os nomes são internados, então cada skill existe uma única vez no heap, não importa
+ * quantos mentores a tenham. O dicionário só cresce; uma falta consulta o banco, o que
+ * cobre skills criadas por outras instâncias.
+ */
+@Component
+public class SkillDictionary {
+
+    public static final int MAX_LENGTH = 100;
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public static String normalize(String skill) {
+        return skill == null ? "" : SPACES.matcher(skill.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Id da skill para um nome ou alias, sem criar; null se desconhecida.
+     */
+    public Integer lookup(String skill) {
+        String key = normalize(skill);
+        if (key.isEmpty()) {
+            return null;
+        }
+        ensureLoaded();
+        Integer id = idsByKey.get(key);
+        if (id == null) {
+            id = loadKey(key);
+        }
+        return id;
+    }
+
+    /**
+     * Ids das skills informadas, na ordem recebida e sem repetição, criando as que não existem.
+     */
+    public Set<Integer> resolve(Collection<String> skills) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (String skill : skills) {
+            String name = skill == null ? "" : SPACES.matcher(skill.trim()).replaceAll(" ");
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (name.length() > MAX_LENGTH) {
+                throw new IllegalArgumentException("Skill maior que " + MAX_LENGTH + " caracteres: " + name);
+            }
+            Integer id = lookup(name);
+            ids.add(id != null ? id : create(name));
+        }
+        return ids;
+    }
+
+    public String name(int id) {
+        ensureLoaded();
+        String name = namesById.get(id);
+        if (name == null) {
+            List<String> rows = jdbcTemplate.queryForList("SELECT name FROM skills WHERE id = ?", String.class, id);
+            if (rows.isEmpty()) {
+                return null;
+            }
+            name = namesById.computeIfAbsent(id, key -> rows.get(0).intern());
+        }
+        return name;
+    }
+
+    /**
+     * Insere na transação de quem chamou (sem segunda conexão do pool). O id só entra no cache
+     * depois do commit: um rollback do perfil não deixa ids inexistentes no dicionário.
+     */
+    private Integer create(String name) {
+        String key = normalize(name);
+        jdbcTemplate.update(
+            "INSERT INTO skills (name, normalized_name) VALUES (?, ?) ON CONFLICT (normalized_name) DO NOTHING",
+            name, key);
+        Map<String, Object> row = findKey(key);
+        Integer id = ((Number) row.get("id")).intValue();
+        String canonical = (String) row.get("name");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    register(key, id, canonical);
+                }
+            });
+        } else {
+            register(key, id, canonical);
+        }
+        return id;
+    }
+
+    private Integer loadKey(String key) {
+        Map<String, Object> row = findKey(key);
+        if (row == null) {
+            return null;
+        }
+        Integer id = ((Number) row.get("id")).intValue();
+        register(key, id, (String) row.get("name"));
+        return id;
+    }
+
+    private Map<String, Object> findKey(String key) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT s.id, s.name FROM skills s WHERE s.normalized_name = ? " +
+            "UNION ALL SELECT s.id, s.name FROM skill_aliases a JOIN skills s ON s.id = a.skill_id WHERE a.alias = ? " +
+            "LIMIT 1", key, key);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            jdbcTemplate.query("SELECT id, name, normalized_name FROM skills",
+                rs -> { register(rs.getString("normalized_name"), rs.getInt("id"), rs.getString("name")); });
+            jdbcTemplate.query("SELECT alias, skill_id FROM skill_aliases",
+                rs -> { idsByKey.putIfAbsent(rs.getString("alias"), rs.getInt("skill_id")); });
+            loaded = true;
+        }
+    }
+
+    private void register(String key, int id, String name) {
+        namesById.computeIfAbsent(id, k -> name.intern());
+        idsByKey.putIfAbsent(key, id);
+    }
+}
@@ -2,10 +2,15 @@ package com.devloop.service;
 
 import com.devloop.dto.RegisterRequest;
 import com.devloop.entity.User;
+import com.devloop.event.DomainEventPublisher;
+import com.devloop.event.DomainEventType;
 import com.devloop.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
 
 @Service
 public class AuthServiceImpl implements AuthService {
@@ -16,13 +21,18 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
     @Override
+    @Transactional
     public void registerUser(RegisterRequest request) {
         User user = new User();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
         user.setPassword_hash(passwordEncoder.encode(request.getPassword()));
         user.setRole(User.Role.valueOf(request.getRole()));
-        userRepository.save(user);
+        User saved = userRepository.save(user);
+        domainEventPublisher.publish(DomainEventType.USER_REGISTERED, saved.getId(), Map.of("userId", saved.getId()));
     }
 }
\ No newline at end of file
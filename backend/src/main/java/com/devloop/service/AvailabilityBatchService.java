@@ -0,0 +1,11 @@
+package com.devloop.service;
+
+import com.devloop.dto.AvailabilityBatchItemDto;
+import com.devloop.dto.AvailabilityBatchResponseDto;
+import com.devloop.entity.User;
+
+import java.util.List;
+
+public interface AvailabilityBatchService {
+    AvailabilityBatchResponseDto importAvailabilities(User mentor, List<AvailabilityBatchItemDto> items);
+}
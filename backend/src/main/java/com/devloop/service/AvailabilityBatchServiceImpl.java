@@ -0,0 +1,264 @@
+package com.devloop.service;
+
+import com.devloop.dto.AvailabilityBatchItemDto;
+import com.devloop.dto.AvailabilityBatchResponseDto;
+import com.devloop.dto.AvailabilityBatchResultDto;
+import com.devloop.dto.AvailabilityBatchResultDto.Status;
+import com.devloop.entity.User;
+import com.devloop.event.DomainEvent;
+import com.devloop.event.DomainEventPublisher;
+import com.devloop.event.DomainEventType;
+import com.devloop.repository.AvailabilityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class AvailabilityBatchServiceImpl implements AvailabilityBatchService {
+
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Override
+    @Transactional
+    public AvailabilityBatchResponseDto importAvailabilities(User mentor, List<AvailabilityBatchItemDto> items) {
+        AvailabilityBatchResultDto[] results = new AvailabilityBatchResultDto[items.size()];
+
+        // 1. Validação individual e de posse das disponibilidades a atualizar
+        Set<Long> requestedIds = items.stream()
+            .filter(item -> item != null)
+            .map(AvailabilityBatchItemDto::getId)
+            .filter(id -> id != null)
+            .collect(Collectors.toSet());
+        Set<Long> ownedIds = requestedIds.isEmpty()
+            ? Set.of()
+            : new HashSet<>(availabilityRepository.findIdsByMentorAndIdIn(mentor.getId(), requestedIds));
+
+        List<Candidate> candidates = new ArrayList<>();
+        Set<Long> seenIds = new HashSet<>();
+        LocalDateTime earliest = null;
+        for (int i = 0; i < items.size(); i++) {
+            AvailabilityBatchItemDto item = items.get(i);
+            String error = validate(item, ownedIds, seenIds);
+            if (error != null) {
+                results[i] = new AvailabilityBatchResultDto(i, Status.REJECTED, item != null ? item.getId() : null, error);
+                continue;
+            }
+            candidates.add(new Candidate(i, item));
+            if (earliest == null || item.getStart().isBefore(earliest)) {
+                earliest = item.getStart();
+            }
+        }
+
+        // 2. Varredura ordenada: primeiro contra a agenda já existente, depois entre os próprios itens
+        List<Candidate> accepted = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            Set<Long> replacedIds = candidates.stream()
+                .map(c -> c.item.getId())
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+            List<long[]> existing = mergedExistingIntervals(mentor.getId(), earliest, replacedIds);
+            candidates.sort(Comparator.comparing((Candidate c) -> c.item.getStart()).thenComparing(c -> c.item.getEndTime()));
+
+            int pointer = 0;
+            long lastAcceptedEnd = Long.MIN_VALUE;
+            for (Candidate candidate : candidates) {
+                long start = toEpochSecond(candidate.item.getStart());
+                long end = toEpochSecond(candidate.item.getEndTime());
+                while (pointer < existing.size() && existing.get(pointer)[1] <= start) {
+                    pointer++;
+                }
+                if (pointer < existing.size() && existing.get(pointer)[0] < end) {
+                    results[candidate.index] = new AvailabilityBatchResultDto(candidate.index, Status.REJECTED,
+                        candidate.item.getId(), "Conflita com uma disponibilidade já cadastrada");
+                } else if (start < lastAcceptedEnd) {
+                    results[candidate.index] = new AvailabilityBatchResultDto(candidate.index, Status.REJECTED,
+                        candidate.item.getId(), "Conflita com outro item do lote");
+                } else {
+                    accepted.add(candidate);
+                    lastAcceptedEnd = end;
+                }
+            }
+        }
+
+        // 3. Persistência em lote via JDBC na mesma transação
+        if (!accepted.isEmpty()) {
+            persist(mentor.getId(), accepted, results);
+            domainEventPublisher.publish(DomainEventType.AVAILABILITY_CHANGED, mentor.getId(),
+                Map.of(DomainEvent.USER_IDS, List.of(mentor.getId()), "mentorId", mentor.getId()));
+        }
+        return new AvailabilityBatchResponseDto(Arrays.asList(results));
+    }
+
+    private String validate(AvailabilityBatchItemDto item, Set<Long> ownedIds, Set<Long> seenIds) {
+        if (item == null || item.getStart() == null || item.getEndTime() == null) {
+            return "start e endTime são obrigatórios";
+        }
+        if (!item.getEndTime().isAfter(item.getStart())) {
+            return "endTime deve ser posterior a start";
+        }
+        if (item.getId() != null) {
+            if (!ownedIds.contains(item.getId())) {
+                return "Disponibilidade não encontrada para este mentor";
+            }
+            if (!seenIds.add(item.getId())) {
+                return "Disponibilidade repetida no lote";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Carrega os intervalos já cadastrados do mentor (exceto os que o lote substitui)
+     * e os funde em intervalos disjuntos ordenados, em segundos desde a época.
+     */
+    private List<long[]> mergedExistingIntervals(Long mentorId, LocalDateTime from, Set<Long> replacedIds) {
+        List<long[]> intervals = availabilityRepository.findIntervalsByMentor(mentorId, from).stream()
+            .filter(interval -> !replacedIds.contains(interval.getId()))
+            .filter(interval -> interval.getStart() != null && interval.getEndTime() != null)
+            .map(interval -> new long[] { toEpochSecond(interval.getStart()), toEpochSecond(interval.getEndTime()) })
+            .sorted(Comparator.comparingLong(interval -> interval[0]))
+            .collect(Collectors.toList());
+
+        List<long[]> merged = new ArrayList<>();
+        for (long[] interval : intervals) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && interval[0] < last[1]) {
+                last[1] = Math.max(last[1], interval[1]);
+            } else {
+                merged.add(interval);
+            }
+        }
+        return merged;
+    }
+
+    private void persist(Long mentorId, List<Candidate> accepted, AvailabilityBatchResultDto[] results) {
+        List<Candidate> inserts = accepted.stream().filter(c -> c.item.getId() == null).collect(Collectors.toList());
+        List<Candidate> updates = accepted.stream().filter(c -> c.item.getId() != null).collect(Collectors.toList());
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!inserts.isEmpty()) {
+                try (PreparedStatement ps = connection.prepareStatement(
+                        "INSERT INTO availabilities (mentor_id, start, end_time, day_of_week, version) VALUES (?, ?, ?, ?, 0)",
+                        new String[] { "id" })) {
+                    for (int from = 0; from < inserts.size(); from += JDBC_BATCH_SIZE) {
+                        List<Candidate> chunk = inserts.subList(from, Math.min(from + JDBC_BATCH_SIZE, inserts.size()));
+                        for (Candidate candidate : chunk) {
+                            ps.setLong(1, mentorId);
+                            ps.setObject(2, candidate.item.getStart());
+                            ps.setObject(3, candidate.item.getEndTime());
+                            ps.setString(4, dayOfWeek(candidate.item));
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+                        try (ResultSet keys = ps.getGeneratedKeys()) {
+                            for (Candidate candidate : chunk) {
+                                keys.next();
+                                candidate.id = keys.getLong(1);
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                try (PreparedStatement ps = connection.prepareStatement(
+                        "UPDATE availabilities SET start = ?, end_time = ?, day_of_week = ?, version = COALESCE(version, 0) + 1 " +
+                        "WHERE id = ? AND mentor_id = ?")) {
+                    int pending = 0;
+                    for (Candidate candidate : updates) {
+                        ps.setObject(1, candidate.item.getStart());
+                        ps.setObject(2, candidate.item.getEndTime());
+                        ps.setString(3, dayOfWeek(candidate.item));
+                        ps.setLong(4, candidate.item.getId());
+                        ps.setLong(5, mentorId);
+                        ps.addBatch();
+                        candidate.id = candidate.item.getId();
+                        if (++pending % JDBC_BATCH_SIZE == 0) {
+                            ps.executeBatch();
+                        }
+                    }
+                    ps.executeBatch();
+                }
+                // Atualizações substituem a lista de horários apenas quando ela é enviada
+                try (PreparedStatement ps = connection.prepareStatement(
+                        "DELETE FROM availability_time_slots WHERE availability_id = ?")) {
+                    for (Candidate candidate : updates) {
+                        if (candidate.item.getTimeSlots() != null) {
+                            ps.setLong(1, candidate.id);
+                            ps.addBatch();
+                        }
+                    }
+                    ps.executeBatch();
+                }
+            }
+
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO availability_time_slots (availability_id, time_slot) VALUES (?, ?)")) {
+                int pending = 0;
+                for (Candidate candidate : accepted) {
+                    if (candidate.item.getTimeSlots() == null) {
+                        continue;
+                    }
+                    for (String timeSlot : candidate.item.getTimeSlots()) {
+                        ps.setLong(1, candidate.id);
+                        ps.setString(2, timeSlot);
+                        ps.addBatch();
+                        if (++pending % JDBC_BATCH_SIZE == 0) {
+                            ps.executeBatch();
+                        }
+                    }
+                }
+                ps.executeBatch();
+            }
+            return null;
+        });
+
+        for (Candidate candidate : accepted) {
+            Status status = candidate.item.getId() == null ? Status.CREATED : Status.UPDATED;
+            results[candidate.index] = new AvailabilityBatchResultDto(candidate.index, status, candidate.id, null);
+        }
+    }
+
+    private static String dayOfWeek(AvailabilityBatchItemDto item) {
+        return (item.getDayOfWeek() != null ? item.getDayOfWeek() : item.getStart().getDayOfWeek()).name();
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static final class Candidate {
+        private final int index;
+        private final AvailabilityBatchItemDto item;
+        private Long id;
+
+        private Candidate(int index, AvailabilityBatchItemDto item) {
+            this.index = index;
+            this.item = item;
+        }
+    }
+}
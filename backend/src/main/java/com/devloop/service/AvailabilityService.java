@@ -0,0 +1,18 @@
+package com.devloop.service;
+
+import com.devloop.entity.Availability;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AvailabilityService {
+    Availability createAvailability(Availability availability, String mentorEmail);
+
+    // Sem mentorId, devolve a agenda de todos os mentores
+    List<Availability> getAvailabilities(Long mentorId);
+
+    List<Availability> getAvailabilitiesByIds(Collection<Long> ids);
+
+    Availability updateAvailability(Long id, Availability availability, String email);
+    void deleteAvailability(Long id, String email);
+}
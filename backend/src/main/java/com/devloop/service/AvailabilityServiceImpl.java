@@ -0,0 +1,100 @@
+package com.devloop.service;
+
+import com.devloop.entity.Availability;
+import com.devloop.entity.User;
+import com.devloop.event.DomainEvent;
+import com.devloop.event.DomainEventPublisher;
+import com.devloop.event.DomainEventType;
+import com.devloop.repository.AvailabilityRepository;
+import com.devloop.repository.UserRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Override
+    @Transactional
+    public Availability createAvailability(Availability availability, String mentorEmail) {
+        User mentor = userRepository.findWithSkillsByEmail(mentorEmail).orElseThrow();
+        availability.setMentor(mentor);
+        Availability saved = availabilityRepository.save(availability);
+        availabilityChanged(mentor.getId());
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Availability> getAvailabilities(Long mentorId) {
+        List<Availability> availabilities;
+        if (mentorId != null) {
+            userRepository.findVersionById(mentorId)
+                .orElseThrow(() -> new NoSuchElementException("Mentor não encontrado: " + mentorId));
+            availabilities = availabilityRepository.findWithSlotsByMentorId(mentorId);
+        } else {
+            availabilities = availabilityRepository.findAllWithSlots();
+        }
+        // As skills dos mentores são carregadas em lote (@BatchSize), não uma consulta por janela
+        availabilities.forEach(availability -> Hibernate.initialize(availability.getMentor().getSkillSet()));
+        return availabilities;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Availability> getAvailabilitiesByIds(Collection<Long> ids) {
+        List<Availability> availabilities = availabilityRepository.findWithSlotsByIdIn(ids);
+        availabilities.forEach(availability -> Hibernate.initialize(availability.getMentor().getSkillSet()));
+        return availabilities;
+    }
+
+    @Override
+    @Transactional
+    public Availability updateAvailability(Long id, Availability updatedAvailability, String email) {
+        Availability availability = availabilityRepository.findById(id).orElseThrow();
+        // (Opcional) Verifique se o usuário autenticado é o mentor dono da disponibilidade
+        if (!availability.getMentor().getEmail().equals(email)) {
+            throw new RuntimeException("Você não tem permissão para atualizar esta disponibilidade.");
+        }
+        availability.setStart(updatedAvailability.getStart());
+        availability.setEndTime(updatedAvailability.getEndTime());
+        availability.setDayOfWeek(updatedAvailability.getDayOfWeek());
+        Availability saved = availabilityRepository.save(availability);
+        Hibernate.initialize(saved.getTimeSlots());
+        Hibernate.initialize(saved.getMentor().getSkillSet());
+        availabilityChanged(availability.getMentor().getId());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public void deleteAvailability(Long id, String email) {
+        Availability availability = availabilityRepository.findById(id).orElseThrow();
+        if (!availability.getMentor().getEmail().equals(email)) {
+            throw new RuntimeException("Você não tem permissão para excluir esta disponibilidade.");
+        }
+        availabilityRepository.delete(availability);
+        availabilityChanged(availability.getMentor().getId());
+    }
+
+    // Dashboard, recomendações e demais efeitos são atualizados pelos listeners
+    private void availabilityChanged(Long mentorId) {
+        domainEventPublisher.publish(DomainEventType.AVAILABILITY_CHANGED, mentorId,
+            Map.of(DomainEvent.USER_IDS, List.of(mentorId), "mentorId", mentorId));
+    }
+}
@@ -1,7 +1,14 @@
 package com.devloop.service;
 
-import com.devloop.entity.Message;
+import com.devloop.dto.ChatMessageDto;
+
+import java.util.List;
 
 public interface ChatService {
-    Message saveMessage(Message message);
+    /**
+     * Grava a mensagem do participante autenticado e devolve a forma enxuta usada na transmissão
+     */
+    ChatMessageDto sendMessage(Long sessionId, String email, String content);
+
+    List<ChatMessageDto> getHistory(Long sessionId, String email);
 }
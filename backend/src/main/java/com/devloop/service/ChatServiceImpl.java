@@ -1,9 +1,21 @@
 package com.devloop.service;
 
+import com.devloop.dto.ChatMessageDto;
 import com.devloop.entity.Message;
+import com.devloop.entity.Session;
+import com.devloop.repository.MessageArchiveRepository;
 import com.devloop.repository.MessageRepository;
+import com.devloop.repository.SessionRepository;
+import com.devloop.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 @Service
 public class ChatServiceImpl implements ChatService {
@@ -11,8 +23,51 @@ public class ChatServiceImpl implements ChatService {
     @Autowired
     private MessageRepository messageRepository;
 
+    @Autowired
+    private MessageArchiveRepository messageArchiveRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @Override
-    public Message saveMessage(Message message) {
-        return messageRepository.save(message);
+    @Transactional
+    public ChatMessageDto sendMessage(Long sessionId, String email, String content) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("A mensagem não pode ser vazia");
+        }
+        UserRepository.Identity sender = userRepository.findIdentityByEmail(email).orElseThrow();
+        if (!sessionRepository.isParticipant(sessionId, sender.getId())) {
+            throw new AccessDeniedException("Você não participa desta sessão.");
+        }
+        // Referências sem SELECT: o INSERT só precisa das chaves
+        Message message = new Message();
+        message.setSession(sessionRepository.getReferenceById(sessionId));
+        message.setSender(userRepository.getReferenceById(sender.getId()));
+        message.setContent(content);
+        message.setSentAt(LocalDateTime.now());
+        Message saved = messageRepository.save(message);
+        return new ChatMessageDto(saved.getId(), sessionId, sender.getId(), sender.getName(), content, saved.getSentAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatMessageDto> getHistory(Long sessionId, String email) {
+        Session session = sessionRepository.findById(sessionId).orElseThrow();
+        if (!session.getMentor().getEmail().equals(email) && !session.getMentee().getEmail().equals(email)) {
+            throw new AccessDeniedException("Você não participa desta sessão.");
+        }
+
+        List<ChatMessageDto> history = new ArrayList<>();
+        // Só sessões encerradas podem ter mensagens arquivadas; as ativas leem apenas a tabela quente
+        if (session.getStatus().isTerminal()) {
+            history.addAll(messageArchiveRepository.findHistoryBySessionId(sessionId));
+        }
+        history.addAll(messageRepository.findHistoryBySessionId(sessionId));
+        // O arquivamento é feito em lotes, então uma sessão pode estar parcialmente arquivada
+        history.sort(Comparator.comparing(ChatMessageDto::getSentAt).thenComparing(ChatMessageDto::getId));
+        return history;
     }
 }
@@ -0,0 +1,9 @@
+package com.devloop.service;
+
+import com.devloop.dto.DashboardDto;
+import com.devloop.entity.User;
+
+public interface DashboardService {
+    DashboardDto getDashboard(User user);
+    void evict(Long userId);
+}
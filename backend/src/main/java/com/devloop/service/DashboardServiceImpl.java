@@ -0,0 +1,145 @@
+package com.devloop.service;
+
+import com.devloop.dto.DashboardDto;
+import com.devloop.dto.UpcomingSessionDto;
+import com.devloop.entity.Session;
+import com.devloop.entity.SessionStatus;
+import com.devloop.entity.User;
+import com.devloop.repository.AvailabilityRepository;
+import com.devloop.repository.SessionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final int UPCOMING_LIMIT = 5;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    @Qualifier("dashboardExecutor")
+    private Executor dashboardExecutor;
+
+    @Value("${devloop.dashboard.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    private final Map<Long, CachedDashboard> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public DashboardDto getDashboard(User user) {
+        CachedDashboard cached = cache.get(user.getId());
+        if (cached != null && !cached.isExpired()) {
+            return cached.dashboard;
+        }
+        DashboardDto dashboard = compute(user);
+        cache.put(user.getId(), new CachedDashboard(dashboard, System.nanoTime() + cacheTtlSeconds * 1_000_000_000L));
+        return dashboard;
+    }
+
+    @Override
+    public void evict(Long userId) {
+        if (userId != null) {
+            cache.remove(userId);
+        }
+    }
+
+    private DashboardDto compute(User user) {
+        Long userId = user.getId();
+        LocalDateTime now = LocalDateTime.now();
+        boolean mentor = user.getRole() == User.Role.MENTOR;
+
+        // Cada consulta agregada roda em paralelo no pool limitado do dashboard
+        CompletableFuture<List<SessionRepository.StatusCount>> statusCounts =
+                CompletableFuture.supplyAsync(() -> sessionRepository.countByStatusForUser(userId), dashboardExecutor);
+        CompletableFuture<Long> connections =
+                CompletableFuture.supplyAsync(() -> sessionRepository.countConnectionsForUser(userId), dashboardExecutor);
+        CompletableFuture<Long> pendingReviews =
+                CompletableFuture.supplyAsync(() -> sessionRepository.countPendingReviewsForUser(userId), dashboardExecutor);
+        CompletableFuture<List<Session>> upcoming = CompletableFuture.supplyAsync(
+                () -> sessionRepository.findUpcomingForUser(userId, now, PageRequest.of(0, UPCOMING_LIMIT)), dashboardExecutor);
+        CompletableFuture<AvailabilityRepository.Coverage> coverage = mentor
+                ? CompletableFuture.supplyAsync(() -> availabilityRepository.coverageForMentor(userId, now), dashboardExecutor)
+                : CompletableFuture.completedFuture(null);
+
+        try {
+            CompletableFuture.allOf(statusCounts, connections, pendingReviews, upcoming, coverage).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+
+        Map<String, Long> byStatus = new TreeMap<>();
+        long total = 0;
+        long completed = 0;
+        for (SessionRepository.StatusCount count : statusCounts.join()) {
+            String status = count.getStatus() != null ? count.getStatus().name() : "UNKNOWN";
+            byStatus.merge(status, count.getTotal(), Long::sum);
+            total += count.getTotal();
+            if (count.getStatus() == SessionStatus.COMPLETED) {
+                completed += count.getTotal();
+            }
+        }
+
+        DashboardDto dto = new DashboardDto();
+        dto.setUserId(userId);
+        dto.setRole(user.getRole().name());
+        dto.setTotalSessions(total);
+        dto.setSessionsByStatus(byStatus);
+        dto.setConnections(connections.join());
+        // Horas de mentoria só contam sessões realizadas (pendentes e canceladas não)
+        dto.setMentoringHours(completed * Session.DEFAULT_DURATION_MINUTES / 60.0);
+        dto.setPendingReviews(pendingReviews.join());
+        dto.setUpcomingSessions(upcoming.join().stream().map(this::toUpcomingDto).collect(Collectors.toList()));
+        AvailabilityRepository.Coverage availability = coverage.join();
+        if (availability != null) {
+            dto.setOpenAvailabilitySlots(availability.getSlots() != null ? availability.getSlots() : 0);
+            dto.setOpenAvailabilityMinutes(availability.getMinutes() != null ? availability.getMinutes() : 0);
+        }
+        dto.setGeneratedAt(now);
+        return dto;
+    }
+
+    private UpcomingSessionDto toUpcomingDto(Session session) {
+        UpcomingSessionDto dto = new UpcomingSessionDto();
+        dto.setId(session.getId());
+        dto.setScheduledTime(session.getScheduledTime());
+        dto.setEndTime(session.getScheduledTime().plusMinutes(Session.DEFAULT_DURATION_MINUTES));
+        dto.setStatus(session.getStatus().name());
+        dto.setMentorId(session.getMentor().getId());
+        dto.setMentorName(session.getMentor().getName());
+        dto.setMenteeId(session.getMentee().getId());
+        dto.setMenteeName(session.getMentee().getName());
+        return dto;
+    }
+
+    private static final class CachedDashboard {
+        private final DashboardDto dashboard;
+        private final long expiresAtNanos;
+
+        private CachedDashboard(DashboardDto dashboard, long expiresAtNanos) {
+            this.dashboard = dashboard;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.devloop.service;
+
+import com.devloop.dto.DataImportProgressDto;
+import com.devloop.entity.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Exportação e importação em massa das tabelas principais, direto via JDBC/COPY,
+ * sem carregar entidades nem o conjunto de dados em memória.
+ */
+public interface DataTransferService {
+
+    enum Table {
+        // Hashes de senha não saem do banco; usuários importados precisam redefinir a senha
+        USERS("users", "id, name, email, role, bio, title, experience, profile_image, version", "id", true,
+              "UPDATE users SET password_hash = '" + User.PASSWORD_RESET_REQUIRED + "' WHERE password_hash IS NULL"),
+        SKILLS("skills", "id, name, normalized_name", "id", true, null),
+        USER_SKILL("user_skill", "user_id, skill_id", "user_id, skill_id", false, null),
+        SESSIONS("sessions", "id, mentor_id, mentee_id, scheduled_time, status, slot_start, slot_end, version", "id", true, null),
+        MESSAGES("messages", "id, session_id, sender_id, content, sent_at", "id", true, null),
+        REVIEWS("reviews", "id, session_id, reviewer_id, rating, comment", "id", true, null);
+
+        private final String tableName;
+        private final String columns;
+        private final String orderBy;
+        private final boolean serialId;
+        private final String afterImportSql;
+
+        Table(String tableName, String columns, String orderBy, boolean serialId, String afterImportSql) {
+            this.tableName = tableName;
+            this.columns = columns;
+            this.orderBy = orderBy;
+            this.serialId = serialId;
+            this.afterImportSql = afterImportSql;
+        }
+
+        public String getTableName() { return tableName; }
+        public String getColumns() { return columns; }
+        public String getOrderBy() { return orderBy; }
+        public boolean hasSerialId() { return serialId; }
+        // Executado na transação de cada bloco importado, após o COPY
+        public String getAfterImportSql() { return afterImportSql; }
+
+        public static Table fromName(String name) {
+            for (Table table : values()) {
+                if (table.tableName.equalsIgnoreCase(name)) {
+                    return table;
+                }
+            }
+            throw new IllegalArgumentException("Tabela não suportada: " + name);
+        }
+    }
+
+    enum Format {
+        NDJSON,
+        CSV;
+
+        public static Format fromName(String name) {
+            try {
+                return valueOf(name.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Formato não suportado: " + name);
+            }
+        }
+    }
+
+    /**
+     * Escreve a tabela inteira em {@code out}; retorna o número de linhas exportadas.
+     */
+    long export(Table table, Format format, OutputStream out) throws IOException;
+
+    /**
+     * Importa em blocos, cada um em sua própria transação junto com o checkpoint do job.
+     * Reenviar o mesmo arquivo com o mesmo jobId retoma após a última linha confirmada.
+     */
+    DataImportProgressDto importData(Table table, Format format, String jobId, InputStream in) throws IOException;
+
+    Optional<DataImportProgressDto> getProgress(String jobId);
+}
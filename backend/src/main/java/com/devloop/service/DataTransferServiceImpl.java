@@ -0,0 +1,273 @@
+package com.devloop.service;
+
+import com.devloop.dto.DataImportProgressDto;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+@Service
+public class DataTransferServiceImpl implements DataTransferService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataTransferServiceImpl.class);
+
+    private static final Pattern JOB_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${devloop.ops.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${devloop.ops.import.chunk-rows:5000}")
+    private int chunkRows;
+
+    // Evita duas importações simultâneas do mesmo job nesta instância
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public long export(Table table, Format format, OutputStream out) throws IOException {
+        String query = "SELECT " + table.getColumns() + " FROM " + table.getTableName() + " ORDER BY " + table.getOrderBy();
+        try (Connection connection = dataSource.getConnection()) {
+            if (format == Format.CSV) {
+                CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+                return copy.copyOut("COPY (" + query + ") TO STDOUT WITH (FORMAT csv, HEADER true)", out);
+            }
+            return exportNdjson(connection, query, out);
+        } catch (SQLException e) {
+            throw translate("export " + table.getTableName(), query, e);
+        }
+    }
+
+    // Cada linha vira JSON no próprio banco (row_to_json): nada de entidades nem mapeamento por coluna
+    private long exportNdjson(Connection connection, String query, OutputStream out) throws SQLException, IOException {
+        boolean autoCommit = connection.getAutoCommit();
+        // O driver só usa cursor (fetch size) fora do modo autocommit
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement("SELECT row_to_json(t)::text FROM (" + query + ") t")) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet rs = statement.executeQuery()) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                long rows = 0;
+                while (rs.next()) {
+                    writer.write(rs.getString(1));
+                    writer.write('\n');
+                    rows++;
+                }
+                writer.flush();
+                return rows;
+            }
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    @Override
+    public DataImportProgressDto importData(Table table, Format format, String jobId, InputStream in) throws IOException {
+        if (jobId == null || !JOB_ID.matcher(jobId).matches()) {
+            throw new IllegalArgumentException("jobId inválido: use até 64 caracteres [A-Za-z0-9_-]");
+        }
+        if (!runningJobs.add(jobId)) {
+            throw new IllegalStateException("A importação " + jobId + " já está em execução");
+        }
+        try {
+            Optional<DataImportProgressDto> existing = getProgress(jobId);
+            if (existing.isPresent()) {
+                if (!existing.get().getTable().equals(table.getTableName())) {
+                    throw new IllegalArgumentException("O job " + jobId + " pertence à tabela " + existing.get().getTable());
+                }
+                if ("DONE".equals(existing.get().getStatus())) {
+                    return existing.get();
+                }
+                jdbcTemplate.update(
+                    "UPDATE data_import_checkpoints SET status = 'RUNNING', error = NULL, updated_at = now() WHERE job_id = ?",
+                    jobId);
+            } else {
+                jdbcTemplate.update(
+                    "INSERT INTO data_import_checkpoints (job_id, table_name, format, status) VALUES (?, ?, ?, 'RUNNING')",
+                    jobId, table.getTableName(), format.name());
+            }
+            long committed = existing.map(DataImportProgressDto::getRowsCommitted).orElse(0L);
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            StringBuilder chunk = new StringBuilder();
+            if (format == Format.CSV) {
+                // Cabeçalho, como gerado pela exportação
+                readRecord(reader, format, chunk);
+                chunk.setLength(0);
+            }
+            for (long skipped = 0; skipped < committed && readRecord(reader, format, chunk); skipped++) {
+                chunk.setLength(0);
+            }
+
+            int pending = 0;
+            while (readRecord(reader, format, chunk)) {
+                if (++pending == chunkRows) {
+                    committed += pending;
+                    copyChunk(table, format, jobId, chunk, committed);
+                    chunk.setLength(0);
+                    pending = 0;
+                    log.info("Importação {} ({}): {} linhas confirmadas", jobId, table.getTableName(), committed);
+                }
+            }
+            if (pending > 0) {
+                committed += pending;
+                copyChunk(table, format, jobId, chunk, committed);
+            }
+
+            if (table.hasSerialId()) {
+                // Ids vieram do arquivo: a sequência precisa seguir o maior id importado
+                jdbcTemplate.queryForObject(
+                    "SELECT setval(pg_get_serial_sequence(?, 'id'), COALESCE(MAX(id), 0) + 1, false) FROM " + table.getTableName(),
+                    Long.class, table.getTableName());
+            }
+            jdbcTemplate.update(
+                "UPDATE data_import_checkpoints SET status = 'DONE', updated_at = now() WHERE job_id = ?", jobId);
+            log.info("Importação {} ({}) concluída: {} linhas", jobId, table.getTableName(), committed);
+            return getProgress(jobId).orElseThrow();
+        } catch (IOException | RuntimeException e) {
+            jdbcTemplate.update(
+                "UPDATE data_import_checkpoints SET status = 'FAILED', error = ?, updated_at = now() WHERE job_id = ?",
+                String.valueOf(e.getMessage()), jobId);
+            throw e;
+        } finally {
+            runningJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * Copia um bloco e avança o checkpoint na mesma transação: ou ambos são confirmados, ou nenhum.
+     */
+    private void copyChunk(Table table, Format format, String jobId, StringBuilder chunk, long rowsCommitted) {
+        String name = table.getTableName();
+        String columns = table.getColumns();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            String sql = "COPY " + name + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+            try {
+                CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+                if (format == Format.CSV) {
+                    copy.copyIn(sql, new StringReader(chunk.toString()));
+                } else {
+                    // Cada documento entra como uma coluna json e é convertido para o tipo da linha no banco
+                    jdbcTemplate.execute("CREATE TEMP TABLE import_rows (doc json) ON COMMIT DROP");
+                    sql = "COPY import_rows (doc) FROM STDIN WITH (FORMAT csv)";
+                    copy.copyIn(sql, new StringReader(chunk.toString()));
+                    jdbcTemplate.update(
+                        "INSERT INTO " + name + " (" + columns + ") SELECT " + columns +
+                        " FROM import_rows, json_populate_record(NULL::" + name + ", import_rows.doc)");
+                }
+            } catch (SQLException e) {
+                throw translate("import " + name, sql, e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (table.getAfterImportSql() != null) {
+                jdbcTemplate.update(table.getAfterImportSql());
+            }
+            jdbcTemplate.update(
+                "UPDATE data_import_checkpoints SET rows_committed = ?, updated_at = now() WHERE job_id = ?",
+                rowsCommitted, jobId);
+        });
+    }
+
+    /**
+     * Lê o próximo registro para o bloco. Em CSV, respeita quebras de linha dentro de aspas;
+     * em NDJSON, cada linha vira um campo CSV entre aspas para a tabela temporária.
+     */
+    private static boolean readRecord(BufferedReader reader, Format format, StringBuilder chunk) throws IOException {
+        if (format == Format.NDJSON) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    chunk.append('"').append(line.replace("\"", "\"\"")).append("\"\n");
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int start = chunk.length();
+        boolean quoted = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            chunk.append((char) c);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\n' && !quoted) {
+                if (chunk.substring(start).isBlank()) {
+                    chunk.setLength(start);
+                    continue;
+                }
+                return true;
+            }
+        }
+        if (chunk.substring(start).isBlank()) {
+            chunk.setLength(start);
+            return false;
+        }
+        chunk.append('\n');
+        return true;
+    }
+
+    @Override
+    public Optional<DataImportProgressDto> getProgress(String jobId) {
+        List<DataImportProgressDto> rows = jdbcTemplate.query(
+            "SELECT job_id, table_name, format, rows_committed, status, error, updated_at " +
+            "FROM data_import_checkpoints WHERE job_id = ?",
+            (rs, rowNum) -> new DataImportProgressDto(
+                rs.getString("job_id"),
+                rs.getString("table_name"),
+                rs.getString("format"),
+                rs.getLong("rows_committed"),
+                rs.getString("status"),
+                rs.getString("error"),
+                rs.getTimestamp("updated_at").toLocalDateTime()),
+            jobId);
+        return rows.stream().findFirst();
+    }
+
+    private DataAccessException translate(String task, String sql, SQLException e) {
+        DataAccessException translated = jdbcTemplate.getExceptionTranslator().translate(task, sql, e);
+        return translated != null ? translated : new UncategorizedSQLException(task, sql, e);
+    }
+}
@@ -0,0 +1,16 @@
+package com.devloop.service;
+
+import com.devloop.dto.FreeBusyDto;
+
+import java.time.LocalDateTime;
+
+public interface FreeBusyService {
+
+    /**
+     * Bitmap de horários livres do mentor entre from e to (alinhados à granularidade).
+     * A granularidade deve ser múltiplo de 5 minutos e dividir o dia.
+     */
+    FreeBusyDto getFreeBusy(Long mentorId, LocalDateTime from, LocalDateTime to, int granularityMinutes);
+
+    void evict(Long mentorId);
+}
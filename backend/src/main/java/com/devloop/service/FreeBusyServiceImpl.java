@@ -0,0 +1,210 @@
+package com.devloop.service;
+
+import com.devloop.config.DataSourceRouting;
+import com.devloop.dto.FreeBusyDto;
+import com.devloop.entity.Session;
+import com.devloop.repository.AvailabilityRepository;
+import com.devloop.repository.SessionRepository;
+import com.devloop.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cada semana de um mentor é calculada uma vez em resolução de 5 minutos
+ * (2016 bits: disponibilidades menos sessões) e guardada em cache; as consultas
+ * em granularidades maiores apenas agregam esses bits.
+ *
+ * O cálculo lê do primário: ele roda logo após o evict disparado por uma escrita, e uma
+ * réplica atrasada deixaria o resultado antigo em cache até o próximo evento. Cada entrada
+ * ainda expira após um TTL, e cálculos iniciados antes de um evict não são gravados.
+ */
+@Service
+public class FreeBusyServiceImpl implements FreeBusyService {
+
+    private static final int BASE_MINUTES = 5;
+    private static final long BASE_SECONDS = BASE_MINUTES * 60L;
+    private static final int SLOTS_PER_WEEK = 7 * 24 * 60 / BASE_MINUTES;
+    private static final int MAX_WEEKS_PER_MENTOR = 16;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${devloop.freebusy.max-range-days:62}")
+    private int maxRangeDays;
+
+    @Value("${devloop.freebusy.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    // Mentor -> semanas calculadas, com descarte do mentor menos usado. O evict troca a instância de
+    // MentorWeeks, que funciona como geração: cálculos iniciados com a instância antiga são descartados.
+    private final Map<Long, MentorWeeks> cache;
+
+    public FreeBusyServiceImpl(@Value("${devloop.freebusy.cache-max-mentors:5000}") int maxMentors) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<Long, MentorWeeks>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MentorWeeks> eldest) {
+                return size() > maxMentors;
+            }
+        });
+    }
+
+    // Sem transação: cada leitura escolhe o pool, e os cálculos de semana vão ao primário
+    @Override
+    public FreeBusyDto getFreeBusy(Long mentorId, LocalDateTime from, LocalDateTime to, int granularityMinutes) {
+        if (granularityMinutes < BASE_MINUTES || granularityMinutes % BASE_MINUTES != 0 || 1440 % granularityMinutes != 0) {
+            throw new IllegalArgumentException("Granularidade inválida: use múltiplos de 5 minutos que dividam o dia");
+        }
+        LocalDateTime start = alignDown(from, granularityMinutes);
+        LocalDateTime end = alignUp(to, granularityMinutes);
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("O fim do intervalo deve ser posterior ao início");
+        }
+        if (Duration.between(start, end).toDays() > maxRangeDays) {
+            throw new IllegalArgumentException("Intervalo máximo de " + maxRangeDays + " dias");
+        }
+        userRepository.findVersionById(mentorId)
+            .orElseThrow(() -> new NoSuchElementException("Mentor não encontrado: " + mentorId));
+
+        int slots = (int) (Duration.between(start, end).toMinutes() / granularityMinutes);
+        int ratio = granularityMinutes / BASE_MINUTES;
+        LocalDateTime now = LocalDateTime.now();
+        BitSet free = new BitSet(slots);
+
+        LocalDate currentWeek = null;
+        BitSet weekBits = null;
+        for (int i = 0; i < slots; i++) {
+            LocalDateTime slotStart = start.plusMinutes((long) i * granularityMinutes);
+            // Horários passados nunca aparecem como livres
+            if (slotStart.isBefore(now)) {
+                continue;
+            }
+            LocalDate week = weekOf(slotStart);
+            if (!week.equals(currentWeek)) {
+                currentWeek = week;
+                weekBits = BitSet.valueOf(week(mentorId, week));
+            }
+            int first = (int) (Duration.between(week.atStartOfDay(), slotStart).toMinutes() / BASE_MINUTES);
+            if (weekBits.nextClearBit(first) >= first + ratio) {
+                free.set(i);
+            }
+        }
+        byte[] bitmap = Arrays.copyOf(free.toByteArray(), (slots + 7) / 8);
+        return new FreeBusyDto(mentorId, start, end, granularityMinutes, slots, Base64.getEncoder().encodeToString(bitmap));
+    }
+
+    @Override
+    public void evict(Long mentorId) {
+        if (mentorId != null) {
+            cache.remove(mentorId);
+        }
+    }
+
+    private long[] week(Long mentorId, LocalDate weekStart) {
+        MentorWeeks weeks = cache.computeIfAbsent(mentorId, id -> new MentorWeeks());
+        long now = System.nanoTime();
+        CachedWeek cached = weeks.weeks.get(weekStart);
+        if (cached != null && now - cached.expiresAt < 0) {
+            return cached.bits;
+        }
+        long[] bits = DataSourceRouting.onPrimary(() -> computeWeek(mentorId, weekStart.atStartOfDay()).toLongArray());
+        // Check-and-put sob o mutex do mapa, o mesmo usado pelo evict (remove)
+        synchronized (cache) {
+            if (cache.get(mentorId) == weeks) {
+                if (weeks.weeks.size() >= MAX_WEEKS_PER_MENTOR) {
+                    weeks.weeks.clear();
+                }
+                weeks.weeks.put(weekStart, new CachedWeek(bits, now + cacheTtlSeconds * 1_000_000_000L));
+            }
+        }
+        return bits;
+    }
+
+    private BitSet computeWeek(Long mentorId, LocalDateTime weekStart) {
+        LocalDateTime weekEnd = weekStart.plusWeeks(1);
+        BitSet bits = new BitSet(SLOTS_PER_WEEK);
+        // Só contam como livres os blocos de 5 minutos inteiramente dentro de uma disponibilidade
+        for (AvailabilityRepository.Interval interval
+                : availabilityRepository.findIntervalsByMentorBetween(mentorId, weekStart, weekEnd)) {
+            int first = ceilIndex(weekStart, max(interval.getStart(), weekStart));
+            int last = floorIndex(weekStart, min(interval.getEndTime(), weekEnd));
+            if (last > first) {
+                bits.set(first, last);
+            }
+        }
+        // Sessões ocupam qualquer bloco que toquem
+        Duration duration = Duration.ofMinutes(Session.DEFAULT_DURATION_MINUTES);
+        for (LocalDateTime time : sessionRepository.findBusyTimesForUser(mentorId, weekStart.minus(duration), weekEnd)) {
+            int first = floorIndex(weekStart, max(time, weekStart));
+            int last = ceilIndex(weekStart, min(time.plus(duration), weekEnd));
+            if (last > first) {
+                bits.clear(first, last);
+            }
+        }
+        return bits;
+    }
+
+    private static final class MentorWeeks {
+        final Map<LocalDate, CachedWeek> weeks = new ConcurrentHashMap<>();
+    }
+
+    private static final class CachedWeek {
+        final long[] bits;
+        final long expiresAt;
+
+        CachedWeek(long[] bits, long expiresAt) {
+            this.bits = bits;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static int floorIndex(LocalDateTime weekStart, LocalDateTime time) {
+        return (int) Math.floorDiv(Duration.between(weekStart, time).getSeconds(), BASE_SECONDS);
+    }
+
+    private static int ceilIndex(LocalDateTime weekStart, LocalDateTime time) {
+        return (int) -Math.floorDiv(-Duration.between(weekStart, time).getSeconds(), BASE_SECONDS);
+    }
+
+    private static LocalDate weekOf(LocalDateTime time) {
+        return time.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static LocalDateTime alignDown(LocalDateTime time, int minutes) {
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
+        return time.toLocalDate().atStartOfDay().plusMinutes(minuteOfDay / minutes * minutes);
+    }
+
+    private static LocalDateTime alignUp(LocalDateTime time, int minutes) {
+        LocalDateTime down = alignDown(time, minutes);
+        return down.equals(time) ? down : down.plusMinutes(minutes);
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,35 @@
+package com.devloop.service;
+
+import com.devloop.dto.RecordingDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+public interface RecordingService {
+
+    RecordingDto createRecording(Long sessionId, String email, String fileName, String contentType, long totalSize);
+
+    RecordingDto getRecording(Long id, String email);
+
+    List<RecordingDto> getRecordingsForSession(Long sessionId, String email);
+
+    /**
+     * Grava um trecho a partir de {@code offset}, que deve ser igual ao offset atual do upload.
+     * Com {@code checksum} ("sha256 &lt;base64&gt;"), o trecho só é aceito se o hash conferir.
+     * Retorna o novo offset.
+     */
+    long appendChunk(Long id, String email, long offset, InputStream body, String checksum) throws IOException;
+
+    Path getContentPath(Long id);
+
+    /**
+     * O hash informado no header Upload-Checksum não confere com os bytes recebidos.
+     */
+    class ChecksumMismatchException extends RuntimeException {
+        public ChecksumMismatchException(String message) {
+            super(message);
+        }
+    }
+}
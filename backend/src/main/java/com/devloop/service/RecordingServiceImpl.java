@@ -0,0 +1,258 @@
+package com.devloop.service;
+
+import com.devloop.dto.RecordingDto;
+import com.devloop.entity.Recording;
+import com.devloop.entity.Session;
+import com.devloop.entity.User;
+import com.devloop.repository.RecordingRepository;
+import com.devloop.repository.SessionRepository;
+import com.devloop.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Upload retomável em disco: cada trecho é copiado do corpo da requisição para o arquivo
+ * por um buffer direto de tamanho fixo, então o heap não cresce com o tamanho do vídeo.
+ */
+@Service
+public class RecordingServiceImpl implements RecordingService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Algoritmos aceitos no header Upload-Checksum (nomes do protocolo tus -> JCA)
+    private static final Map<String, String> CHECKSUM_ALGORITHMS = Map.of("sha256", "SHA-256", "sha1", "SHA-1", "md5", "MD5");
+
+    @Autowired
+    private RecordingRepository recordingRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${devloop.recordings.storage-dir:./data/recordings}")
+    private String storageDir;
+
+    @Value("${devloop.recordings.max-size-bytes:2147483648}")
+    private long maxSizeBytes;
+
+    // Um único PATCH por gravação de cada vez
+    private final Set<Long> activeUploads = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(Paths.get(storageDir));
+    }
+
+    @Override
+    @Transactional
+    public RecordingDto createRecording(Long sessionId, String email, String fileName, String contentType, long totalSize) {
+        if (totalSize <= 0 || totalSize > maxSizeBytes) {
+            throw new IllegalArgumentException("Tamanho inválido; o máximo é " + maxSizeBytes + " bytes");
+        }
+        Session session = sessionRepository.findById(sessionId).orElseThrow();
+        checkParticipant(session, email);
+        User uploader = userRepository.findByEmail(email).orElseThrow();
+
+        LocalDateTime now = LocalDateTime.now();
+        Recording recording = new Recording();
+        recording.setSession(session);
+        recording.setUploader(uploader);
+        recording.setFileName(fileName);
+        recording.setContentType(contentType);
+        recording.setTotalSize(totalSize);
+        recording.setUploadOffset(0);
+        recording.setStatus(Recording.Status.UPLOADING);
+        recording.setCreatedAt(now);
+        recording.setUpdatedAt(now);
+        return toDto(recordingRepository.save(recording));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RecordingDto getRecording(Long id, String email) {
+        Recording recording = recordingRepository.findById(id).orElseThrow();
+        checkParticipant(recording.getSession(), email);
+        return toDto(recording);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecordingDto> getRecordingsForSession(Long sessionId, String email) {
+        Session session = sessionRepository.findById(sessionId).orElseThrow();
+        checkParticipant(session, email);
+        return recordingRepository.findBySessionIdOrderByCreatedAtDesc(sessionId).stream()
+            .map(this::toDto)
+            .collect(Collectors.toList());
+    }
+
+    // Sem transação de propósito: o corpo pode levar minutos e não deve segurar uma conexão do pool
+    @Override
+    public long appendChunk(Long id, String email, long offset, InputStream body, String checksum) throws IOException {
+        if (!activeUploads.add(id)) {
+            throw new IllegalStateException("Já existe um envio em andamento para esta gravação");
+        }
+        try {
+            // Lido só depois de tomar a guarda: um PATCH anterior pode ter acabado de avançar o offset
+            Recording recording = recordingRepository.findById(id).orElseThrow();
+            if (!recording.getUploader().getEmail().equals(email)) {
+                throw new AccessDeniedException("Apenas quem iniciou o upload pode enviá-lo.");
+            }
+            if (recording.getStatus() == Recording.Status.COMPLETE) {
+                throw new IllegalStateException("O upload já foi concluído");
+            }
+            if (offset != recording.getUploadOffset()) {
+                throw new IllegalStateException("Offset divergente: o servidor está em " + recording.getUploadOffset());
+            }
+            MessageDigest digest = checksum != null ? digestFor(checksum) : null;
+            long remaining = recording.getTotalSize() - offset;
+            long written = 0;
+            IOException interruption = null;
+
+            try (FileChannel file = FileChannel.open(contentPath(id), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(body)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                try {
+                    while (true) {
+                        buffer.clear();
+                        // Lê um byte a mais que o restante para detectar corpo maior que Upload-Length
+                        buffer.limit((int) Math.min(BUFFER_SIZE, remaining - written + 1));
+                        int read = source.read(buffer);
+                        if (read < 0) {
+                            break;
+                        }
+                        if (written + read > remaining) {
+                            throw new IllegalArgumentException("O trecho ultrapassa o tamanho declarado do arquivo");
+                        }
+                        buffer.flip();
+                        if (digest != null) {
+                            digest.update(buffer.duplicate());
+                        }
+                        long position = offset + written;
+                        while (buffer.hasRemaining()) {
+                            position += file.write(buffer, position);
+                        }
+                        written += read;
+                    }
+                } catch (IOException e) {
+                    // Conexão interrompida: sem checksum, o que chegou é mantido e o cliente retoma dali
+                    interruption = e;
+                }
+                file.force(false);
+            }
+
+            if (digest != null) {
+                if (interruption != null) {
+                    throw interruption;
+                }
+                String expected = checksum.substring(checksum.indexOf(' ') + 1).trim();
+                String actual = Base64.getEncoder().encodeToString(digest.digest());
+                if (!actual.equals(expected)) {
+                    throw new ChecksumMismatchException("Checksum do trecho não confere");
+                }
+            }
+
+            long newOffset = offset + written;
+            recording.setUploadOffset(newOffset);
+            recording.setUpdatedAt(LocalDateTime.now());
+            if (newOffset == recording.getTotalSize()) {
+                recording.setSha256(finish(id, recording.getTotalSize()));
+                recording.setStatus(Recording.Status.COMPLETE);
+            }
+            recordingRepository.save(recording);
+            return newOffset;
+        } finally {
+            activeUploads.remove(id);
+        }
+    }
+
+    @Override
+    public Path getContentPath(Long id) {
+        return contentPath(id);
+    }
+
+    // Remove bytes além do tamanho declarado (restos de trechos rejeitados) e calcula o hash final
+    private String finish(Long id, long totalSize) throws IOException {
+        try (FileChannel file = FileChannel.open(contentPath(id), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            file.truncate(totalSize);
+            MessageDigest digest = newDigest("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (file.read(buffer) > 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        }
+    }
+
+    private MessageDigest digestFor(String checksum) {
+        int separator = checksum.indexOf(' ');
+        String algorithm = separator > 0 ? CHECKSUM_ALGORITHMS.get(checksum.substring(0, separator).toLowerCase()) : null;
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Upload-Checksum inválido; use \"sha256 <base64>\"");
+        }
+        return newDigest(algorithm);
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path contentPath(Long id) {
+        return Paths.get(storageDir).resolve(id + ".bin");
+    }
+
+    private void checkParticipant(Session session, String email) {
+        if (!session.getMentor().getEmail().equals(email) && !session.getMentee().getEmail().equals(email)) {
+            throw new AccessDeniedException("Você não participa desta sessão.");
+        }
+    }
+
+    private RecordingDto toDto(Recording recording) {
+        return new RecordingDto(
+            recording.getId(),
+            recording.getSession().getId(),
+            recording.getUploader().getId(),
+            recording.getFileName(),
+            recording.getContentType(),
+            recording.getTotalSize(),
+            recording.getUploadOffset(),
+            recording.getSha256(),
+            recording.getStatus().name(),
+            recording.getCreatedAt());
+    }
+}
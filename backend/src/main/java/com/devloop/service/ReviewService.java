@@ -1,11 +1,13 @@
 package com.devloop.service;
 
 import com.devloop.dto.ReviewDto;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewService {
     ReviewDto createReview(ReviewDto reviewDto);
     List<ReviewDto> getReviewsBySessionId(Long sessionId);
+    List<ReviewDto> getReviewsByIds(Collection<Long> ids);
     ReviewDto updateReview(Long id, ReviewDto reviewDto);
     void deleteReview(Long id);
 }
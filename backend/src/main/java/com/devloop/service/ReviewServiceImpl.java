@@ -4,13 +4,21 @@ import com.devloop.dto.ReviewDto;
 import com.devloop.entity.Review;
 import com.devloop.entity.Session;
 import com.devloop.entity.User;
+import com.devloop.event.DomainEvent;
+import com.devloop.event.DomainEventPublisher;
+import com.devloop.event.DomainEventType;
+import com.devloop.event.RatingAggregateListener;
 import com.devloop.repository.ReviewRepository;
 import com.devloop.repository.SessionRepository;
 import com.devloop.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,8 +30,11 @@ public class ReviewServiceImpl implements ReviewService {
     private SessionRepository sessionRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
 
     @Override
+    @Transactional
     public ReviewDto createReview(ReviewDto dto) {
         Review review = new Review();
         review.setSession(sessionRepository.findById(dto.getSessionId()).orElseThrow());
@@ -31,10 +42,12 @@ public class ReviewServiceImpl implements ReviewService {
         review.setRating(dto.getRating());
         review.setComment(dto.getComment());
         Review saved = reviewRepository.save(review);
+        publish(DomainEventType.REVIEW_CREATED, saved);
         return toDto(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ReviewDto> getReviewsBySessionId(Long sessionId) {
         return reviewRepository.findAll().stream()
                 .filter(r -> r.getSession().getId().equals(sessionId))
@@ -43,18 +56,42 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<ReviewDto> getReviewsByIds(Collection<Long> ids) {
+        return reviewRepository.findAllById(ids).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
     public ReviewDto updateReview(Long id, ReviewDto dto) {
         Review review = reviewRepository.findById(id).orElseThrow();
         review.setRating(dto.getRating());
         review.setComment(dto.getComment());
-        return toDto(reviewRepository.save(review));
+        Review saved = reviewRepository.save(review);
+        publish(DomainEventType.REVIEW_UPDATED, saved);
+        return toDto(saved);
     }
 
     @Override
+    @Transactional
     public void deleteReview(Long id) {
+        reviewRepository.findById(id).ifPresent(review -> publish(DomainEventType.REVIEW_DELETED, review));
         reviewRepository.deleteById(id);
     }
 
+    // Reviews alteram as pendências de avaliação de ambos os participantes e a nota do mentor
+    private void publish(DomainEventType type, Review review) {
+        Session session = review.getSession();
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(DomainEvent.USER_IDS, List.of(session.getMentor().getId(), session.getMentee().getId()));
+        attributes.put(RatingAggregateListener.MENTOR_ID, session.getMentor().getId());
+        attributes.put("sessionId", session.getId());
+        attributes.put("reviewerId", review.getReviewer().getId());
+        domainEventPublisher.publish(type, review.getId(), attributes);
+    }
+
     private ReviewDto toDto(Review review) {
         ReviewDto dto = new ReviewDto();
         dto.setId(review.getId());
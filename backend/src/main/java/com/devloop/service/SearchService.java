@@ -0,0 +1,14 @@
+package com.devloop.service;
+
+import com.devloop.dto.MessageSearchHitDto;
+import com.devloop.dto.ReviewSearchHitDto;
+import com.devloop.dto.SearchResultDto;
+
+public interface SearchService {
+    /**
+     * Busca nas mensagens das sessões do usuário; sessionId restringe a uma sessão
+     */
+    SearchResultDto<MessageSearchHitDto> searchMessages(String email, String query, Long sessionId, int page, int size);
+
+    SearchResultDto<ReviewSearchHitDto> searchReviews(String email, String query, int page, int size);
+}
@@ -0,0 +1,59 @@
+package com.devloop.service;
+
+import com.devloop.dto.MessageSearchHitDto;
+import com.devloop.dto.ReviewSearchHitDto;
+import com.devloop.dto.SearchResultDto;
+import com.devloop.repository.TextSearchRepository;
+import com.devloop.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    @Autowired
+    private TextSearchRepository textSearchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${devloop.search.max-page-size:50}")
+    private int maxPageSize;
+
+    @Value("${devloop.search.max-query-length:200}")
+    private int maxQueryLength;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchResultDto<MessageSearchHitDto> searchMessages(String email, String query, Long sessionId, int page, int size) {
+        String normalized = validate(query, page, size);
+        Long userId = userRepository.findIdentityByEmail(email).orElseThrow().getId();
+        return textSearchRepository.searchMessages(userId, sessionId, normalized, page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchResultDto<ReviewSearchHitDto> searchReviews(String email, String query, int page, int size) {
+        String normalized = validate(query, page, size);
+        Long userId = userRepository.findIdentityByEmail(email).orElseThrow().getId();
+        return textSearchRepository.searchReviews(userId, normalized, page, size);
+    }
+
+    private String validate(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Informe o termo de busca");
+        }
+        if (query.length() > maxQueryLength) {
+            throw new IllegalArgumentException("Termo de busca maior que " + maxQueryLength + " caracteres");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Página inválida: " + page);
+        }
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Tamanho de página deve estar entre 1 e " + maxPageSize);
+        }
+        return query.trim();
+    }
+}
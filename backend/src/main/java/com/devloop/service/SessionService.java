@@ -1,12 +1,28 @@
 package com.devloop.service;
 
 import com.devloop.entity.Session;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SessionService {
     Session createSession(Session session);
+
+    /**
+     * Agenda a sessão para o mentee consumindo a janela de disponibilidade do mentor
+     * que cobre o horário, tudo na mesma transação.
+     */
+    Session bookSession(Session session, String menteeEmail);
+
     List<Session> getAllSessions();
+    Stream<Session> streamAllSessions();
     Session getSessionById(Long id);
-    Session updateSession(Long id, Session session);
+    List<Session> getSessionsByIds(Collection<Long> ids);
+    Session updateSession(Long id, Session session, String email);
     void deleteSession(Long id);
+
+    // Transições de status validadas no servidor
+    Session confirmSession(Long id, String email);
+    Session cancelSession(Long id, String email);
+    Session completeSession(Long id, String email);
 }
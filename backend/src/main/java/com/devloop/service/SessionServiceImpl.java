@@ -1,11 +1,29 @@
 package com.devloop.service;
 
+import com.devloop.entity.Availability;
 import com.devloop.entity.Session;
+import com.devloop.entity.SessionStatus;
+import com.devloop.entity.User;
+import com.devloop.event.DomainEvent;
+import com.devloop.event.DomainEventPublisher;
+import com.devloop.event.DomainEventType;
+import com.devloop.repository.AvailabilityRepository;
 import com.devloop.repository.SessionRepository;
+import com.devloop.repository.UserRepository;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 public class SessionServiceImpl implements SessionService {
@@ -13,30 +31,219 @@ public class SessionServiceImpl implements SessionService {
     @Autowired
     private SessionRepository sessionRepository;
 
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
     @Override
+    @Transactional
     public Session createSession(Session session) {
-        return sessionRepository.save(session);
+        // Toda sessão nasce pendente; o status enviado pelo cliente é ignorado
+        session.setStatus(SessionStatus.PENDING);
+        session.setVersion(null);
+        Session saved = sessionRepository.save(session);
+        publish(DomainEventType.SESSION_BOOKED, saved);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Session bookSession(Session session, String menteeEmail) {
+        if (session.getMentor() == null || session.getMentor().getId() == null || session.getScheduledTime() == null) {
+            throw new IllegalArgumentException("Informe o mentor e o horário da sessão");
+        }
+        User mentee = userRepository.findByEmail(menteeEmail).orElseThrow();
+        User mentor = userRepository.findById(session.getMentor().getId()).orElseThrow();
+
+        // A janela fica travada até o commit: duas reservas do mesmo horário não consomem o mesmo slot
+        Availability slot = availabilityRepository.findCoveringForUpdate(mentor.getId(), session.getScheduledTime())
+            .stream()
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("O mentor não tem disponibilidade nesse horário"));
+
+        // Remove a disponibilidade usada, guardando a janela para devolvê-la em caso de cancelamento
+        session.setMentor(mentor);
+        session.setMentee(mentee);
+        session.setSlotStart(slot.getStart());
+        session.setSlotEnd(slot.getEndTime());
+        availabilityRepository.delete(slot);
+        return withParticipants(createSession(session));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Session> getAllSessions() {
-        return sessionRepository.findAll();
+        List<Session> sessions = sessionRepository.findAll();
+        sessions.forEach(this::withParticipants);
+        return sessions;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Stream<Session> streamAllSessions() {
+        return sessionRepository.streamAll();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Session getSessionById(Long id) {
-        return sessionRepository.findById(id).orElseThrow();
+        return withParticipants(load(id));
     }
 
     @Override
-    public Session updateSession(Long id, Session session) {
-        Session existing = getSessionById(id);
-        // Adapte os campos conforme sua entidade Session
-        return sessionRepository.save(existing);
+    @Transactional(readOnly = true)
+    public List<Session> getSessionsByIds(Collection<Long> ids) {
+        List<Session> sessions = sessionRepository.findAllById(ids);
+        sessions.forEach(this::withParticipants);
+        return sessions;
     }
 
     @Override
+    @Transactional
+    public Session updateSession(Long id, Session session, String email) {
+        Session existing = load(id);
+        checkParticipant(existing, email);
+        // O cliente envia a versão que leu; se mudou desde então, a atualização é rejeitada
+        if (session.getVersion() != null && !session.getVersion().equals(existing.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Session.class, id);
+        }
+        if (session.getScheduledTime() != null && !session.getScheduledTime().equals(existing.getScheduledTime())) {
+            if (existing.getStatus().isTerminal()) {
+                throw new IllegalStateException("Não é possível reagendar uma sessão " + existing.getStatus());
+            }
+            existing.setScheduledTime(session.getScheduledTime());
+            sessionRepository.clearReminderSentAt(id);
+        }
+        // Mudança de status pelo PUT passa pelas mesmas regras de papel dos endpoints de transição
+        boolean statusChanged = session.getStatus() != null && session.getStatus() != existing.getStatus();
+        if (statusChanged) {
+            checkTransitionActor(existing, session.getStatus(), email);
+            applyTransition(existing, session.getStatus());
+        }
+        Session saved = sessionRepository.save(existing);
+        publish(statusChanged ? DomainEventType.SESSION_STATUS_CHANGED : DomainEventType.SESSION_UPDATED, saved);
+        return withParticipants(saved);
+    }
+
+    @Override
+    @Transactional
     public void deleteSession(Long id) {
+        sessionRepository.findById(id).ifPresent(session -> publish(DomainEventType.SESSION_DELETED, session));
         sessionRepository.deleteById(id);
     }
+
+    @Override
+    @Transactional
+    public Session confirmSession(Long id, String email) {
+        Session session = load(id);
+        checkTransitionActor(session, SessionStatus.CONFIRMED, email);
+        return transition(session, SessionStatus.CONFIRMED);
+    }
+
+    @Override
+    @Transactional
+    public Session cancelSession(Long id, String email) {
+        Session session = load(id);
+        checkTransitionActor(session, SessionStatus.CANCELLED, email);
+        return transition(session, SessionStatus.CANCELLED);
+    }
+
+    @Override
+    @Transactional
+    public Session completeSession(Long id, String email) {
+        Session session = load(id);
+        checkTransitionActor(session, SessionStatus.COMPLETED, email);
+        return transition(session, SessionStatus.COMPLETED);
+    }
+
+    private Session transition(Session session, SessionStatus target) {
+        applyTransition(session, target);
+        Session saved = sessionRepository.save(session);
+        publish(DomainEventType.SESSION_STATUS_CHANGED, saved);
+        return withParticipants(saved);
+    }
+
+    private Session load(Long id) {
+        return sessionRepository.findById(id).orElseThrow();
+    }
+
+    // A sessão é serializada com os participantes completos; sem open-in-view, as skills são lidas aqui
+    private Session withParticipants(Session session) {
+        if (session.getMentor() != null) {
+            Hibernate.initialize(session.getMentor().getSkillSet());
+        }
+        if (session.getMentee() != null) {
+            Hibernate.initialize(session.getMentee().getSkillSet());
+        }
+        return session;
+    }
+
+    private void applyTransition(Session session, SessionStatus target) {
+        SessionStatus current = session.getStatus();
+        if (!current.canTransitionTo(target)) {
+            throw new IllegalStateException("Transição de status inválida: " + current + " -> " + target);
+        }
+        session.setStatus(target);
+        if (target == SessionStatus.CANCELLED) {
+            releaseSlot(session);
+        }
+    }
+
+    // Devolve à agenda do mentor a janela consumida no agendamento
+    private void releaseSlot(Session session) {
+        LocalDateTime start = session.getSlotStart() != null ? session.getSlotStart() : session.getScheduledTime();
+        LocalDateTime end = session.getSlotEnd() != null
+                ? session.getSlotEnd()
+                : session.getScheduledTime().plusMinutes(Session.DEFAULT_DURATION_MINUTES);
+        if (!end.isAfter(LocalDateTime.now())) {
+            return;
+        }
+        Availability availability = new Availability();
+        availability.setMentor(session.getMentor());
+        availability.setStart(start);
+        availability.setEndTime(end);
+        availability.setDayOfWeek(start.getDayOfWeek());
+        availabilityRepository.save(availability);
+    }
+
+    // Apenas o mentor confirma a sessão; as demais transições exigem ser participante
+    private void checkTransitionActor(Session session, SessionStatus target, String email) {
+        if (target == SessionStatus.CONFIRMED) {
+            if (!session.getMentor().getEmail().equals(email)) {
+                throw new AccessDeniedException("Apenas o mentor pode confirmar esta sessão.");
+            }
+            return;
+        }
+        checkParticipant(session, email);
+    }
+
+    private void checkParticipant(Session session, String email) {
+        if (!session.getMentor().getEmail().equals(email) && !session.getMentee().getEmail().equals(email)) {
+            throw new AccessDeniedException("Você não participa desta sessão.");
+        }
+    }
+
+    // Cache do dashboard e notificações são tratados pelos listeners, após o commit
+    private void publish(DomainEventType type, Session session) {
+        Long mentorId = session.getMentor() != null ? session.getMentor().getId() : null;
+        Long menteeId = session.getMentee() != null ? session.getMentee().getId() : null;
+        List<Long> userIds = new ArrayList<>();
+        if (mentorId != null) {
+            userIds.add(mentorId);
+        }
+        if (menteeId != null) {
+            userIds.add(menteeId);
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(DomainEvent.USER_IDS, userIds);
+        attributes.put("mentorId", mentorId);
+        attributes.put("menteeId", menteeId);
+        attributes.put("status", session.getStatus() != null ? session.getStatus().name() : null);
+        domainEventPublisher.publish(type, session.getId(), attributes);
+    }
 }
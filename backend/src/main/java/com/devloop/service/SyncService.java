@@ -0,0 +1,21 @@
+package com.devloop.service;
+
+import com.devloop.dto.SyncDto;
+
+public interface SyncService {
+
+    /**
+     * A versão do cliente é anterior às entradas já removidas do change_log: é preciso recarregar tudo
+     */
+    class ChangesPrunedException extends RuntimeException {
+        public ChangesPrunedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Alterações visíveis ao usuário desde a versão; sem versão, devolve só a versão atual,
+     * que o cliente obtém antes da carga completa.
+     */
+    SyncDto getChanges(String email, Long since, Long mentorId);
+}
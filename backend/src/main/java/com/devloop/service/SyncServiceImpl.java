@@ -0,0 +1,114 @@
+package com.devloop.service;
+
+import com.devloop.dto.AvailabilitySyncDto;
+import com.devloop.dto.ReviewDto;
+import com.devloop.dto.SessionSyncDto;
+import com.devloop.dto.SyncDto;
+import com.devloop.entity.Availability;
+import com.devloop.entity.Session;
+import com.devloop.repository.ChangeLogRepository;
+import com.devloop.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class SyncServiceImpl implements SyncService {
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    // Um único snapshot: a versão, o log e os registros carregados são consistentes entre si
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncDto getChanges(String email, Long since, Long mentorId) {
+        SyncDto result = new SyncDto(changeLogRepository.currentVersion());
+        if (since == null) {
+            return result;
+        }
+        if (since < 0) {
+            throw new IllegalArgumentException("Versão inválida: " + since);
+        }
+        if (since < changeLogRepository.prunedBefore()) {
+            throw new ChangesPrunedException("Versão " + since + " anterior ao histórico retido; recarregue os dados");
+        }
+
+        Long userId = userRepository.findIdentityByEmail(email).orElseThrow().getId();
+        List<ChangeLogRepository.Change> changes = changeLogRepository.findChanges(since, userId, mentorId);
+
+        fill(result.getSessions(), changes, ChangeLogRepository.SESSIONS,
+            ids -> sessionService.getSessionsByIds(ids).stream().map(this::toDto).collect(Collectors.toList()),
+            SessionSyncDto::getId);
+        fill(result.getAvailabilities(), changes, ChangeLogRepository.AVAILABILITIES,
+            ids -> availabilityService.getAvailabilitiesByIds(ids).stream().map(this::toDto).collect(Collectors.toList()),
+            AvailabilitySyncDto::getId);
+        fill(result.getReviews(), changes, ChangeLogRepository.REVIEWS,
+            reviewService::getReviewsByIds, ReviewDto::getId);
+        return result;
+    }
+
+    private <T> void fill(SyncDto.Changes<T> target, List<ChangeLogRepository.Change> changes, String entity,
+                          Function<Set<Long>, List<T>> loader, Function<T, Long> idOf) {
+        Set<Long> upsertedIds = changes.stream()
+            .filter(change -> change.getEntity().equals(entity) && !change.isDeleted())
+            .map(ChangeLogRepository.Change::getEntityId)
+            .collect(Collectors.toSet());
+        List<Long> deleted = changes.stream()
+            .filter(change -> change.getEntity().equals(entity) && change.isDeleted())
+            .map(ChangeLogRepository.Change::getEntityId)
+            .collect(Collectors.toCollection(ArrayList::new));
+        if (!upsertedIds.isEmpty()) {
+            List<T> loaded = loader.apply(upsertedIds);
+            target.setUpserted(loaded);
+            // Defensivo: um id registrado como alteração que não existe mais é tratado como removido
+            Set<Long> found = loaded.stream().map(idOf).collect(Collectors.toSet());
+            upsertedIds.stream().filter(id -> !found.contains(id)).forEach(deleted::add);
+        }
+        target.setDeleted(deleted);
+    }
+
+    // Entidades não saem no sync: o User aninhado levaria hash de senha e foto em base64
+    private SessionSyncDto toDto(Session session) {
+        SessionSyncDto dto = new SessionSyncDto();
+        dto.setId(session.getId());
+        dto.setMentorId(session.getMentor() != null ? session.getMentor().getId() : null);
+        dto.setMenteeId(session.getMentee() != null ? session.getMentee().getId() : null);
+        dto.setScheduledTime(session.getScheduledTime());
+        dto.setSlotStart(session.getSlotStart());
+        dto.setSlotEnd(session.getSlotEnd());
+        dto.setStatus(session.getStatus() != null ? session.getStatus().name() : null);
+        dto.setVersion(session.getVersion());
+        return dto;
+    }
+
+    private AvailabilitySyncDto toDto(Availability availability) {
+        AvailabilitySyncDto dto = new AvailabilitySyncDto();
+        dto.setId(availability.getId());
+        dto.setMentorId(availability.getMentor() != null ? availability.getMentor().getId() : null);
+        dto.setStart(availability.getStart());
+        dto.setEndTime(availability.getEndTime());
+        dto.setDayOfWeek(availability.getDayOfWeek());
+        dto.setTimeSlots(availability.getTimeSlots() != null ? new ArrayList<>(availability.getTimeSlots()) : null);
+        dto.setVersion(availability.getVersion());
+        return dto;
+    }
+}
@@ -0,0 +1,32 @@
+package com.devloop.service;
+
+import com.devloop.dto.AuthTokenDto;
+
+public interface TokenService {
+
+    /**
+     * Refresh token inexistente, expirado, revogado ou já usado
+     */
+    class InvalidRefreshTokenException extends RuntimeException {
+        public InvalidRefreshTokenException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Emite um par de tokens para um login recém-verificado, abrindo uma nova família de refresh tokens
+     */
+    AuthTokenDto issue(Long userId, String email, String role);
+
+    /**
+     * Troca o refresh token por um novo par. Reapresentar um token já usado revoga a família inteira.
+     */
+    AuthTokenDto refresh(String refreshToken);
+
+    void revoke(String refreshToken);
+
+    /**
+     * Consulta só a memória: usada a cada requisição autenticada
+     */
+    boolean isFamilyRevoked(String familyId);
+}
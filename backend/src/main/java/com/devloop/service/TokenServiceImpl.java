@@ -0,0 +1,204 @@
+package com.devloop.service;
+
+import com.devloop.dto.AuthTokenDto;
+import com.devloop.repository.RefreshTokenRepository;
+import com.devloop.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access tokens curtos e refresh tokens rotativos.
+ *
+ * A renovação é um único UPDATE ... RETURNING sobre o hash indexado, sem BCrypt.
+ * À frente do banco ficam dois mapas concorrentes: hashes já rotacionados por esta instância
+ * (reuso detectado sem leitura) e famílias revogadas, consultadas pelo filtro JWT a cada
+ * requisição. As revogações das outras instâncias chegam pela leitura periódica.
+ */
+@Service
+public class TokenServiceImpl implements TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenServiceImpl.class);
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${jwt.refresh-expiration-days:30}")
+    private long refreshExpirationDays;
+
+    @Value("${devloop.auth.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    // hash do refresh token rotacionado -> família; vive até o token expirar
+    private final Map<String, CachedHash> usedHashes = new ConcurrentHashMap<>();
+    // família revogada -> instante (ms) em que o último access token dela expira
+    private final Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+    private volatile LocalDateTime revocationsSyncedAt;
+
+    private final Counter refreshed;
+    private final Counter rejected;
+    private final Counter reuseDetected;
+
+    public TokenServiceImpl(MeterRegistry meterRegistry) {
+        this.refreshed = meterRegistry.counter("devloop.auth.refresh", "outcome", "ok");
+        this.rejected = meterRegistry.counter("devloop.auth.refresh", "outcome", "rejected");
+        this.reuseDetected = meterRegistry.counter("devloop.auth.refresh", "outcome", "reuse");
+    }
+
+    @Override
+    @Transactional
+    public AuthTokenDto issue(Long userId, String email, String role) {
+        return issue(userId, email, role, UUID.randomUUID());
+    }
+
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AuthTokenDto refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new InvalidRefreshTokenException("Refresh token ausente");
+        }
+        String hash = hash(refreshToken);
+
+        CachedHash used = usedHashes.get(hash);
+        if (used != null) {
+            revokeReusedFamily(used.familyId);
+        }
+
+        Optional<RefreshTokenRepository.Consumed> consumed = refreshTokenRepository.consume(hash);
+        if (consumed.isEmpty()) {
+            // Token usado em outra instância e reapresentado: a família inteira deixa de valer
+            refreshTokenRepository.findFamilyOfUsed(hash).ifPresent(this::revokeReusedFamily);
+            rejected.increment();
+            throw new InvalidRefreshTokenException("Refresh token inválido ou expirado");
+        }
+
+        RefreshTokenRepository.Consumed owner = consumed.get();
+        usedHashes.put(hash, new CachedHash(owner.getFamilyId(), expiryMillis()));
+        refreshed.increment();
+        return issue(owner.getUserId(), owner.getEmail(), owner.getRole(), owner.getFamilyId());
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findFamily(hash(refreshToken)).ifPresent(familyId -> {
+            refreshTokenRepository.revokeFamily(familyId);
+            markRevoked(familyId);
+        });
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        return familyId != null && revokedFamilies.containsKey(familyId);
+    }
+
+    /**
+     * Traz as revogações feitas por outras instâncias. Um access token de família revogada
+     * continua aceito aqui por no máximo um intervalo desta leitura.
+     */
+    @Scheduled(fixedDelayString = "${devloop.auth.revocation-poll-ms:15000}")
+    public void syncRevocations() {
+        LocalDateTime since = revocationsSyncedAt;
+        if (since == null) {
+            // Na partida, tudo que foi revogado dentro da validade de um access token
+            since = LocalDateTime.now().minusSeconds(jwtUtil.getExpirationSeconds());
+        }
+        // A margem cobre transações confirmadas com revoked_at anterior à última leitura
+        revocationsSyncedAt = LocalDateTime.now().minusSeconds(5);
+        refreshTokenRepository.findFamiliesRevokedSince(since.minusSeconds(5)).forEach(this::markRevoked);
+    }
+
+    @Scheduled(fixedDelayString = "${devloop.auth.purge-interval-ms:3600000}",
+               initialDelayString = "${devloop.auth.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        usedHashes.values().removeIf(entry -> entry.expiresAtMillis < now);
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt < now);
+
+        int deleted;
+        int total = 0;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now(), purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        if (total > 0) {
+            log.info("Refresh tokens expirados removidos: {}", total);
+        }
+    }
+
+    private AuthTokenDto issue(Long userId, String email, String role, UUID familyId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.insert(hash(refreshToken), userId, familyId,
+            LocalDateTime.now().plusDays(refreshExpirationDays));
+        String accessToken = jwtUtil.generateAccessToken(userId, email, role, familyId.toString());
+        return new AuthTokenDto(accessToken, refreshToken, jwtUtil.getExpirationSeconds());
+    }
+
+    private void revokeReusedFamily(UUID familyId) {
+        reuseDetected.increment();
+        log.warn("Refresh token reutilizado; família {} revogada", familyId);
+        refreshTokenRepository.revokeFamily(familyId);
+        markRevoked(familyId);
+        throw new InvalidRefreshTokenException("Refresh token já utilizado");
+    }
+
+    private void markRevoked(UUID familyId) {
+        // Basta lembrar enquanto algum access token da família ainda pode estar válido
+        revokedFamilies.put(familyId.toString(), System.currentTimeMillis() + jwtUtil.getExpirationSeconds() * 1000);
+    }
+
+    private long expiryMillis() {
+        return System.currentTimeMillis() + refreshExpirationDays * 24 * 60 * 60 * 1000;
+    }
+
+    // Tokens têm 256 bits aleatórios: um SHA-256 sem sal basta e permite busca por índice
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static final class CachedHash {
+        final UUID familyId;
+        final long expiresAtMillis;
+
+        CachedHash(UUID familyId, long expiresAtMillis) {
+            this.familyId = familyId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
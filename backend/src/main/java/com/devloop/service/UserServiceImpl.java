@@ -2,14 +2,23 @@ package com.devloop.service;
 
 import com.devloop.dto.PasswordUpdateDto;
 import com.devloop.dto.UserProfileDto;
+import com.devloop.entity.Skill;
 import com.devloop.entity.User;
+import com.devloop.event.DomainEventPublisher;
+import com.devloop.event.DomainEventType;
+import com.devloop.repository.SkillRepository;
 import com.devloop.repository.UserRepository;
+import com.devloop.search.SkillDictionary;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class UserServiceImpl implements UserService {
@@ -20,32 +29,58 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
     @Override
+    @Transactional(readOnly = true)
     public List<User> findAll() {
-        return userRepository.findAll();
+        List<User> users = userRepository.findAll();
+        users.forEach(user -> Hibernate.initialize(user.getSkillSet()));
+        return users;
     }
 
+    // Todos os métodos devolvem o usuário para serialização, então as skills já vêm carregadas
     @Override
+    @Transactional(readOnly = true)
     public User findById(Long id) {
-        return userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        return userRepository.findWithSkillsById(id).orElseThrow(() -> new RuntimeException("User not found with id: " + id));
     }
 
     @Override
+    @Transactional
     public User save(User user) {
+        if (user.getRequestedSkills() != null) {
+            applySkills(user, user.getRequestedSkills());
+        }
         return userRepository.save(user);
     }
 
     @Override
+    @Transactional
     public User update(Long id, User user) {
         User existing = findById(id);
         existing.setName(user.getName());
         existing.setEmail(user.getEmail());
         existing.setPassword_hash(user.getPassword_hash());
         existing.setRole(user.getRole());
-        return userRepository.save(existing);
+        // Sem skills no corpo, as atuais são mantidas
+        if (user.getRequestedSkills() != null) {
+            applySkills(existing, user.getRequestedSkills());
+        }
+        User saved = userRepository.save(existing);
+        domainEventPublisher.publish(DomainEventType.PROFILE_UPDATED, saved.getId(), Map.of("userId", saved.getId()));
+        return saved;
     }
     
     @Override
+    @Transactional
     public User updateProfile(Long id, UserProfileDto profileDto) {
         User existing = findById(id);
         
@@ -67,17 +102,16 @@ public class UserServiceImpl implements UserService {
             existing.setExperience(profileDto.getExperience());
         }
         
-        if (profileDto.getSkills() != null) {
-            existing.setSkills(profileDto.getSkills());
-        } else {
-            // Garante que skills não seja null
-            existing.setSkills(new ArrayList<>());
-        }
+        // Sem skills no DTO, o perfil fica sem skills, como antes
+        applySkills(existing, profileDto.getSkills() != null ? profileDto.getSkills() : List.of());
         
-        return userRepository.save(existing);
+        User saved = userRepository.save(existing);
+        domainEventPublisher.publish(DomainEventType.PROFILE_UPDATED, saved.getId(), Map.of("userId", saved.getId()));
+        return saved;
     }
     
     @Override
+    @Transactional
     public boolean updatePassword(Long id, PasswordUpdateDto passwordDto) {
         User user = findById(id);
         
@@ -94,16 +128,26 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         userRepository.deleteById(id);
+        domainEventPublisher.publish(DomainEventType.USER_DELETED, id, Map.of("userId", id));
     }
     
     // Implementação do método que faltava
     @Override
+    @Transactional
     public User updateProfileImage(Long id, String imageData) {
         User user = findById(id);
         user.setProfileImage(imageData);
         return userRepository.save(user);
     }
-}
 
+    // Diferença aplicada no próprio Set: só as skills removidas e adicionadas geram SQL
+    private void applySkills(User user, List<String> skills) {
+        Set<Integer> skillIds = skillDictionary.resolve(skills);
+        Set<Skill> target = new HashSet<>(skillRepository.findAllById(skillIds));
+        user.getSkillSet().retainAll(target);
+        user.getSkillSet().addAll(target);
+    }
+}
@@ -0,0 +1,199 @@
+package com.devloop.signaling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Salas de chamada em memória, uma por sessão de mentoria. Nada é persistido:
+ * a sala guarda apenas quem está conectado (e-mail -> sessão STOMP) e some quando esvazia.
+ * O número de salas e de participantes por sala é limitado, e salas ociosas são descartadas.
+ */
+@Component
+public class SignalingRoomRegistry {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${devloop.signaling.max-rooms:10000}")
+    private int maxRooms;
+
+    @Value("${devloop.signaling.max-peers-per-room:2}")
+    private int maxPeersPerRoom;
+
+    @Value("${devloop.signaling.idle-timeout-ms:3600000}")
+    private long idleTimeoutMillis;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+    // Sessão STOMP -> salas em que entrou, para limpar tudo na desconexão
+    private final Map<String, Set<Long>> roomsByConnection = new ConcurrentHashMap<>();
+
+    /**
+     * Entra na sala da sessão; retorna os demais participantes já presentes.
+     */
+    public List<String> join(Long sessionId, String email, String connectionId) {
+        while (true) {
+            Room room = rooms.get(sessionId);
+            if (room == null) {
+                if (rooms.size() >= maxRooms) {
+                    throw new IllegalStateException("Limite de chamadas simultâneas atingido");
+                }
+                // Os participantes autorizados são lidos uma única vez, na criação da sala;
+                // quem não participa (ou sessão inexistente) é recusado antes de a sala existir
+                Set<String> allowed = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT u.email FROM sessions s JOIN users u ON u.id IN (s.mentor_id, s.mentee_id) WHERE s.id = ?",
+                    String.class, sessionId));
+                if (!allowed.contains(email)) {
+                    throw new AccessDeniedException("Você não participa desta sessão.");
+                }
+                room = rooms.computeIfAbsent(sessionId, id -> new Room(allowed));
+            }
+            synchronized (room) {
+                if (room.closed) {
+                    // A sala esvaziou e foi removida enquanto esperávamos o lock
+                    continue;
+                }
+                if (!room.allowed.contains(email)) {
+                    throw new AccessDeniedException("Você não participa desta sessão.");
+                }
+                if (!room.peers.containsKey(email) && room.peers.size() >= maxPeersPerRoom) {
+                    closeIfEmpty(sessionId, room);
+                    throw new IllegalStateException("A chamada já está completa");
+                }
+                List<String> others = new ArrayList<>(room.peers.keySet());
+                others.remove(email);
+                String previous = room.peers.put(email, connectionId);
+                if (previous != null && !previous.equals(connectionId)) {
+                    // Reentrou por outra conexão (outra aba): a antiga não responde mais por esta sala
+                    forgetConnection(previous, sessionId);
+                }
+                room.touch();
+                roomsByConnection.compute(connectionId, (id, joined) -> {
+                    Set<Long> sessions = joined != null ? joined : ConcurrentHashMap.newKeySet();
+                    sessions.add(sessionId);
+                    return sessions;
+                });
+                return others;
+            }
+        }
+    }
+
+    /**
+     * Remove o participante; retorna quem continua na sala (para avisar da saída).
+     */
+    public List<String> leave(Long sessionId, String email) {
+        Room room = rooms.get(sessionId);
+        if (room == null) {
+            return List.of();
+        }
+        synchronized (room) {
+            String connectionId = room.peers.remove(email);
+            if (connectionId != null) {
+                forgetConnection(connectionId, sessionId);
+            }
+            closeIfEmpty(sessionId, room);
+            return new ArrayList<>(room.peers.keySet());
+        }
+    }
+
+    /**
+     * Desconexão do WebSocket: sai de todas as salas daquela conexão.
+     * Retorna, por sessão, os participantes restantes.
+     */
+    public Map<Long, List<String>> disconnect(String connectionId, String email) {
+        Set<Long> joined = roomsByConnection.remove(connectionId);
+        Map<Long, List<String>> remaining = new LinkedHashMap<>();
+        if (joined == null || email == null) {
+            return remaining;
+        }
+        for (Long sessionId : joined) {
+            Room room = rooms.get(sessionId);
+            // Só sai se a entrada ainda for desta conexão (o usuário pode ter reentrado por outra aba)
+            if (room != null && connectionId.equals(room.peers.get(email))) {
+                remaining.put(sessionId, leave(sessionId, email));
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * O destino deve estar na mesma sala que o remetente; sem destino explícito,
+     * vale o único outro participante.
+     */
+    public String resolvePeer(Long sessionId, String from, String to) {
+        Room room = rooms.get(sessionId);
+        if (room == null) {
+            return null;
+        }
+        synchronized (room) {
+            if (!room.peers.containsKey(from)) {
+                return null;
+            }
+            room.touch();
+            if (to != null) {
+                return room.peers.containsKey(to) && !to.equals(from) ? to : null;
+            }
+            return room.peers.keySet().stream().filter(peer -> !peer.equals(from)).findFirst().orElse(null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${devloop.signaling.cleanup-ms:300000}")
+    public void evictIdleRooms() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        rooms.forEach((sessionId, room) -> {
+            synchronized (room) {
+                if (room.lastActivity < cutoff) {
+                    room.closed = true;
+                    rooms.remove(sessionId, room);
+                    room.peers.values().forEach(connectionId -> forgetConnection(connectionId, sessionId));
+                }
+            }
+        });
+    }
+
+    // Chamado com o lock da sala
+    private void closeIfEmpty(Long sessionId, Room room) {
+        if (room.peers.isEmpty()) {
+            room.closed = true;
+            rooms.remove(sessionId, room);
+        }
+    }
+
+    // Remove a sala do índice da conexão, e a conexão quando não resta nenhuma sala
+    private void forgetConnection(String connectionId, Long sessionId) {
+        roomsByConnection.computeIfPresent(connectionId, (id, joined) -> {
+            joined.remove(sessionId);
+            return joined.isEmpty() ? null : joined;
+        });
+    }
+
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    private static final class Room {
+        final Set<String> allowed;
+        final Map<String, String> peers = new LinkedHashMap<>();
+        volatile long lastActivity = System.currentTimeMillis();
+        boolean closed;
+
+        Room(Set<String> allowed) {
+            this.allowed = allowed;
+        }
+
+        void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.devloop.util;
+
+/**
+ * Gera ETags fracos a partir das versões das entidades.
+ * Fracos porque o corpo pode ser comprimido pelo servidor sem mudar o conteúdo.
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    public static String weak(String prefix, Object... parts) {
+        StringBuilder value = new StringBuilder(prefix);
+        for (Object part : parts) {
+            value.append('-').append(part);
+        }
+        return "W/\"" + value + "\"";
+    }
+}
@@ -0,0 +1,209 @@
+package com.devloop.util;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Timing wheel com hash: um array circular de buckets, cada um com uma lista duplamente encadeada
+ * de timeouts. Agendar e cancelar são O(1); uma única thread avança um tick por vez e entrega as
+ * chaves vencidas ao consumidor. Prazos além de uma volta guardam quantas voltas ainda faltam.
+ *
+ * Cada chave tem no máximo um timeout: agendar de novo substitui o anterior.
+ */
+public class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Bucket<K>[] buckets;
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private final Consumer<K> onExpire;
+    private final String threadName;
+    private final Clock clock;
+
+    private final long startMillis;
+    private long currentTick;
+    private volatile boolean running;
+    private Thread worker;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, Consumer<K> onExpire, String threadName) {
+        this(tickMillis, wheelSize, onExpire, threadName, Clock.systemUTC());
+    }
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(long tickMillis, int wheelSize, Consumer<K> onExpire, String threadName, Clock clock) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize deve ser potência de 2: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.onExpire = onExpire;
+        this.threadName = threadName;
+        this.clock = clock;
+        this.startMillis = clock.millis();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Agenda (ou reagenda) a chave para o instante dado, em epoch millis.
+     * Prazos já vencidos disparam no próximo tick.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        remove(key);
+        long target = Math.max(currentTick, (deadlineMillis - startMillis + tickMillis - 1) / tickMillis);
+        Node<K> node = new Node<>(key, (target - currentTick) / buckets.length);
+        buckets[(int) (target & mask)].add(node);
+        nodes.put(key, node);
+    }
+
+    public synchronized boolean cancel(K key) {
+        return remove(key);
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    private boolean remove(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.bucket.remove(node);
+        return true;
+    }
+
+    private void run() {
+        while (running) {
+            long wait = nextTickMillis() - clock.millis();
+            if (wait > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            expireDue();
+        }
+    }
+
+    /**
+     * Processa todos os ticks cujo instante já passou no relógio e entrega as chaves vencidas.
+     * Chamado pela thread do wheel; os testes chamam direto, com um relógio controlado.
+     */
+    void expireDue() {
+        while (true) {
+            List<K> expired;
+            synchronized (this) {
+                if (clock.millis() < nextTickMillis()) {
+                    return;
+                }
+                expired = advance();
+            }
+            for (K key : expired) {
+                try {
+                    onExpire.accept(key);
+                } catch (RuntimeException ignored) {
+                    // Falhas são tratadas pelo consumidor; a thread do wheel não pode morrer
+                }
+            }
+        }
+    }
+
+    private synchronized long nextTickMillis() {
+        return startMillis + currentTick * tickMillis;
+    }
+
+    private synchronized List<K> advance() {
+        List<K> expired = new ArrayList<>();
+        Bucket<K> bucket = buckets[(int) (currentTick & mask)];
+        Node<K> node = bucket.head;
+        while (node != null) {
+            Node<K> next = node.next;
+            if (node.remainingRounds == 0) {
+                bucket.remove(node);
+                nodes.remove(node.key);
+                expired.add(node.key);
+            } else {
+                node.remainingRounds--;
+            }
+            node = next;
+        }
+        currentTick++;
+        return expired;
+    }
+
+    private static final class Node<K> {
+        final K key;
+        long remainingRounds;
+        Bucket<K> bucket;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key, long remainingRounds) {
+            this.key = key;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+
+    private static final class Bucket<K> {
+        Node<K> head;
+        Node<K> tail;
+
+        void add(Node<K> node) {
+            node.bucket = this;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void remove(Node<K> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.devloop.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Serializa um Stream de entidades JPA diretamente na resposta como um array JSON,
+ * sem materializar a lista inteira: as linhas são lidas com fetch size do cursor,
+ * escritas uma a uma e o contexto de persistência é limpo a cada bloco.
+ */
+@Component
+public class JsonArrayStreamer {
+
+    private static final int FLUSH_EVERY = 500;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> StreamingResponseBody stream(Supplier<Stream<T>> source) {
+        return out -> {
+            // O corpo é escrito em outra thread, então a transação (e o cursor) são abertos aqui
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = source.get();
+                     JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    generator.writeStartArray();
+                    int written = 0;
+                    Iterator<T> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        generator.writeObject(iterator.next());
+                        if (++written % FLUSH_EVERY == 0) {
+                            generator.flush();
+                            entityManager.clear();
+                        }
+                    }
+                    generator.writeEndArray();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+}
@@ -12,27 +12,47 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String FAMILY_CLAIM = "fam";
+
     @Value("${jwt.secret}")
     private String secret;
 
-    @Value("${jwt.expiration}")
+    @Value("${jwt.access-expiration-seconds:900}")
     private long expiration;
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * Access token de vida curta. Papel e id do usuário vão no token, então a requisição
+     * autenticada não consulta o banco; a família liga o token ao refresh token que o gerou.
+     */
+    public String generateAccessToken(Long userId, String email, String role, String familyId) {
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
+                .setSubject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLE_CLAIM, role)
+                .claim(FAMILY_CLAIM, familyId)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
                 .signWith(SignatureAlgorithm.HS512, secret)
                 .compact();
     }
 
+    public long getExpirationSeconds() {
+        return expiration;
+    }
+
+    // Lança JwtException se a assinatura não conferir ou o token estiver expirado
+    public Claims parseClaims(String token) {
+        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody().getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
         return (username.equals(userDetails.getUsername()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.devloop.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Conjunto de token buckets em memória, sem locks no caminho quente.
+ *
+ * Cada bucket é implementado como GCRA (generic cell rate algorithm): guarda apenas o
+ * "theoretical arrival time" em um AtomicLong, atualizado por CAS. O mapa é um
+ * ConcurrentHashMap (internamente particionado), limitado a maxEntries; buckets
+ * ociosos (totalmente recarregados) são descartados sem perda de informação.
+ * Quando o limite é atingido, os buckets ociosos são descartados na hora (no máximo uma vez
+ * por segundo); se ainda assim não houver espaço, a chave nova cai em um de vários buckets de
+ * transbordo escolhido pelo hash da chave, para que um cliente abusivo não bloqueie todos os novatos.
+ */
+public class TokenBucketStore {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> overflow = new ConcurrentHashMap<>();
+    private final AtomicLong nextEvictionAt;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    // Potência de 2: a partição é escolhida por máscara sobre o hash da chave
+    private static final int OVERFLOW_SHARDS = 1024;
+    private static final long EVICTION_INTERVAL_NANOS = 1_000_000_000L;
+
+    public TokenBucketStore(int maxEntries) {
+        this(maxEntries, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock fonte de tempo monotônica em nanossegundos, como System.nanoTime
+     */
+    public TokenBucketStore(int maxEntries, LongSupplier nanoClock) {
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+        this.nextEvictionAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Tenta consumir um token.
+     *
+     * @return 0 se permitido, ou o tempo em nanossegundos até o próximo token disponível
+     */
+    public long tryConsume(String policy, String key, long intervalNanos, int burst) {
+        AtomicLong tat = bucketFor(policy, key);
+        long tolerance = intervalNanos * (burst - 1L);
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tat.get();
+            long base = current - now > 0 ? current : now;
+            long wait = base - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Remove os buckets cujo tempo teórico já passou: estão cheios e equivalem a um bucket novo.
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        return before - buckets.size();
+    }
+
+    // Limpeza fora do agendamento quando o mapa enche; só uma thread por intervalo faz a varredura
+    private boolean tryEvictIdle() {
+        long now = nanoClock.getAsLong();
+        long next = nextEvictionAt.get();
+        if (now - next < 0 || !nextEvictionAt.compareAndSet(next, now + EVICTION_INTERVAL_NANOS)) {
+            return false;
+        }
+        return evictIdle() > 0;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketFor(String policy, String key) {
+        String bucketKey = policy + '|' + key;
+        AtomicLong tat = buckets.get(bucketKey);
+        if (tat != null) {
+            return tat;
+        }
+        if (buckets.size() >= maxEntries && (!tryEvictIdle() || buckets.size() >= maxEntries)) {
+            int shard = spread(key.hashCode()) & (OVERFLOW_SHARDS - 1);
+            return overflow.computeIfAbsent(policy + '#' + shard, k -> new AtomicLong(nanoClock.getAsLong()));
+        }
+        AtomicLong created = new AtomicLong(nanoClock.getAsLong());
+        AtomicLong existing = buckets.putIfAbsent(bucketKey, created);
+        return existing != null ? existing : created;
+    }
+}
@@ -0,0 +1,92 @@
+package com.devloop.config;
+
+import com.devloop.util.TokenBucketStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(7));
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter();
+        ReflectionTestUtils.setField(filter, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "maxEntries", 100);
+        ReflectionTestUtils.setField(filter, "maxInFlight", 10);
+        // 10 por minuto: um token a cada 6 s, rajada de 5
+        ReflectionTestUtils.setField(filter, "authPerMinute", 10);
+        ReflectionTestUtils.setField(filter, "authBurst", 5);
+        ReflectionTestUtils.setField(filter, "userListPerMinute", 30);
+        ReflectionTestUtils.setField(filter, "userListBurst", 10);
+        ReflectionTestUtils.setField(filter, "defaultPerMinute", 300);
+        ReflectionTestUtils.setField(filter, "defaultBurst", 100);
+        ReflectionTestUtils.setField(filter, "ipPerMinute", 600);
+        ReflectionTestUtils.setField(filter, "ipBurst", 200);
+        filter.init();
+        ReflectionTestUtils.setField(filter, "buckets", new TokenBucketStore(100, now::get));
+    }
+
+    @Test
+    void authBurstIsAllowedThenRejectedWithRetryAfter() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse allowed = login();
+            assertEquals(200, allowed.getStatus(), "requisição " + i + " da rajada");
+            assertNull(allowed.getHeader("Retry-After"));
+        }
+
+        MockHttpServletResponse rejected = login();
+        assertEquals(429, rejected.getStatus());
+        assertEquals("6", rejected.getHeader("Retry-After"));
+    }
+
+    @Test
+    void retryAfterIsRoundedUpToWholeSeconds() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            login();
+        }
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(2500));
+
+        // Faltam 3,5 s
+        assertEquals("4", login().getHeader("Retry-After"));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(3500));
+        assertEquals(200, login().getStatus());
+    }
+
+    @Test
+    void otherClientsAreNotAffected() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            login();
+        }
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr("10.0.0.2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        assertEquals(200, response.getStatus());
+    }
+
+    private MockHttpServletResponse login() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,140 @@
+package com.devloop.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private ResultSet replicaLag;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        replicaLag = mock(ResultSet.class);
+        when(replicaLag.next()).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(ReadWriteRoutingDataSource.LAG_QUERY)).thenReturn(replicaLag);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenReturn(connection);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        routing = new ReadWriteRoutingDataSource(mock(DataSource.class), replicas, 1000, new SimpleMeterRegistry());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        RequestContextHolder.resetRequestAttributes();
+        DataSourceRouting.clear();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() throws SQLException {
+        replicaCaughtUp();
+        readOnlyTransaction();
+
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() throws SQLException {
+        replicaCaughtUp();
+        writeTransaction();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readAfterWritePinsRequestToPrimary() throws SQLException {
+        replicaCaughtUp();
+        writeTransaction();
+        routing.determineCurrentLookupKey();
+
+        readOnlyTransaction();
+        assertTrue(DataSourceRouting.isPrimaryPinned());
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void statementOutsideTransactionDoesNotPinRequest() throws SQLException {
+        replicaCaughtUp();
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+        assertFalse(DataSourceRouting.isPrimaryPinned());
+        readOnlyTransaction();
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void onPrimaryOverridesReadOnly() throws SQLException {
+        replicaCaughtUp();
+        readOnlyTransaction();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, DataSourceRouting.onPrimary(routing::determineCurrentLookupKey));
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        when(replicaLag.getDouble(1)).thenReturn(5000.0);
+        when(replicaLag.wasNull()).thenReturn(false);
+        routing.checkReplicaLag();
+        readOnlyTransaction();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void replicaWithUnknownLagFallsBackToPrimary() throws SQLException {
+        replicaCaughtUp();
+        // Receiver desconectado: a consulta devolve NULL, não 0
+        when(replicaLag.getDouble(1)).thenReturn(0.0);
+        when(replicaLag.wasNull()).thenReturn(true);
+        routing.checkReplicaLag();
+        readOnlyTransaction();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    private void replicaCaughtUp() throws SQLException {
+        when(replicaLag.getDouble(1)).thenReturn(0.0);
+        when(replicaLag.wasNull()).thenReturn(false);
+        routing.checkReplicaLag();
+    }
+
+    private static void readOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private static void writeTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+}
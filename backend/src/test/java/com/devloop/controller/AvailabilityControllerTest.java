@@ -0,0 +1,53 @@
+package com.devloop.controller;
+
+import com.devloop.repository.AvailabilityRepository;
+import com.devloop.repository.UserRepository;
+import com.devloop.service.AvailabilityServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AvailabilityControllerTest {
+
+    private AvailabilityRepository availabilityRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findVersionById(99L)).thenReturn(Optional.empty());
+        availabilityRepository = mock(AvailabilityRepository.class);
+
+        AvailabilityServiceImpl availabilityService = new AvailabilityServiceImpl();
+        ReflectionTestUtils.setField(availabilityService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(availabilityService, "availabilityRepository", availabilityRepository);
+
+        AvailabilityController controller = new AvailabilityController();
+        ReflectionTestUtils.setField(controller, "userRepository", userRepository);
+        ReflectionTestUtils.setField(controller, "availabilityRepository", availabilityRepository);
+        ReflectionTestUtils.setField(controller, "availabilityService", availabilityService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void availabilitiesOfUnknownMentorReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/availabilities").param("mentorId", "99"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("Mentor não encontrado: 99"));
+
+        verify(availabilityRepository, never()).findWithSlotsByMentorId(anyLong());
+    }
+}
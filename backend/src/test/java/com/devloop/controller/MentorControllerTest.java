@@ -0,0 +1,49 @@
+package com.devloop.controller;
+
+import com.devloop.repository.UserRepository;
+import com.devloop.service.FreeBusyServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MentorControllerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findVersionById(99L)).thenReturn(Optional.empty());
+
+        FreeBusyServiceImpl freeBusyService = new FreeBusyServiceImpl(100);
+        ReflectionTestUtils.setField(freeBusyService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(freeBusyService, "maxRangeDays", 62);
+
+        MentorController controller = new MentorController();
+        ReflectionTestUtils.setField(controller, "freeBusyService", freeBusyService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void freeBusyOfUnknownMentorReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/mentors/99/freebusy"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("Mentor não encontrado: 99"));
+    }
+
+    @Test
+    void invalidGranularityStillReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/mentors/99/freebusy").param("granularity", "7m"))
+            .andExpect(status().isBadRequest());
+    }
+}
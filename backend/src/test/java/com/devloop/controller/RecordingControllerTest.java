@@ -0,0 +1,164 @@
+package com.devloop.controller;
+
+import com.devloop.entity.Recording;
+import com.devloop.entity.Session;
+import com.devloop.entity.User;
+import com.devloop.repository.RecordingRepository;
+import com.devloop.repository.SessionRepository;
+import com.devloop.repository.UserRepository;
+import com.devloop.service.RecordingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RecordingControllerTest {
+
+    private static final String UPLOADER = "ana@devloop.com";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path storage;
+
+    private Recording recording;
+    private RecordingRepository recordingRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User uploader = new User();
+        uploader.setId(2L);
+        uploader.setEmail(UPLOADER);
+        Session session = new Session();
+        session.setId(10L);
+
+        recording = new Recording();
+        recording.setId(1L);
+        recording.setSession(session);
+        recording.setUploader(uploader);
+        recording.setTotalSize(CONTENT.length);
+        recording.setUploadOffset(0);
+        recording.setStatus(Recording.Status.UPLOADING);
+        recording.setCreatedAt(LocalDateTime.now());
+
+        recordingRepository = mock(RecordingRepository.class);
+        when(recordingRepository.findById(1L)).thenReturn(Optional.of(recording));
+        when(recordingRepository.save(any(Recording.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RecordingServiceImpl recordingService = new RecordingServiceImpl();
+        ReflectionTestUtils.setField(recordingService, "recordingRepository", recordingRepository);
+        ReflectionTestUtils.setField(recordingService, "sessionRepository", mock(SessionRepository.class));
+        ReflectionTestUtils.setField(recordingService, "userRepository", mock(UserRepository.class));
+        ReflectionTestUtils.setField(recordingService, "storageDir", storage.toString());
+        ReflectionTestUtils.setField(recordingService, "maxSizeBytes", 1024L);
+        recordingService.init();
+
+        RecordingController controller = new RecordingController();
+        ReflectionTestUtils.setField(controller, "recordingService", recordingService);
+        ReflectionTestUtils.setField(controller, "maxConcurrentUploads", 2);
+        controller.init();
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void chunksWithValidChecksumsCompleteTheUpload() throws Exception {
+        append(0, slice(0, 4), checksum(slice(0, 4)))
+            .andExpect(status().isNoContent())
+            .andExpect(header().string("Upload-Offset", "4"));
+        append(4, slice(4, 10), checksum(slice(4, 10)))
+            .andExpect(status().isNoContent())
+            .andExpect(header().string("Upload-Offset", "10"));
+
+        assertEquals(Recording.Status.COMPLETE, recording.getStatus());
+        assertNotNull(recording.getSha256());
+        assertArrayEquals(CONTENT, Files.readAllBytes(storage.resolve("1.bin")));
+    }
+
+    @Test
+    void offsetMismatchReturnsConflict() throws Exception {
+        append(0, slice(0, 4), null).andExpect(status().isNoContent());
+
+        append(2, slice(2, 6), null)
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").exists());
+
+        assertEquals(4, recording.getUploadOffset());
+    }
+
+    @Test
+    void checksumMismatchReturns460AndKeepsTheOffset() throws Exception {
+        append(0, slice(0, 4), checksum("outro".getBytes(StandardCharsets.US_ASCII)))
+            .andExpect(status().is(460))
+            .andExpect(jsonPath("$.error").exists());
+
+        assertEquals(0, recording.getUploadOffset());
+        verify(recordingRepository, never()).save(any());
+
+        // O cliente reenvia o mesmo trecho a partir do mesmo offset
+        append(0, slice(0, 4), checksum(slice(0, 4)))
+            .andExpect(status().isNoContent())
+            .andExpect(header().string("Upload-Offset", "4"));
+    }
+
+    @Test
+    void bodyPastUploadLengthIsRejected() throws Exception {
+        append(0, slice(0, 8), null).andExpect(status().isNoContent());
+
+        append(8, "01234".getBytes(StandardCharsets.US_ASCII), null)
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").exists());
+
+        assertEquals(8, recording.getUploadOffset());
+        assertEquals(Recording.Status.UPLOADING, recording.getStatus());
+    }
+
+    private ResultActions append(long offset, byte[] body, String checksum) throws Exception {
+        MockHttpServletRequestBuilder request = patch("/api/recordings/1")
+            .principal(new UsernamePasswordAuthenticationToken(UPLOADER, null, List.of()))
+            .contentType("application/offset+octet-stream")
+            .header("Tus-Resumable", "1.0.0")
+            .header("Upload-Offset", offset)
+            .content(body);
+        if (checksum != null) {
+            request.header("Upload-Checksum", checksum);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private static byte[] slice(int from, int to) {
+        byte[] part = new byte[to - from];
+        System.arraycopy(CONTENT, from, part, 0, part.length);
+        return part;
+    }
+
+    private static String checksum(byte[] data) throws Exception {
+        return "sha256 " + Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+}
@@ -0,0 +1,89 @@
+package com.devloop.controller;
+
+import com.devloop.entity.Session;
+import com.devloop.entity.SessionStatus;
+import com.devloop.entity.User;
+import com.devloop.event.DomainEventPublisher;
+import com.devloop.repository.AvailabilityRepository;
+import com.devloop.repository.SessionRepository;
+import com.devloop.repository.UserRepository;
+import com.devloop.service.SessionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SessionControllerTest {
+
+    private static final String MENTEE = "mentee@devloop.com";
+
+    private Session existing;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        existing = new Session();
+        existing.setId(10L);
+        existing.setMentor(user(1L, "mentor@devloop.com"));
+        existing.setMentee(user(2L, MENTEE));
+        existing.setScheduledTime(LocalDateTime.now().plusDays(1));
+        existing.setStatus(SessionStatus.COMPLETED);
+        existing.setVersion(3L);
+
+        SessionRepository sessionRepository = mock(SessionRepository.class);
+        when(sessionRepository.findById(10L)).thenReturn(Optional.of(existing));
+        when(sessionRepository.save(any(Session.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SessionServiceImpl sessionService = new SessionServiceImpl();
+        ReflectionTestUtils.setField(sessionService, "sessionRepository", sessionRepository);
+        ReflectionTestUtils.setField(sessionService, "availabilityRepository", mock(AvailabilityRepository.class));
+        ReflectionTestUtils.setField(sessionService, "userRepository", mock(UserRepository.class));
+        ReflectionTestUtils.setField(sessionService, "domainEventPublisher", mock(DomainEventPublisher.class));
+
+        SessionController controller = new SessionController();
+        ReflectionTestUtils.setField(controller, "sessionService", sessionService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void staleVersionReturnsConflict() throws Exception {
+        mockMvc.perform(put("/sessions/10").principal(principal())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"version\": 2, \"status\": \"CANCELLED\"}"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void forbiddenTransitionReturnsConflict() throws Exception {
+        mockMvc.perform(post("/sessions/10/cancel").principal(principal()))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").exists());
+    }
+
+    private static UsernamePasswordAuthenticationToken principal() {
+        return new UsernamePasswordAuthenticationToken(MENTEE, null, List.of());
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -0,0 +1,165 @@
+package com.devloop.controller;
+
+import com.devloop.entity.Session;
+import com.devloop.entity.SessionStatus;
+import com.devloop.entity.User;
+import com.devloop.repository.ChangeLogRepository;
+import com.devloop.repository.UserRepository;
+import com.devloop.service.AvailabilityService;
+import com.devloop.service.ReviewService;
+import com.devloop.service.SessionService;
+import com.devloop.service.SyncServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SyncControllerTest {
+
+    private static final String EMAIL = "ana@devloop.com";
+    private static final long USER_ID = 7L;
+
+    private ChangeLogRepository changeLogRepository;
+    private SessionService sessionService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        changeLogRepository = mock(ChangeLogRepository.class);
+        when(changeLogRepository.currentVersion()).thenReturn(500L);
+        when(changeLogRepository.prunedBefore()).thenReturn(100L);
+
+        UserRepository.Identity identity = mock(UserRepository.Identity.class);
+        when(identity.getId()).thenReturn(USER_ID);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findIdentityByEmail(EMAIL)).thenReturn(Optional.of(identity));
+
+        sessionService = mock(SessionService.class);
+        AvailabilityService availabilityService = mock(AvailabilityService.class);
+        ReviewService reviewService = mock(ReviewService.class);
+
+        SyncServiceImpl syncService = new SyncServiceImpl();
+        ReflectionTestUtils.setField(syncService, "changeLogRepository", changeLogRepository);
+        ReflectionTestUtils.setField(syncService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(syncService, "sessionService", sessionService);
+        ReflectionTestUtils.setField(syncService, "availabilityService", availabilityService);
+        ReflectionTestUtils.setField(syncService, "reviewService", reviewService);
+
+        SyncController controller = new SyncController();
+        ReflectionTestUtils.setField(controller, "syncService", syncService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void withoutSinceReturnsOnlyTheVersion() throws Exception {
+        mockMvc.perform(get("/api/sync").principal(principal()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(SyncController.VERSION_HEADER, "500"))
+            .andExpect(jsonPath("$.version").value(500))
+            .andExpect(jsonPath("$.sessions.upserted").isEmpty())
+            .andExpect(jsonPath("$.sessions.deleted").isEmpty());
+
+        verify(changeLogRepository, never()).findChanges(anyLong(), any(), any());
+    }
+
+    @Test
+    void prunedVersionReturnsGone() throws Exception {
+        mockMvc.perform(get("/api/sync").param("since", "99").principal(principal()))
+            .andExpect(status().isGone())
+            .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void negativeVersionReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/sync").param("since", "-1").principal(principal()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void noChangesReturnsNoContentWithVersion() throws Exception {
+        when(changeLogRepository.findChanges(200L, USER_ID, null)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/sync").param("since", "200").principal(principal()))
+            .andExpect(status().isNoContent())
+            .andExpect(header().string(SyncController.VERSION_HEADER, "500"));
+    }
+
+    @Test
+    void loggedDeletionAndVanishedUpsertAreReportedAsDeleted() throws Exception {
+        when(changeLogRepository.findChanges(200L, USER_ID, null)).thenReturn(List.of(
+            new ChangeLogRepository.Change(ChangeLogRepository.SESSIONS, 11L, true),
+            new ChangeLogRepository.Change(ChangeLogRepository.SESSIONS, 12L, false)));
+        // Registrada como alteração, mas removida antes da leitura
+        when(sessionService.getSessionsByIds(Set.of(12L))).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/sync").param("since", "200").principal(principal()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sessions.upserted").isEmpty())
+            .andExpect(jsonPath("$.sessions.deleted.length()").value(2))
+            .andExpect(jsonPath("$.sessions.deleted[0]").value(11))
+            .andExpect(jsonPath("$.sessions.deleted[1]").value(12));
+    }
+
+    @Test
+    void sessionsCarryParticipantIdsOnly() throws Exception {
+        when(changeLogRepository.findChanges(200L, USER_ID, null)).thenReturn(List.of(
+            new ChangeLogRepository.Change(ChangeLogRepository.SESSIONS, 12L, false)));
+        when(sessionService.getSessionsByIds(Set.of(12L))).thenReturn(List.of(session(12L)));
+
+        mockMvc.perform(get("/api/sync").param("since", "200").principal(principal()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sessions.upserted[0].id").value(12))
+            .andExpect(jsonPath("$.sessions.upserted[0].mentorId").value(3))
+            .andExpect(jsonPath("$.sessions.upserted[0].menteeId").value(USER_ID))
+            .andExpect(jsonPath("$.sessions.upserted[0].status").value("CONFIRMED"))
+            .andExpect(jsonPath("$.sessions.upserted[0].mentor").doesNotExist())
+            .andExpect(content().string(not(containsString("password_hash"))))
+            .andExpect(content().string(not(containsString("profileImage"))));
+    }
+
+    private static UsernamePasswordAuthenticationToken principal() {
+        return new UsernamePasswordAuthenticationToken(EMAIL, null, List.of());
+    }
+
+    private static Session session(Long id) {
+        User mentor = user(3L);
+        User mentee = user(USER_ID);
+        Session session = new Session();
+        session.setId(id);
+        session.setMentor(mentor);
+        session.setMentee(mentee);
+        session.setScheduledTime(LocalDateTime.of(2026, 10, 20, 14, 0));
+        session.setStatus(SessionStatus.CONFIRMED);
+        return session;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setPassword_hash("$2a$10$hash");
+        user.setProfileImage("data:image/png;base64,AAAA");
+        return user;
+    }
+}
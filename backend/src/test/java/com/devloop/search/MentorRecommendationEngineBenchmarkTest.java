@@ -0,0 +1,62 @@
+package com.devloop.search;
+
+import com.devloop.dto.MentorRecommendationDto;
+import com.devloop.search.MentorRecommendationEngineTest.FakeJdbcTemplate;
+import com.devloop.search.MentorRecommendationEngineTest.MentorRow;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latência da consulta com 50 mil mentores. Depende do relógio e da máquina, então fica fora do
+ * mvn test; rodar com mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+class MentorRecommendationEngineBenchmarkTest {
+
+    private static final int MENTORS = 50_000;
+    private static final int SKILLS = 300;
+    private static final int SKILLS_PER_MENTOR = 6;
+
+    @Test
+    void recommendsUnderTenMillisecondsWithFiftyThousandMentors() {
+        FakeJdbcTemplate jdbcTemplate = new FakeJdbcTemplate();
+        MentorRecommendationEngine engine = MentorRecommendationEngineTest.newEngine(jdbcTemplate);
+        Random random = new Random(42);
+        for (long id = 1; id <= MENTORS; id++) {
+            int[] skills = random.ints(0, SKILLS).distinct().limit(SKILLS_PER_MENTOR).toArray();
+            jdbcTemplate.mentors.put(id, new MentorRow(id, "Mentor " + id, "Engenheiro",
+                random.nextInt(5) + 1.0, random.nextInt(40), random.nextInt(1200), random.nextInt(100), skills));
+        }
+        engine.rebuild();
+
+        List<List<String>> queries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            queries.add(List.of("skill" + random.nextInt(SKILLS), "skill" + random.nextInt(SKILLS),
+                "skill" + random.nextInt(SKILLS)));
+        }
+        // Aquecimento do JIT antes de medir
+        for (int i = 0; i < 500; i++) {
+            engine.recommend(queries.get(i % queries.size()), null, 10);
+        }
+
+        long[] samples = new long[200];
+        for (int i = 0; i < samples.length; i++) {
+            long started = System.nanoTime();
+            List<MentorRecommendationDto> result = engine.recommend(queries.get(i % queries.size()), 1L, 10);
+            samples[i] = System.nanoTime() - started;
+            assertEquals(10, result.size());
+        }
+        Arrays.sort(samples);
+        long median = TimeUnit.NANOSECONDS.toMillis(samples[samples.length / 2]);
+        assertTrue(median < 10, "mediana de " + median + " ms para " + MENTORS + " mentores");
+    }
+}
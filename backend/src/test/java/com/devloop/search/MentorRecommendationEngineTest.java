@@ -0,0 +1,225 @@
+package com.devloop.search;
+
+import com.devloop.dto.MentorRecommendationDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MentorRecommendationEngineTest {
+
+    private FakeJdbcTemplate jdbcTemplate;
+    private MentorRecommendationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new FakeJdbcTemplate();
+        engine = newEngine(jdbcTemplate);
+    }
+
+    /**
+     * Engine com pesos fixos e um dicionário em que "skillN" tem id N
+     */
+    static MentorRecommendationEngine newEngine(JdbcTemplate jdbcTemplate) {
+        SkillDictionary skillDictionary = mock(SkillDictionary.class);
+        when(skillDictionary.lookup(anyString())).thenAnswer(invocation -> {
+            String skill = invocation.getArgument(0);
+            return skill.startsWith("skill") ? Integer.valueOf(skill.substring(5)) : null;
+        });
+        when(skillDictionary.name(anyInt())).thenAnswer(invocation -> "skill" + invocation.getArgument(0));
+
+        MentorRecommendationEngine engine = new MentorRecommendationEngine(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(engine, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(engine, "skillDictionary", skillDictionary);
+        ReflectionTestUtils.setField(engine, "horizonDays", 14L);
+        ReflectionTestUtils.setField(engine, "targetFreeMinutes", 600.0);
+        ReflectionTestUtils.setField(engine, "ratingPriorMean", 4.0);
+        ReflectionTestUtils.setField(engine, "ratingPriorWeight", 5.0);
+        ReflectionTestUtils.setField(engine, "skillWeight", 0.5);
+        ReflectionTestUtils.setField(engine, "ratingWeight", 0.25);
+        ReflectionTestUtils.setField(engine, "availabilityWeight", 0.15);
+        ReflectionTestUtils.setField(engine, "historyWeight", 0.1);
+        return engine;
+    }
+
+    @Test
+    void returnsTopKOrderedBySkillOverlapThenScore() {
+        // Mesmas notas, agenda e histórico: a ordem vem da sobreposição de skills
+        jdbcTemplate.mentors.put(1L, new MentorRow(1L, "Um", "", 4.0, 10, 300, 5, new int[] { 1 }));
+        jdbcTemplate.mentors.put(2L, new MentorRow(2L, "Dois", "", 4.0, 10, 300, 5, new int[] { 1, 2, 3 }));
+        jdbcTemplate.mentors.put(3L, new MentorRow(3L, "Três", "", 4.0, 10, 300, 5, new int[] { 1, 2 }));
+        jdbcTemplate.mentors.put(4L, new MentorRow(4L, "Quatro", "", 5.0, 40, 600, 50, new int[] { 9 }));
+        // Empate em skills com o 3, mas melhor avaliado
+        jdbcTemplate.mentors.put(5L, new MentorRow(5L, "Cinco", "", 5.0, 40, 300, 5, new int[] { 1, 2 }));
+        engine.rebuild();
+
+        List<MentorRecommendationDto> result = engine.recommend(List.of("skill1", "skill2", "skill3"), null, 3);
+
+        assertEquals(List.of(2L, 5L, 3L), result.stream().map(MentorRecommendationDto::getId).collect(Collectors.toList()));
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).getScore() >= result.get(i).getScore());
+        }
+    }
+
+    @Test
+    void skipsMentorsWithoutSharedSkillsAndTheRequester() {
+        jdbcTemplate.mentors.put(1L, new MentorRow(1L, "Um", "", 4.0, 10, 300, 5, new int[] { 1 }));
+        jdbcTemplate.mentors.put(2L, new MentorRow(2L, "Dois", "", 4.0, 10, 300, 5, new int[] { 1 }));
+        jdbcTemplate.mentors.put(3L, new MentorRow(3L, "Três", "", 4.0, 10, 300, 5, new int[] { 2 }));
+        engine.rebuild();
+
+        List<MentorRecommendationDto> result = engine.recommend(List.of("skill1"), 1L, 10);
+
+        assertEquals(List.of(2L), result.stream().map(MentorRecommendationDto::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void refreshDuringRebuildIsNotLost() {
+        jdbcTemplate.mentors.put(1L, new MentorRow(1L, "Ana", "Antes", 5.0, 10, 600, 5, new int[] { 1 }));
+        engine.rebuild();
+
+        // A carga completa lê a linha antiga; a alteração é confirmada e recalculada no meio dela
+        jdbcTemplate.duringFullLoad = () -> {
+            jdbcTemplate.mentors.put(1L, new MentorRow(1L, "Ana", "Depois", 5.0, 10, 600, 5, new int[] { 1 }));
+            engine.refresh(1L);
+        };
+        engine.rebuild();
+
+        List<MentorRecommendationDto> result = engine.recommend(List.of("skill1"), null, 5);
+        assertEquals(1, result.size());
+        assertEquals("Depois", result.get(0).getTitle());
+    }
+
+    @Test
+    void olderRefreshFinishingLastDoesNotOverwriteNewerOne() {
+        jdbcTemplate.mentors.put(1L, new MentorRow(1L, "Ana", "Antes", 5.0, 10, 600, 5, new int[] { 1 }));
+        engine.rebuild();
+
+        // O primeiro refresh já leu "Antes" quando outro, iniciado depois, lê e aplica "Depois"
+        jdbcTemplate.duringSingleLoad = () -> {
+            jdbcTemplate.mentors.put(1L, new MentorRow(1L, "Ana", "Depois", 5.0, 10, 600, 5, new int[] { 1 }));
+            engine.refresh(1L);
+        };
+        engine.refresh(1L);
+
+        List<MentorRecommendationDto> result = engine.recommend(List.of("skill1"), null, 5);
+        assertEquals(1, result.size());
+        assertEquals("Depois", result.get(0).getTitle());
+    }
+
+    static final class MentorRow {
+        final long id;
+        final String name;
+        final String title;
+        final double ratingAverage;
+        final int ratingCount;
+        final double freeMinutes;
+        final int completed;
+        final int[] skillIds;
+
+        MentorRow(long id, String name, String title, double ratingAverage, int ratingCount, double freeMinutes,
+                  int completed, int[] skillIds) {
+            this.id = id;
+            this.name = name;
+            this.title = title;
+            this.ratingAverage = ratingAverage;
+            this.ratingCount = ratingCount;
+            this.freeMinutes = freeMinutes;
+            this.completed = completed;
+            this.skillIds = skillIds;
+        }
+    }
+
+    /**
+     * Responde às duas consultas do engine (skills e features) a partir de um mapa em memória.
+     */
+    static final class FakeJdbcTemplate extends JdbcTemplate {
+        final Map<Long, MentorRow> mentors = new HashMap<>();
+        Runnable duringFullLoad;
+        Runnable duringSingleLoad;
+
+        @Override
+        public void query(String sql, RowCallbackHandler handler, Object... args) {
+            boolean single = sql.contains("u.id = ?");
+            List<MentorRow> rows = new ArrayList<>();
+            if (single) {
+                Long id = (Long) args[args.length - 1];
+                if (mentors.containsKey(id)) {
+                    rows.add(mentors.get(id));
+                }
+            } else {
+                rows.addAll(mentors.values());
+            }
+            boolean skills = sql.startsWith("SELECT s.user_id");
+            try {
+                for (MentorRow row : rows) {
+                    if (skills) {
+                        for (int skillId : row.skillIds) {
+                            handler.processRow(resultSet(Map.of("user_id", row.id, "skill_id", skillId)));
+                        }
+                    } else {
+                        Map<String, Object> columns = new HashMap<>();
+                        columns.put("id", row.id);
+                        columns.put("name", row.name);
+                        columns.put("title", row.title);
+                        columns.put("rating_average", row.ratingAverage);
+                        columns.put("rating_count", row.ratingCount);
+                        columns.put("free_minutes", row.freeMinutes);
+                        columns.put("completed", row.completed);
+                        handler.processRow(resultSet(columns));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            if (!single && !skills && duringFullLoad != null) {
+                Runnable action = duringFullLoad;
+                duringFullLoad = null;
+                action.run();
+            }
+            if (single && !skills && duringSingleLoad != null) {
+                Runnable action = duringSingleLoad;
+                duringSingleLoad = null;
+                action.run();
+            }
+        }
+
+        private static ResultSet resultSet(Map<String, Object> columns) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, methodArgs) -> {
+                    switch (method.getName()) {
+                        case "wasNull":
+                            return false;
+                        case "getLong":
+                            return ((Number) columns.get(methodArgs[0])).longValue();
+                        case "getInt":
+                            return ((Number) columns.get(methodArgs[0])).intValue();
+                        case "getDouble":
+                            return ((Number) columns.get(methodArgs[0])).doubleValue();
+                        case "getString":
+                            return (String) columns.get(methodArgs[0]);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        }
+    }
+}
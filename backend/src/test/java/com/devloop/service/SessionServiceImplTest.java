@@ -0,0 +1,184 @@
+package com.devloop.service;
+
+import com.devloop.entity.Session;
+import com.devloop.entity.SessionStatus;
+import com.devloop.entity.User;
+import com.devloop.event.DomainEventPublisher;
+import com.devloop.repository.AvailabilityRepository;
+import com.devloop.repository.SessionRepository;
+import com.devloop.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionServiceImplTest {
+
+    private static final String MENTOR = "mentor@devloop.com";
+    private static final String MENTEE = "mentee@devloop.com";
+    private static final String OUTSIDER = "outro@devloop.com";
+
+    // Tabela esperada, escrita à mão: tudo que não está aqui é proibido
+    private static final Set<String> ALLOWED = Set.of(
+        "PENDING->CONFIRMED", "PENDING->CANCELLED", "PENDING->EXPIRED",
+        "CONFIRMED->COMPLETED", "CONFIRMED->CANCELLED");
+
+    enum Outcome { OK, FORBIDDEN, CONFLICT }
+
+    private SessionRepository sessionRepository;
+    private DomainEventPublisher domainEventPublisher;
+    private SessionServiceImpl sessionService;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = mock(SessionRepository.class);
+        when(sessionRepository.save(any(Session.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        domainEventPublisher = mock(DomainEventPublisher.class);
+
+        sessionService = new SessionServiceImpl();
+        ReflectionTestUtils.setField(sessionService, "sessionRepository", sessionRepository);
+        ReflectionTestUtils.setField(sessionService, "availabilityRepository", mock(AvailabilityRepository.class));
+        ReflectionTestUtils.setField(sessionService, "userRepository", mock(UserRepository.class));
+        ReflectionTestUtils.setField(sessionService, "domainEventPublisher", domainEventPublisher);
+    }
+
+    static Stream<Arguments> transitions() {
+        List<Arguments> rows = new ArrayList<>();
+        for (SessionStatus from : SessionStatus.values()) {
+            for (SessionStatus to : SessionStatus.values()) {
+                if (from == to) {
+                    continue;
+                }
+                for (String actor : List.of(MENTOR, MENTEE, OUTSIDER)) {
+                    Outcome expected;
+                    if (actor.equals(OUTSIDER) || (to == SessionStatus.CONFIRMED && actor.equals(MENTEE))) {
+                        expected = Outcome.FORBIDDEN;
+                    } else if (ALLOWED.contains(from + "->" + to)) {
+                        expected = Outcome.OK;
+                    } else {
+                        expected = Outcome.CONFLICT;
+                    }
+                    rows.add(Arguments.of(from, to, actor, expected));
+                }
+            }
+        }
+        return rows.stream();
+    }
+
+    @ParameterizedTest(name = "{0} -> {1} por {2}: {3}")
+    @MethodSource("transitions")
+    void statusChangeThroughPut(SessionStatus from, SessionStatus to, String actor, Outcome expected) {
+        Session existing = session(from);
+        Session request = new Session();
+        request.setStatus(to);
+
+        assertOutcome(expected, existing, to, () -> sessionService.updateSession(existing.getId(), request, actor));
+    }
+
+    @ParameterizedTest(name = "{0} -> {1} por {2}: {3}")
+    @MethodSource("transitions")
+    void statusChangeThroughTransitionEndpoint(SessionStatus from, SessionStatus to, String actor, Outcome expected) {
+        Session existing = session(from);
+        Supplier<Session> call;
+        switch (to) {
+            case CONFIRMED:
+                call = () -> sessionService.confirmSession(existing.getId(), actor);
+                break;
+            case CANCELLED:
+                call = () -> sessionService.cancelSession(existing.getId(), actor);
+                break;
+            case COMPLETED:
+                call = () -> sessionService.completeSession(existing.getId(), actor);
+                break;
+            default:
+                // PENDING e EXPIRED não têm endpoint próprio
+                return;
+        }
+
+        assertOutcome(expected, existing, to, call);
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        Session existing = session(SessionStatus.PENDING);
+        existing.setVersion(3L);
+        Session request = new Session();
+        request.setVersion(2L);
+        request.setStatus(SessionStatus.CANCELLED);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> sessionService.updateSession(existing.getId(), request, MENTEE));
+        assertEquals(SessionStatus.PENDING, existing.getStatus());
+        verify(sessionRepository, never()).save(any());
+    }
+
+    @Test
+    void currentVersionIsAccepted() {
+        Session existing = session(SessionStatus.PENDING);
+        existing.setVersion(3L);
+        Session request = new Session();
+        request.setVersion(3L);
+        request.setStatus(SessionStatus.CANCELLED);
+
+        assertEquals(SessionStatus.CANCELLED, sessionService.updateSession(existing.getId(), request, MENTEE).getStatus());
+    }
+
+    private void assertOutcome(Outcome expected, Session existing, SessionStatus to, Supplier<Session> call) {
+        SessionStatus from = existing.getStatus();
+        switch (expected) {
+            case OK:
+                assertEquals(to, call.get().getStatus());
+                verify(sessionRepository).save(existing);
+                break;
+            case FORBIDDEN:
+                assertThrows(AccessDeniedException.class, call::get);
+                assertEquals(from, existing.getStatus());
+                verify(sessionRepository, never()).save(any());
+                break;
+            case CONFLICT:
+                assertThrows(IllegalStateException.class, call::get);
+                assertEquals(from, existing.getStatus());
+                verify(sessionRepository, never()).save(any());
+                break;
+        }
+    }
+
+    private Session session(SessionStatus status) {
+        Session session = new Session();
+        session.setId(10L);
+        session.setMentor(user(1L, MENTOR));
+        session.setMentee(user(2L, MENTEE));
+        session.setScheduledTime(LocalDateTime.now().plusDays(1));
+        session.setStatus(status);
+        session.setVersion(0L);
+        when(sessionRepository.findById(10L)).thenReturn(Optional.of(session));
+        return session;
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -0,0 +1,222 @@
+package com.devloop.service;
+
+import com.devloop.dto.AuthTokenDto;
+import com.devloop.repository.RefreshTokenRepository;
+import com.devloop.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenServiceImplTest {
+
+    private FakeRefreshTokenRepository repository;
+    private JwtUtil jwtUtil;
+    private TokenServiceImpl tokenService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FakeRefreshTokenRepository();
+        jwtUtil = mock(JwtUtil.class);
+        // O access token é a própria família: basta para os testes saberem qual família foi emitida
+        when(jwtUtil.generateAccessToken(anyLong(), anyString(), anyString(), anyString()))
+            .thenAnswer(invocation -> invocation.getArgument(3));
+        when(jwtUtil.getExpirationSeconds()).thenReturn(900L);
+        tokenService = newService();
+    }
+
+    @Test
+    void refreshRotatesTheToken() {
+        AuthTokenDto first = tokenService.issue(1L, "ana@devloop.com", "MENTEE");
+
+        AuthTokenDto second = tokenService.refresh(first.getRefreshToken());
+
+        assertNotEquals(first.getRefreshToken(), second.getRefreshToken());
+        assertEquals(first.getToken(), second.getToken());
+        assertFalse(tokenService.isFamilyRevoked(second.getToken()));
+    }
+
+    @Test
+    void rotatedTokenIsRejectedOnReuse() {
+        AuthTokenDto first = tokenService.issue(1L, "ana@devloop.com", "MENTEE");
+        tokenService.refresh(first.getRefreshToken());
+
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> tokenService.refresh(first.getRefreshToken()));
+    }
+
+    @Test
+    void reuseRevokesTheWholeFamily() {
+        AuthTokenDto first = tokenService.issue(1L, "ana@devloop.com", "MENTEE");
+        AuthTokenDto second = tokenService.refresh(first.getRefreshToken());
+        AuthTokenDto otherFamily = tokenService.issue(1L, "ana@devloop.com", "MENTEE");
+
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> tokenService.refresh(first.getRefreshToken()));
+
+        String family = first.getToken();
+        assertTrue(tokenService.isFamilyRevoked(family));
+        assertTrue(repository.isRevoked(UUID.fromString(family)));
+        // O token legítimo mais recente da família também deixa de valer
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> tokenService.refresh(second.getRefreshToken()));
+        // Outras sessões do mesmo usuário seguem válidas
+        assertFalse(tokenService.isFamilyRevoked(otherFamily.getToken()));
+        tokenService.refresh(otherFamily.getRefreshToken());
+    }
+
+    @Test
+    void reuseDetectedByAnotherInstanceRevokesTheFamily() {
+        AuthTokenDto first = tokenService.issue(1L, "ana@devloop.com", "MENTEE");
+        AuthTokenDto second = tokenService.refresh(first.getRefreshToken());
+
+        // Outra instância não tem o hash em memória: a reutilização vem do banco
+        TokenServiceImpl otherInstance = newService();
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> otherInstance.refresh(first.getRefreshToken()));
+
+        assertTrue(otherInstance.isFamilyRevoked(first.getToken()));
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> tokenService.refresh(second.getRefreshToken()));
+    }
+
+    @Test
+    void expiredTokenIsRejectedWithoutRevokingTheFamily() {
+        AuthTokenDto first = tokenService.issue(1L, "ana@devloop.com", "MENTEE");
+        repository.expireAll();
+
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> tokenService.refresh(first.getRefreshToken()));
+        assertFalse(tokenService.isFamilyRevoked(first.getToken()));
+    }
+
+    @Test
+    void unknownOrMissingTokenIsRejected() {
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> tokenService.refresh("desconhecido"));
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> tokenService.refresh(" "));
+    }
+
+    @Test
+    void logoutRevokesTheToken() {
+        AuthTokenDto first = tokenService.issue(1L, "ana@devloop.com", "MENTEE");
+
+        tokenService.revoke(first.getRefreshToken());
+
+        assertTrue(tokenService.isFamilyRevoked(first.getToken()));
+        assertThrows(TokenService.InvalidRefreshTokenException.class, () -> tokenService.refresh(first.getRefreshToken()));
+    }
+
+    @Test
+    void revocationsFromOtherInstancesAreSynced() {
+        AuthTokenDto first = tokenService.issue(1L, "ana@devloop.com", "MENTEE");
+        TokenServiceImpl otherInstance = newService();
+
+        tokenService.revoke(first.getRefreshToken());
+        assertFalse(otherInstance.isFamilyRevoked(first.getToken()));
+
+        otherInstance.syncRevocations();
+        assertTrue(otherInstance.isFamilyRevoked(first.getToken()));
+    }
+
+    private TokenServiceImpl newService() {
+        TokenServiceImpl service = new TokenServiceImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "refreshTokenRepository", repository);
+        ReflectionTestUtils.setField(service, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(service, "refreshExpirationDays", 30L);
+        ReflectionTestUtils.setField(service, "purgeBatchSize", 1000);
+        return service;
+    }
+
+    /**
+     * Tabela refresh_tokens em memória, com a mesma semântica dos comandos SQL
+     */
+    private static final class FakeRefreshTokenRepository extends RefreshTokenRepository {
+        private final Map<String, Row> rows = new HashMap<>();
+
+        @Override
+        public void insert(String tokenHash, Long userId, UUID familyId, LocalDateTime expiresAt) {
+            rows.put(tokenHash, new Row(userId, familyId, expiresAt));
+        }
+
+        @Override
+        public Optional<Consumed> consume(String tokenHash) {
+            Row row = rows.get(tokenHash);
+            if (row == null || row.usedAt != null || row.revokedAt != null || !row.expiresAt.isAfter(LocalDateTime.now())) {
+                return Optional.empty();
+            }
+            row.usedAt = LocalDateTime.now();
+            return Optional.of(new Consumed(row.userId, row.familyId, "ana@devloop.com", "MENTEE"));
+        }
+
+        @Override
+        public Optional<UUID> findFamilyOfUsed(String tokenHash) {
+            Row row = rows.get(tokenHash);
+            return row != null && row.usedAt != null ? Optional.of(row.familyId) : Optional.empty();
+        }
+
+        @Override
+        public Optional<UUID> findFamily(String tokenHash) {
+            return Optional.ofNullable(rows.get(tokenHash)).map(row -> row.familyId);
+        }
+
+        @Override
+        public int revokeFamily(UUID familyId) {
+            int revoked = 0;
+            for (Row row : rows.values()) {
+                if (row.familyId.equals(familyId) && row.revokedAt == null) {
+                    row.revokedAt = LocalDateTime.now();
+                    revoked++;
+                }
+            }
+            return revoked;
+        }
+
+        @Override
+        public List<UUID> findFamiliesRevokedSince(LocalDateTime since) {
+            return rows.values().stream()
+                .filter(row -> row.revokedAt != null && row.revokedAt.isAfter(since))
+                .map(row -> row.familyId)
+                .distinct()
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime cutoff, int batchSize) {
+            return 0;
+        }
+
+        boolean isRevoked(UUID familyId) {
+            return rows.values().stream().filter(row -> row.familyId.equals(familyId)).allMatch(row -> row.revokedAt != null);
+        }
+
+        void expireAll() {
+            rows.values().forEach(row -> row.expiresAt = LocalDateTime.now().minusSeconds(1));
+        }
+
+        private static final class Row {
+            final Long userId;
+            final UUID familyId;
+            LocalDateTime expiresAt;
+            LocalDateTime usedAt;
+            LocalDateTime revokedAt;
+
+            Row(Long userId, UUID familyId, LocalDateTime expiresAt) {
+                this.userId = userId;
+                this.familyId = familyId;
+                this.expiresAt = expiresAt;
+            }
+        }
+    }
+}
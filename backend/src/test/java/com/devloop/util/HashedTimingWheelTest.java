@@ -0,0 +1,143 @@
+package com.devloop.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+    private static final long TICK = 10L;
+    private static final int WHEEL_SIZE = 8;
+
+    private MutableClock clock;
+    // chave -> quantos ms após o início ela disparou
+    private Map<String, Long> fired;
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        fired = new HashMap<>();
+        wheel = new HashedTimingWheel<>(TICK, WHEEL_SIZE, key -> {
+            Long previous = fired.put(key, clock.millis() - START);
+            assertEquals(null, previous, "disparou duas vezes: " + key);
+        }, "test-wheel", clock);
+    }
+
+    @Test
+    void deadlineOnTickBoundaryFiresExactlyOnThatTick() {
+        wheel.schedule("a", START + 5 * TICK);
+
+        runUntil(5 * TICK - 1);
+        assertFalse(fired.containsKey("a"));
+
+        runUntil(5 * TICK);
+        assertEquals(5 * TICK, fired.get("a"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void deadlineBetweenTicksFiresOnTheNextTick() {
+        wheel.schedule("a", START + 4 * TICK + 1);
+
+        runUntil(8 * TICK);
+
+        assertEquals(5 * TICK, fired.get("a"));
+    }
+
+    @Test
+    void multiRoundDeadlineWaitsForItsRound() {
+        // Mesmo bucket (tick 4): "perto" na primeira volta, "longe" duas voltas depois
+        wheel.schedule("perto", START + 4 * TICK);
+        wheel.schedule("longe", START + (4 + 2 * WHEEL_SIZE) * TICK);
+
+        runUntil(3 * WHEEL_SIZE * TICK);
+
+        assertEquals(4 * TICK, fired.get("perto"));
+        assertEquals((4 + 2 * WHEEL_SIZE) * TICK, fired.get("longe"));
+    }
+
+    @Test
+    void roundsAreCountedFromTheCurrentTick() {
+        runUntil(3 * TICK);
+        // Agendado no tick 4, prazo no tick 11: cai no bucket 3, que já passou nesta volta
+        wheel.schedule("a", START + 11 * TICK);
+        // Prazo no tick 4 + 8: mesma posição do tick atual, uma volta inteira à frente
+        wheel.schedule("b", START + 12 * TICK);
+
+        runUntil(3 * WHEEL_SIZE * TICK);
+
+        assertEquals(11 * TICK, fired.get("a"));
+        assertEquals(12 * TICK, fired.get("b"));
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() {
+        wheel.schedule("a", START + 3 * TICK);
+        wheel.schedule("b", START + 3 * TICK);
+        runUntil(2 * TICK);
+
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        runUntil(2 * WHEEL_SIZE * TICK);
+
+        assertFalse(fired.containsKey("a"));
+        assertEquals(3 * TICK, fired.get("b"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void reschedulingReplacesThePreviousDeadline() {
+        wheel.schedule("adiado", START + 3 * TICK);
+        wheel.schedule("antecipado", START + 20 * TICK);
+
+        wheel.schedule("adiado", START + 12 * TICK);
+        wheel.schedule("antecipado", START + 2 * TICK);
+        assertEquals(2, wheel.size());
+
+        runUntil(3 * WHEEL_SIZE * TICK);
+
+        assertEquals(12 * TICK, fired.get("adiado"));
+        assertEquals(2 * TICK, fired.get("antecipado"));
+    }
+
+    @Test
+    void pastDeadlineFiresOnTheNextTick() {
+        runUntil(5 * TICK + 3);
+
+        wheel.schedule("a", START);
+        assertFalse(fired.containsKey("a"));
+
+        runUntil(6 * TICK);
+        assertEquals(6 * TICK, fired.get("a"));
+    }
+
+    @Test
+    void lateWorkerCatchesUpOnAllDueTicks() {
+        wheel.schedule("a", START + 2 * TICK);
+        wheel.schedule("b", START + 9 * TICK);
+
+        // Thread atrasada: um único expireDue depois de vários ticks
+        clock.set(START + 10 * TICK);
+        wheel.expireDue();
+
+        assertEquals(10 * TICK, fired.get("a"));
+        assertEquals(10 * TICK, fired.get("b"));
+    }
+
+    // Anda o relógio de 1 em 1 ms, como se a thread do wheel acordasse sempre no instante exato
+    private void runUntil(long offsetMillis) {
+        while (clock.millis() - START < offsetMillis) {
+            clock.advance(1);
+            wheel.expireDue();
+        }
+        wheel.expireDue();
+    }
+}
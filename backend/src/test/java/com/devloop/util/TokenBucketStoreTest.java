@@ -0,0 +1,118 @@
+package com.devloop.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketStoreTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(7 * SECOND);
+    private TokenBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TokenBucketStore(100, now::get);
+    }
+
+    @Test
+    void allowsTheBurstThenOneTokenPerInterval() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, store.tryConsume("p", "k", SECOND, 5), "token " + i + " da rajada");
+        }
+        assertEquals(SECOND, store.tryConsume("p", "k", SECOND, 5));
+
+        now.addAndGet(SECOND);
+        assertEquals(0, store.tryConsume("p", "k", SECOND, 5));
+        assertEquals(SECOND, store.tryConsume("p", "k", SECOND, 5));
+    }
+
+    @Test
+    void waitShrinksAsTimePasses() {
+        assertEquals(0, store.tryConsume("p", "k", SECOND, 1));
+        now.addAndGet(400_000_000L);
+
+        assertEquals(600_000_000L, store.tryConsume("p", "k", SECOND, 1));
+    }
+
+    @Test
+    void idleBucketRefillsOnlyUpToTheBurst() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("p", "k", SECOND, 3);
+        }
+        now.addAndGet(60 * SECOND);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, store.tryConsume("p", "k", SECOND, 3));
+        }
+        assertTrue(store.tryConsume("p", "k", SECOND, 3) > 0);
+    }
+
+    @Test
+    void policiesAndKeysHaveSeparateBuckets() {
+        assertEquals(0, store.tryConsume("auth", "k", SECOND, 1));
+        assertEquals(0, store.tryConsume("default", "k", SECOND, 1));
+        assertEquals(0, store.tryConsume("auth", "outra", SECOND, 1));
+        assertTrue(store.tryConsume("auth", "k", SECOND, 1) > 0);
+    }
+
+    @Test
+    void fullStoreSendsNewKeysToShardedOverflowBuckets() {
+        store = new TokenBucketStore(2, now::get);
+        assertEquals(0, store.tryConsume("p", "a", SECOND, 1));
+        assertEquals(0, store.tryConsume("p", "b", SECOND, 1));
+
+        // Nenhum bucket ocioso para descartar: as chaves novas caem no transbordo
+        String first = "cliente-0";
+        String sameShard = keyInShard(shardOf(first), first);
+        String otherShard = keyOutsideShard(shardOf(first));
+
+        assertEquals(0, store.tryConsume("p", first, SECOND, 1));
+        assertEquals(SECOND, store.tryConsume("p", sameShard, SECOND, 1));
+        assertEquals(0, store.tryConsume("p", otherShard, SECOND, 1));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void fullStoreEvictsIdleBucketsBeforeUsingOverflow() {
+        store = new TokenBucketStore(2, now::get);
+        store.tryConsume("p", "a", SECOND, 1);
+        store.tryConsume("p", "b", SECOND, 1);
+        now.addAndGet(2 * SECOND);
+
+        assertEquals(0, store.tryConsume("p", "c", SECOND, 1));
+
+        assertEquals(1, store.size());
+        assertTrue(store.tryConsume("p", "c", SECOND, 1) > 0);
+    }
+
+    // Mesma partição que TokenBucketStore.bucketFor calcula para o transbordo
+    private static int shardOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & 1023;
+    }
+
+    private static String keyInShard(int shard, String except) {
+        for (int i = 1; ; i++) {
+            String key = "cliente-" + i;
+            if (!key.equals(except) && shardOf(key) == shard) {
+                return key;
+            }
+        }
+    }
+
+    private static String keyOutsideShard(int shard) {
+        for (int i = 1; ; i++) {
+            String key = "cliente-" + i;
+            if (shardOf(key) != shard) {
+                return key;
+            }
+        }
+    }
+}
@@ -1,9 +1,14 @@
 import React, { useState, useEffect, useRef } from 'react';
+import { useAuth } from '../../contexts/AuthContext';
+import signalingService from '../../services/signalingService';
+
+const ICE_SERVERS = [{ urls: 'stun:stun.l.google.com:19302' }];
 
 /**
  * Componente para chamadas de vídeo em tempo real para sessões
  */
 const VideoCall = ({ sessionId, participantName, isHost = false }) => {
+  const { token } = useAuth();
   const [localStream, setLocalStream] = useState(null);
   const [remoteStream, setRemoteStream] = useState(null);
   const [connecting, setConnecting] = useState(false);
@@ -18,6 +23,8 @@ const VideoCall = ({ sessionId, participantName, isHost = false }) => {
   const remoteVideoRef = useRef(null);
   const screenShareStreamRef = useRef(null);
   const originalStreamRef = useRef(null);
+  const peerConnectionRef = useRef(null);
+  const signalingRef = useRef(null);
   
   // Inicializar mídia local quando o componente montar
   useEffect(() => {
@@ -52,7 +59,94 @@ const VideoCall = ({ sessionId, participantName, isHost = false }) => {
     };
   }, []);
   
-  // Simular conexão com outro participante
+  // Fecha a conexão WebRTC atual e limpa o vídeo remoto
+  const closePeerConnection = () => {
+    if (peerConnectionRef.current) {
+      peerConnectionRef.current.close();
+      peerConnectionRef.current = null;
+    }
+    setRemoteStream(null);
+    if (remoteVideoRef.current) {
+      remoteVideoRef.current.srcObject = null;
+    }
+  };
+
+  const createPeerConnection = (peer) => {
+    closePeerConnection();
+    const connection = new RTCPeerConnection({ iceServers: ICE_SERVERS });
+    localStream.getTracks().forEach(track => connection.addTrack(track, localStream));
+
+    connection.onicecandidate = (event) => {
+      if (event.candidate) {
+        signalingRef.current?.send('ICE', event.candidate, peer);
+      }
+    };
+    connection.ontrack = (event) => {
+      const [stream] = event.streams;
+      setRemoteStream(stream);
+      if (remoteVideoRef.current) {
+        remoteVideoRef.current.srcObject = stream;
+      }
+      setConnected(true);
+      setConnecting(false);
+    };
+    connection.onconnectionstatechange = () => {
+      if (connection.connectionState === 'failed') {
+        setError('A conexão com o outro participante falhou.');
+      }
+    };
+
+    peerConnectionRef.current = connection;
+    return connection;
+  };
+
+  // Quem entra por último inicia a negociação (offer) com quem já estava na sala
+  const handleSignal = async (message) => {
+    try {
+      switch (message.type) {
+        case 'PEERS': {
+          const [peer] = message.payload || [];
+          if (peer) {
+            const connection = createPeerConnection(peer);
+            const offer = await connection.createOffer();
+            await connection.setLocalDescription(offer);
+            signalingRef.current.send('OFFER', offer, peer);
+          }
+          break;
+        }
+        case 'OFFER': {
+          const connection = createPeerConnection(message.from);
+          await connection.setRemoteDescription(message.payload);
+          const answer = await connection.createAnswer();
+          await connection.setLocalDescription(answer);
+          signalingRef.current.send('ANSWER', answer, message.from);
+          break;
+        }
+        case 'ANSWER':
+          await peerConnectionRef.current?.setRemoteDescription(message.payload);
+          break;
+        case 'ICE':
+          await peerConnectionRef.current?.addIceCandidate(message.payload);
+          break;
+        case 'PEER_LEFT':
+          closePeerConnection();
+          setConnected(false);
+          setConnecting(true);
+          break;
+        case 'ERROR':
+          setError(message.payload || 'Erro na sinalização da chamada.');
+          setConnecting(false);
+          break;
+        default:
+          break;
+      }
+    } catch (err) {
+      console.error('Erro na sinalização:', err);
+      setError('Falha ao estabelecer conexão. Por favor, tente novamente.');
+    }
+  };
+
+  // Entrar na sala da sessão e aguardar o outro participante
   const handleConnect = async () => {
     if (!localStream) return;
     
@@ -60,35 +154,30 @@ const VideoCall = ({ sessionId, participantName, isHost = false }) => {
     setError('');
     
     try {
-      // Em uma implementação real, aqui seria a lógica de sinalização e WebRTC
-      // Para fins de demonstração, estamos apenas simulando uma conexão
-      
-      // Simular delay de conexão
-      await new Promise(resolve => setTimeout(resolve, 2000));
-      
-      // Simular stream remoto (usando o stream local como exemplo)
-      setRemoteStream(localStream);
-      if (remoteVideoRef.current) {
-        remoteVideoRef.current.srcObject = localStream;
-      }
-      
-      setConnected(true);
+      signalingRef.current = signalingService.connectSignaling(token, sessionId, handleSignal);
     } catch (err) {
       console.error('Erro ao conectar chamada:', err);
       setError('Falha ao estabelecer conexão. Por favor, tente novamente.');
-    } finally {
       setConnecting(false);
     }
   };
   
   // Encerrar chamada
   const handleDisconnect = () => {
+    signalingRef.current?.disconnect();
+    signalingRef.current = null;
+    closePeerConnection();
     setConnected(false);
-    setRemoteStream(null);
-    if (remoteVideoRef.current) {
-      remoteVideoRef.current.srcObject = null;
-    }
+    setConnecting(false);
   };
+
+  // Sair da sala ao desmontar o componente
+  useEffect(() => {
+    return () => {
+      signalingRef.current?.disconnect();
+      peerConnectionRef.current?.close();
+    };
+  }, []);
   
   // Alternar microfone
   const toggleMute = () => {
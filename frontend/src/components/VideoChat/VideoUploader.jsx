@@ -1,9 +1,12 @@
 import React, { useState } from 'react';
+import { useAuth } from '../../contexts/AuthContext';
+import recordingService from '../../services/recordingService';
 
 /**
  * Componente para upload de vídeos relacionados a sessões
  */
 const VideoUploader = ({ sessionId, onUploadComplete }) => {
+  const { apiClient } = useAuth();
   const [file, setFile] = useState(null);
   const [uploading, setUploading] = useState(false);
   const [progress, setProgress] = useState(0);
@@ -22,10 +25,10 @@ const VideoUploader = ({ sessionId, onUploadComplete }) => {
       return;
     }
 
-    // Validar tamanho (limite de 100MB)
-    const maxSize = 100 * 1024 * 1024; // 100MB em bytes
+    // Validar tamanho (limite de 2GB, o mesmo do servidor)
+    const maxSize = 2 * 1024 * 1024 * 1024; // 2GB em bytes
     if (selectedFile.size > maxSize) {
-      setError('O arquivo é muito grande. O tamanho máximo é 100MB.');
+      setError('O arquivo é muito grande. O tamanho máximo é 2GB.');
       setFile(null);
       return;
     }
@@ -42,37 +45,16 @@ const VideoUploader = ({ sessionId, onUploadComplete }) => {
     setError('');
     setSuccess(false);
 
-    // Criar FormData para envio do arquivo
-    const formData = new FormData();
-    formData.append('video', file);
-    formData.append('sessionId', sessionId);
-
     try {
-      // Simular upload com progresso
-      // Em produção, substituir por chamada real à API
-      const uploadPromise = new Promise((resolve, reject) => {
-        let progressValue = 0;
-        const interval = setInterval(() => {
-          progressValue += 10;
-          setProgress(progressValue);
-          
-          if (progressValue >= 100) {
-            clearInterval(interval);
-            resolve({
-              success: true,
-              videoUrl: URL.createObjectURL(file),
-              message: 'Upload concluído com sucesso!'
-            });
-          }
-        }, 500);
-      });
-
-      const result = await uploadPromise;
+      // Upload retomável: o servidor guarda o offset e o envio continua de onde parou
+      const recording = await recordingService.createUpload(apiClient, sessionId, file);
+      await recordingService.uploadFile(apiClient, recording.id, file, setProgress);
       setSuccess(true);
-      
+
       if (onUploadComplete) {
         onUploadComplete({
-          videoUrl: result.videoUrl,
+          recordingId: recording.id,
+          videoUrl: `http://localhost:8080/api/recordings/${recording.id}/content`,
           fileName: file.name,
           fileSize: file.size,
           uploadDate: new Date().toISOString()
@@ -119,7 +101,7 @@ const VideoUploader = ({ sessionId, onUploadComplete }) => {
           disabled={uploading}
         />
         <p className="mt-1 text-xs text-text-muted">
-          Formatos aceitos: MP4, WebM, OGG. Tamanho máximo: 100MB.
+          Formatos aceitos: MP4, WebM, OGG. Tamanho máximo: 2GB.
         </p>
       </div>
       
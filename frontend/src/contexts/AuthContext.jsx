@@ -1,6 +1,7 @@
-import React, { createContext, useState, useContext, useEffect, useMemo } from 'react';
+import React, { createContext, useState, useContext, useEffect, useMemo, useRef } from 'react';
 import axios from 'axios';
 import userService from '../services/userService';
+import authService from '../services/authService';
 
 const AuthContext = createContext(null);
 const API_URL = 'http://localhost:8080';
@@ -19,14 +20,69 @@ export const AuthProvider = ({ children }) => {
         if (localToken) {
           config.headers.Authorization = `Bearer ${localToken}`;
         }
-        config.headers['Content-Type'] = 'application/json';
+        // Uploads de gravação enviam application/offset+octet-stream
+        if (!config.headers['Content-Type']) {
+          config.headers['Content-Type'] = 'application/json';
+        }
         return config;
       },
       (error) => Promise.reject(error)
     );
+    // Access token expirado: renova uma única vez (chamadas concorrentes aguardam a mesma renovação) e repete
+    instance.interceptors.response.use(
+      (response) => response,
+      async (error) => {
+        const original = error.config;
+        if (error.response?.status !== 401 || !original || original._retried) {
+          return Promise.reject(error);
+        }
+        original._retried = true;
+        try {
+          const newToken = await refreshAccessToken();
+          original.headers.Authorization = `Bearer ${newToken}`;
+          return instance(original);
+        } catch (refreshError) {
+          clearSession();
+          return Promise.reject(error);
+        }
+      }
+    );
     return instance;
+    // eslint-disable-next-line
   }, []);
 
+  const refreshInFlight = useRef(null);
+  const tokenRotated = useRef(false);
+
+  const refreshAccessToken = () => {
+    if (!refreshInFlight.current) {
+      const refreshToken = localStorage.getItem('refreshToken');
+      refreshInFlight.current = (refreshToken
+        ? authService.refresh(refreshToken)
+        : Promise.reject(new Error('No refresh token')))
+        .then((data) => {
+          localStorage.setItem('authToken', data.token);
+          localStorage.setItem('refreshToken', data.refreshToken);
+          // Mesmo usuário: não recarrega /me ao trocar só o token
+          tokenRotated.current = true;
+          setToken(data.token);
+          return data.token;
+        })
+        .finally(() => {
+          refreshInFlight.current = null;
+        });
+    }
+    return refreshInFlight.current;
+  };
+
+  const clearSession = () => {
+    localStorage.removeItem('authToken');
+    localStorage.removeItem('refreshToken');
+    setToken(null);
+    setUser(null);
+    setLoading(false);
+  };
+
   const fetchUserData = async () => {
     if (token) {
       setLoading(true);
@@ -60,22 +116,30 @@ export const AuthProvider = ({ children }) => {
   };
 
   useEffect(() => {
+    if (tokenRotated.current) {
+      tokenRotated.current = false;
+      return;
+    }
     fetchUserData();
     // eslint-disable-next-line
   }, [token]);
 
-  const login = (newToken) => {
+  const login = (newToken, refreshToken) => {
     localStorage.setItem('authToken', newToken);
+    if (refreshToken) {
+      localStorage.setItem('refreshToken', refreshToken);
+    }
     setToken(newToken);
     setLoading(true);
     // O useEffect irá buscar o usuário
   };
 
   const logout = () => {
-    localStorage.removeItem('authToken');
-    setToken(null);
-    setUser(null);
-    setLoading(false);
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      authService.logout(refreshToken);
+    }
+    clearSession();
   };
 
   const value = {
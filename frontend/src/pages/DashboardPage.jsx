@@ -1,7 +1,7 @@
 import React, { useEffect, useState } from 'react';
 import { useAuth } from '../contexts/AuthContext';
 import { Link } from 'react-router-dom';
-import sessionService from '../services/sessionService';
+import dashboardService from '../services/dashboardService';
 import userService from '../services/userService';
 
 function DashboardPage() {
@@ -24,37 +24,15 @@ function DashboardPage() {
       }
       setLoading(true);
       try {
-        // Busca todas as sessões do usuário
-        const sessions = await sessionService.getSessions(apiClient);
-        // Filtra sessões futuras
-        const now = new Date();
-        const upcoming = sessions.filter(
-          s =>
-            new Date(s.start) > now &&
-            (user.role === 'MENTOR'
-              ? s.mentorId === user.id
-              : s.menteeId === user.id)
-        );
-        // Conta conexões únicas
-        const connections = new Set(
-          sessions.map(s =>
-            user.role === 'MENTOR' ? s.menteeId : s.mentorId
-          )
-        ).size;
-        // Soma horas de mentoria
-        const totalHours = sessions.reduce((acc, s) => {
-          const start = new Date(s.start);
-          const end = new Date(s.end);
-          const diff = (end - start) / (1000 * 60 * 60);
-          return acc + (diff > 0 ? diff : 0);
-        }, 0);
+        // Busca os dados agregados do dashboard em uma única chamada
+        const dashboard = await dashboardService.getDashboard(apiClient);
 
         setStats({
-          sessions: sessions.length,
-          hours: totalHours,
-          connections,
+          sessions: dashboard.totalSessions,
+          hours: dashboard.mentoringHours,
+          connections: dashboard.connections,
         });
-        setUpcomingSessions(upcoming.slice(0, 3));
+        setUpcomingSessions(dashboard.upcomingSessions.slice(0, 3));
         
         // Buscar mentores recomendados se o usuário for mentee
         if (user.role === 'MENTEE') {
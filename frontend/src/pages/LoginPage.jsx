@@ -22,7 +22,7 @@ function LoginPage() {
       if (!token) {
         throw new Error('Token não recebido do servidor.');
       }
-      login(token);
+      login(token, response.refreshToken);
       navigate('/dashboard');
     } catch (err) {
       // Log detailed error information for debugging
@@ -1,7 +1,9 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { useParams, Link } from 'react-router-dom';
 import userService from '../services/userService';
 import sessionService from '../services/sessionService';
+import mentorService from '../services/mentorService';
+import liveUpdatesService from '../services/liveUpdatesService';
 import { useAuth } from '../contexts/AuthContext';
 
 function MentorProfilePage() {
@@ -14,6 +16,8 @@ function MentorProfilePage() {
   const [selectedTime, setSelectedTime] = useState('');
   const [availableDates, setAvailableDates] = useState([]);
   const [availableTimes, setAvailableTimes] = useState([]);
+  const [freeSlotsByDate, setFreeSlotsByDate] = useState({});
+  const selectedDateRef = useRef('');
   const [bookingStatus, setBookingStatus] = useState({ loading: false, success: false, error: '' });
 
   useEffect(() => {
@@ -26,9 +30,10 @@ function MentorProfilePage() {
           : await userService.getUserById(id);
         setMentor(data);
 
-        // Simular datas disponíveis (em produção, viria da API)
-        const dates = generateDummyDates();
-        setAvailableDates(dates);
+        // Próximas duas semanas em blocos de 30 minutos, como bitmap compacto
+        const slotsByDate = await fetchFreeSlots();
+        setFreeSlotsByDate(slotsByDate);
+        setAvailableDates(Object.keys(slotsByDate));
       } catch (err) {
         console.error("Failed to fetch mentor profile:", err);
         setError('Não foi possível carregar o perfil do mentor. Tente novamente mais tarde.');
@@ -43,56 +48,57 @@ function MentorProfilePage() {
     // eslint-disable-next-line
   }, [id, apiClient]);
 
-  // Função para gerar datas fictícias para demonstração
-  const generateDummyDates = () => {
-    const dates = [];
-    const today = new Date();
-
-    for (let i = 1; i <= 14; i++) {
-      const date = new Date(today);
-      date.setDate(today.getDate() + i);
-
-      // Excluir finais de semana
-      if (date.getDay() !== 0 && date.getDay() !== 6) {
-        dates.push(formatDate(date));
-      }
+  // Reservas e cancelamentos de outros usuários: recarrega os horários livres
+  useEffect(() => {
+    if (!id || !user) {
+      return undefined;
     }
+    return liveUpdatesService.subscribe({
+      mentorId: id,
+      onAvailability: async () => {
+        try {
+          const slotsByDate = await fetchFreeSlots();
+          setFreeSlotsByDate(slotsByDate);
+          setAvailableDates(Object.keys(slotsByDate));
+          setAvailableTimes(slotsByDate[selectedDateRef.current] || []);
+        } catch (err) {
+          console.error("Failed to refresh free slots:", err);
+        }
+      },
+    });
+    // eslint-disable-next-line
+  }, [id, user]);
 
-    return dates;
+  // Agrupa os blocos livres por data local (YYYY-MM-DD -> ['HH:MM', ...])
+  const fetchFreeSlots = async () => {
+    const today = new Date();
+    const from = `${formatDate(today)}T00:00:00`;
+    const end = new Date(today);
+    end.setDate(today.getDate() + 14);
+    const to = `${formatDate(end)}T00:00:00`;
+    const freeBusy = await mentorService.getFreeBusy(apiClient, id, from, to, '30m');
+    const slotsByDate = {};
+    mentorService.decodeFreeSlots(freeBusy).forEach(slot => {
+      const date = formatDate(slot);
+      const time = `${String(slot.getHours()).padStart(2, '0')}:${String(slot.getMinutes()).padStart(2, '0')}`;
+      (slotsByDate[date] = slotsByDate[date] || []).push(time);
+    });
+    return slotsByDate;
   };
 
   // Função para formatar data
   const formatDate = (date) => {
-    return date.toISOString().split('T')[0];
+    return `${date.getFullYear()}-${String(date.getMonth() + 1).padStart(2, '0')}-${String(date.getDate()).padStart(2, '0')}`;
   };
 
-  // Quando uma data é selecionada, gerar horários disponíveis
+  // Quando uma data é selecionada, mostra os horários livres daquele dia
   const handleDateChange = (e) => {
     const date = e.target.value;
     setSelectedDate(date);
+    selectedDateRef.current = date;
     setSelectedTime('');
 
-    // Simular horários disponíveis (em produção, viria da API)
-    const times = generateDummyTimes();
-    setAvailableTimes(times);
-  };
-
-  // Função para gerar horários fictícios para demonstração
-  const generateDummyTimes = () => {
-    const times = [];
-    const startHour = 9;
-    const endHour = 17;
-
-    for (let hour = startHour; hour <= endHour; hour++) {
-      if (Math.random() > 0.5) {
-        times.push(`${hour.toString().padStart(2, '0')}:00`);
-      }
-      if (hour < endHour && Math.random() > 0.7) {
-        times.push(`${hour.toString().padStart(2, '0')}:30`);
-      }
-    }
-
-    return times.sort();
+    setAvailableTimes(freeSlotsByDate[date] || []);
   };
 
   const handleBookSession = async () => {
@@ -263,7 +269,7 @@ function MentorProfilePage() {
                     <option value="">Escolha uma data</option>
                     {availableDates.map(date => (
                       <option key={date} value={date}>
-                        {new Date(date).toLocaleDateString('pt-BR', { weekday: 'long', day: 'numeric', month: 'long' })}
+                        {new Date(`${date}T00:00:00`).toLocaleDateString('pt-BR', { weekday: 'long', day: 'numeric', month: 'long' })}
                       </option>
                     ))}
                   </select>
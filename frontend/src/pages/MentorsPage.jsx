@@ -1,6 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
 import userService from '../services/userService';
+import mentorService from '../services/mentorService';
 import { useAuth } from '../contexts/AuthContext';
 
 function MentorsPage() {
@@ -12,6 +13,8 @@ function MentorsPage() {
     search: '',
     skills: []
   });
+  // Ids retornados pelo autocomplete do servidor; null enquanto não houver resposta
+  const [suggestedIds, setSuggestedIds] = useState(null);
   const [availableSkills, setAvailableSkills] = useState([
     'JavaScript', 'React', 'Node.js', 'Python', 'Java', 'UI/UX', 
     'DevOps', 'Data Science', 'Mobile', 'Cloud', 'Arquitetura'
@@ -53,6 +56,32 @@ function MentorsPage() {
     fetchMentors();
   }, [apiClient]);
 
+  useEffect(() => {
+    const query = filters.search.trim();
+    if (!query || !apiClient) {
+      setSuggestedIds(null);
+      return;
+    }
+    let cancelled = false;
+    const timer = setTimeout(async () => {
+      try {
+        const suggestions = await mentorService.suggestMentors(apiClient, query);
+        if (!cancelled) {
+          setSuggestedIds(new Set(suggestions.map(mentor => mentor.id)));
+        }
+      } catch (err) {
+        // Sem resposta do servidor, cai para o filtro local por substring
+        if (!cancelled) {
+          setSuggestedIds(null);
+        }
+      }
+    }, 150);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [filters.search, apiClient]);
+
   const handleSearchChange = (e) => {
     setFilters(prev => ({
       ...prev,
@@ -74,9 +103,10 @@ function MentorsPage() {
 
   const filteredMentors = mentors.filter(mentor => {
     // Filtro por texto de busca
-    const searchMatch = filters.search === '' || 
-      (mentor.username && mentor.username.toLowerCase().includes(filters.search.toLowerCase())) ||
-      (mentor.title && mentor.title.toLowerCase().includes(filters.search.toLowerCase()));
+    const searchMatch = filters.search === '' ||
+      (suggestedIds ? suggestedIds.has(mentor.id) :
+        (mentor.username && mentor.username.toLowerCase().includes(filters.search.toLowerCase())) ||
+        (mentor.title && mentor.title.toLowerCase().includes(filters.search.toLowerCase())));
     
     // Filtro por habilidades
     const skillsMatch = filters.skills.length === 0 || 
@@ -55,14 +55,11 @@ function SessionDetailPage() {
     }
     setCancelLoading(true);
     try {
-      if (apiClient) {
-        await sessionService.deleteSession(apiClient, id);
-      } else {
-        await sessionService.deleteSession(id);
-      }
+      const cancelled = await sessionService.cancelSession(apiClient, id);
       setSession(prev => ({
         ...prev,
-        status: 'CANCELLED'
+        status: cancelled.status,
+        version: cancelled.version
       }));
       setCancelConfirm(false);
     } catch (err) {
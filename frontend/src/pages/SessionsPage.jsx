@@ -1,6 +1,8 @@
 import React, { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
 import sessionService from '../services/sessionService';
+import syncService from '../services/syncService';
+import liveUpdatesService from '../services/liveUpdatesService';
 import userService from '../services/userService';
 import { useAuth } from '../contexts/AuthContext';
 
@@ -11,16 +13,20 @@ function SessionsPage() {
   const [error, setError] = useState('');
   const [activeTab, setActiveTab] = useState('upcoming');
   const [viewMode, setViewMode] = useState('all'); // 'all', 'mentor', 'mentee'
+  const [liveTick, setLiveTick] = useState(0);
   const isMentor = user?.role === 'MENTOR';
 
   useEffect(() => {
     const fetchSessions = async () => {
       try {
-        setLoading(true);
-        // Busca sessões do usuário autenticado
-        const data = apiClient
-          ? await sessionService.getSessions(apiClient)
-          : await sessionService.getSessions();
+        // Atualizações ao vivo recarregam em segundo plano
+        if (liveTick === 0) {
+          setLoading(true);
+        }
+        // Busca sessões do usuário autenticado; após a primeira carga, só as alterações
+        const data = user
+          ? await syncService.getSessions(apiClient, user.id)
+          : await sessionService.getSessions(apiClient);
         // Busca dados do outro usuário para cada sessão
         const sessionsWithUsers = await Promise.all(
           (data || []).map(async (session) => {
@@ -60,7 +66,17 @@ function SessionsPage() {
     };
 
     fetchSessions();
-  }, [apiClient, user]);
+  }, [apiClient, user, liveTick]);
+
+  // Alterações nas sessões do usuário disparam uma nova sincronização incremental
+  useEffect(() => {
+    if (!user) {
+      return undefined;
+    }
+    return liveUpdatesService.subscribe({
+      onSessions: () => setLiveTick(tick => tick + 1),
+    });
+  }, [user]);
 
   // Filtrar sessões com base na aba ativa e no modo de visualização
   const filteredSessions = sessions.filter(session => {
@@ -37,9 +37,34 @@ const login = async (email, password) => {
   }
 };
 
+// Exchanges a refresh token for a new pair; the old refresh token stops working
+const refresh = async (refreshToken) => {
+  const response = await axios.post(
+    `${API_URL}/refresh`,
+    { refreshToken },
+    { headers: { 'Content-Type': 'application/json' } }
+  );
+  return response.data; // Expects { token: "...", refreshToken: "...", expiresIn: 900 }
+};
+
+const logout = async (refreshToken) => {
+  try {
+    await axios.post(
+      `${API_URL}/logout`,
+      { refreshToken },
+      { headers: { 'Content-Type': 'application/json' } }
+    );
+  } catch (error) {
+    // Local logout proceeds anyway; the token expires on its own
+    console.error('Logout API error:', error.response?.data || error.message);
+  }
+};
+
 const authService = {
   register,
   login,
+  refresh,
+  logout,
 };
 
 export default authService;
@@ -0,0 +1,31 @@
+// Service to handle dashboard-related API calls
+
+const API_URL = "http://localhost:8080/api/dashboard";
+
+/**
+ * Busca em uma única chamada os dados agregados do dashboard
+ * (contagens, próximas sessões, avaliações pendentes e disponibilidade)
+ */
+const getDashboard = async (apiClient) => {
+  try {
+    const response = await apiClient.get(API_URL);
+    const dashboard = response.data;
+    return {
+      ...dashboard,
+      upcomingSessions: (dashboard.upcomingSessions || []).map(session => ({
+        ...session,
+        start: session.scheduledTime,
+        end: session.endTime,
+      })),
+    };
+  } catch (error) {
+    console.error("Get dashboard API error:", error.response?.data || error.message);
+    throw new Error(error.response?.data || "Failed to fetch dashboard");
+  }
+};
+
+const dashboardService = {
+  getDashboard,
+};
+
+export default dashboardService;
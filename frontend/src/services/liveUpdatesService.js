@@ -0,0 +1,48 @@
+import { Client } from "@stomp/stompjs";
+import SockJS from "sockjs-client";
+
+// Atualizações ao vivo de agenda e sessões sobre o STOMP do backend (/ws)
+
+const WS_URL = "http://localhost:8080/ws";
+
+/**
+ * Conecta ao broker e assina os destinos pedidos:
+ * - mentorId + onAvailability: agenda atual do mentor (/topic/mentor/{id}/availability)
+ * - onSessions: alterações das sessões do usuário (/user/queue/sessions)
+ * As mensagens são só avisos; quem perde alguma se recupera na próxima busca.
+ * Retorna uma função que encerra a conexão.
+ */
+const subscribe = ({ mentorId, onAvailability, onSessions }) => {
+  const client = new Client({
+    webSocketFactory: () => new SockJS(WS_URL),
+    reconnectDelay: 5000,
+  });
+
+  // O access token é renovado pelo AuthContext; cada (re)conexão usa o atual
+  client.beforeConnect = () => {
+    client.connectHeaders = { Authorization: `Bearer ${localStorage.getItem('authToken')}` };
+  };
+
+  client.onConnect = () => {
+    if (mentorId != null && onAvailability) {
+      client.subscribe(`/topic/mentor/${mentorId}/availability`, (frame) => {
+        onAvailability(JSON.parse(frame.body));
+      });
+    }
+    if (onSessions) {
+      client.subscribe("/user/queue/sessions", (frame) => {
+        onSessions(JSON.parse(frame.body));
+      });
+    }
+  };
+
+  client.activate();
+
+  return () => client.deactivate();
+};
+
+const liveUpdatesService = {
+  subscribe,
+};
+
+export default liveUpdatesService;
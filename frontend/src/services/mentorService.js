@@ -0,0 +1,52 @@
+// Service to handle mentor search API calls
+
+const API_URL = "http://localhost:8080/api/mentors";
+
+/**
+ * Autocomplete de mentores por prefixo de nome, título ou skill (índice no servidor)
+ */
+const suggestMentors = async (apiClient, query, limit = 50) => {
+  try {
+    const response = await apiClient.get(`${API_URL}/suggest`, { params: { q: query, limit } });
+    return response.data;
+  } catch (error) {
+    console.error("Suggest mentors API error:", error.response?.data || error.message);
+    throw new Error(error.response?.data || "Failed to suggest mentors");
+  }
+};
+
+/**
+ * Agenda livre do mentor em bitmap compacto (bit i = bloco i livre)
+ */
+const getFreeBusy = async (apiClient, mentorId, from, to, granularity = "30m") => {
+  try {
+    const response = await apiClient.get(`${API_URL}/${mentorId}/freebusy`, { params: { from, to, granularity } });
+    return response.data;
+  } catch (error) {
+    console.error("Free/busy API error:", error.response?.data || error.message);
+    throw new Error(error.response?.data?.error || "Failed to load mentor schedule");
+  }
+};
+
+/**
+ * Converte o bitmap em uma lista de horários livres (Date), na ordem
+ */
+const decodeFreeSlots = (freeBusy) => {
+  const bytes = atob(freeBusy.bitmap);
+  const start = new Date(freeBusy.from);
+  const slots = [];
+  for (let i = 0; i < freeBusy.slots; i++) {
+    if (bytes.charCodeAt(i >> 3) & (1 << (i & 7))) {
+      slots.push(new Date(start.getTime() + i * freeBusy.granularityMinutes * 60000));
+    }
+  }
+  return slots;
+};
+
+const mentorService = {
+  suggestMentors,
+  getFreeBusy,
+  decodeFreeSlots,
+};
+
+export default mentorService;
@@ -0,0 +1,88 @@
+// Service to handle resumable recording uploads (tus 1.0 protocol)
+
+const API_URL = "http://localhost:8080/api/recordings";
+const TUS_HEADERS = { "Tus-Resumable": "1.0.0" };
+const CHUNK_SIZE = 5 * 1024 * 1024;
+
+const toBase64 = (bytes) => {
+  let binary = "";
+  const view = new Uint8Array(bytes);
+  for (let i = 0; i < view.length; i++) {
+    binary += String.fromCharCode(view[i]);
+  }
+  return btoa(binary);
+};
+
+const encodeMetadata = (metadata) =>
+  Object.entries(metadata)
+    .map(([key, value]) => `${key} ${toBase64(new TextEncoder().encode(value))}`)
+    .join(",");
+
+/**
+ * Cria o upload no servidor e devolve a gravação (com id e offset)
+ */
+const createUpload = async (apiClient, sessionId, file) => {
+  const response = await apiClient.post(API_URL, null, {
+    params: { sessionId },
+    headers: {
+      ...TUS_HEADERS,
+      "Upload-Length": String(file.size),
+      "Upload-Metadata": encodeMetadata({ filename: file.name, filetype: file.type }),
+    },
+  });
+  return response.data;
+};
+
+const getOffset = async (apiClient, recordingId) => {
+  const response = await apiClient.head(`${API_URL}/${recordingId}`, { headers: TUS_HEADERS });
+  return Number(response.headers["upload-offset"]);
+};
+
+/**
+ * Envia o arquivo em trechos de 5MB com checksum SHA-256; em falha de rede,
+ * consulta o offset no servidor e retoma a partir dele.
+ */
+const uploadFile = async (apiClient, recordingId, file, onProgress, maxRetries = 5) => {
+  let offset = await getOffset(apiClient, recordingId);
+  let retries = 0;
+  while (offset < file.size) {
+    const chunk = await file.slice(offset, offset + CHUNK_SIZE).arrayBuffer();
+    const digest = await crypto.subtle.digest("SHA-256", chunk);
+    try {
+      const response = await apiClient.patch(`${API_URL}/${recordingId}`, chunk, {
+        headers: {
+          ...TUS_HEADERS,
+          "Content-Type": "application/offset+octet-stream",
+          "Upload-Offset": String(offset),
+          "Upload-Checksum": `sha256 ${toBase64(digest)}`,
+        },
+      });
+      offset = Number(response.headers["upload-offset"]);
+      retries = 0;
+      if (onProgress) onProgress(Math.round((offset / file.size) * 100));
+    } catch (error) {
+      if (++retries > maxRetries) {
+        console.error("Recording upload API error:", error.response?.data || error.message);
+        throw new Error(error.response?.data?.error || "Failed to upload recording");
+      }
+      const retryAfter = Number(error.response?.headers?.["retry-after"]) || retries;
+      await new Promise((resolve) => setTimeout(resolve, retryAfter * 1000));
+      offset = await getOffset(apiClient, recordingId);
+    }
+  }
+  return offset;
+};
+
+const getSessionRecordings = async (apiClient, sessionId) => {
+  const response = await apiClient.get(API_URL, { params: { sessionId } });
+  return response.data;
+};
+
+const recordingService = {
+  createUpload,
+  getOffset,
+  uploadFile,
+  getSessionRecordings,
+};
+
+export default recordingService;
@@ -0,0 +1,35 @@
+// Service to handle full-text search over chat messages and reviews
+
+const API_URL = "http://localhost:8080/api/search"; // Adjust if backend runs elsewhere
+
+// Snippets come back HTML-escaped with matches wrapped in <mark>, safe to render as HTML
+const searchMessages = async (apiClient, query, { sessionId, page = 0, size = 20 } = {}) => {
+  try {
+    const params = { q: query, page, size };
+    if (sessionId != null) {
+      params.sessionId = sessionId;
+    }
+    const response = await apiClient.get(`${API_URL}/messages`, { params });
+    return response.data;
+  } catch (error) {
+    console.error("Search messages API error:", error.response?.data || error.message);
+    throw new Error(error.response?.data?.error || "Failed to search messages");
+  }
+};
+
+const searchReviews = async (apiClient, query, { page = 0, size = 20 } = {}) => {
+  try {
+    const response = await apiClient.get(`${API_URL}/reviews`, { params: { q: query, page, size } });
+    return response.data;
+  } catch (error) {
+    console.error("Search reviews API error:", error.response?.data || error.message);
+    throw new Error(error.response?.data?.error || "Failed to search reviews");
+  }
+};
+
+const searchService = {
+  searchMessages,
+  searchReviews,
+};
+
+export default searchService;
@@ -36,27 +36,27 @@ const createSession = async (apiClient, sessionData) => {
   }
 };
 
+// Extrai date e time de scheduledTime se necessário
+const normalizeSession = (session) => {
+  if (session.scheduledTime && (!session.date || !session.time)) {
+    const scheduledDate = new Date(session.scheduledTime);
+    return {
+      ...session,
+      date: scheduledDate.toISOString().split('T')[0],
+      time: scheduledDate.toTimeString().slice(0, 5),
+      start: session.scheduledTime,
+      end: session.endTime || new Date(scheduledDate.getTime() + 60 * 60 * 1000).toISOString()
+    };
+  }
+  return session;
+};
+
 const getSessions = async (apiClient) => {
   try {
     const response = await apiClient.get(API_URL);
     
     // Processa os dados para garantir compatibilidade com o frontend
-    const sessions = response.data.map(session => {
-      // Extrai date e time de scheduledTime se necessário
-      if (session.scheduledTime && (!session.date || !session.time)) {
-        const scheduledDate = new Date(session.scheduledTime);
-        return {
-          ...session,
-          date: scheduledDate.toISOString().split('T')[0],
-          time: scheduledDate.toTimeString().slice(0, 5),
-          start: session.scheduledTime,
-          end: session.endTime || new Date(scheduledDate.getTime() + 60 * 60 * 1000).toISOString()
-        };
-      }
-      return session;
-    });
-    
-    return sessions;
+    return response.data.map(normalizeSession);
   } catch (error) {
     console.error("Get sessions API error:", error.response?.data || error.message);
     throw new Error(error.response?.data || "Failed to fetch sessions");
@@ -116,12 +116,34 @@ const deleteSession = async (apiClient, id) => {
   }
 };
 
+/**
+ * Transições de status validadas pelo backend (confirm, cancel, complete)
+ * Retornam 409 quando a transição é inválida ou a sessão foi alterada em paralelo
+ */
+const transitionSession = async (apiClient, id, action) => {
+  try {
+    const response = await apiClient.post(`${API_URL}/${id}/${action}`);
+    return response.data;
+  } catch (error) {
+    console.error(`Session ${id} ${action} API error:`, error.response?.data || error.message);
+    throw new Error(error.response?.data?.error || `Failed to ${action} session`);
+  }
+};
+
+const confirmSession = (apiClient, id) => transitionSession(apiClient, id, 'confirm');
+const cancelSession = (apiClient, id) => transitionSession(apiClient, id, 'cancel');
+const completeSession = (apiClient, id) => transitionSession(apiClient, id, 'complete');
+
 const sessionService = {
+  normalizeSession,
   createSession,
   getSessions,
   getSessionById,
   updateSession,
   deleteSession,
+  confirmSession,
+  cancelSession,
+  completeSession,
 };
 
 export default sessionService;
@@ -0,0 +1,53 @@
+import { Client } from "@stomp/stompjs";
+import SockJS from "sockjs-client";
+
+// Sinalização WebRTC sobre o STOMP do backend (/ws)
+
+const WS_URL = "http://localhost:8080/ws";
+
+/**
+ * Conecta ao broker com o JWT e entra na sala da sessão.
+ * onSignal recebe as mensagens endereçadas a este usuário (PEERS, OFFER, ANSWER, ICE, PEER_LEFT...).
+ */
+const connectSignaling = (token, sessionId, onSignal) => {
+  const client = new Client({
+    webSocketFactory: () => new SockJS(WS_URL),
+    connectHeaders: { Authorization: `Bearer ${token}` },
+    reconnectDelay: 0,
+  });
+
+  const send = (type, payload = null, to = null) => {
+    client.publish({
+      destination: `/app/session/${sessionId}/signal`,
+      body: JSON.stringify({ type, sessionId, to, payload }),
+    });
+  };
+
+  client.onConnect = () => {
+    client.subscribe("/user/queue/signal", (frame) => {
+      const message = JSON.parse(frame.body);
+      if (message.sessionId == null || String(message.sessionId) === String(sessionId)) {
+        onSignal(message);
+      }
+    });
+    send("JOIN");
+  };
+
+  client.activate();
+
+  return {
+    send,
+    disconnect: () => {
+      if (client.connected) {
+        send("LEAVE");
+      }
+      client.deactivate();
+    },
+  };
+};
+
+const signalingService = {
+  connectSignaling,
+};
+
+export default signalingService;
@@ -0,0 +1,83 @@
+// Delta sync: keeps a local copy of the user's sessions and asks the backend only for what changed
+
+import sessionService from './sessionService';
+
+const API_URL = "http://localhost:8080/api/sync"; // Adjust if backend runs elsewhere
+
+// Cached per browser tab; reset when the user changes or the server pruned our version (410)
+const sessionStore = { userId: null, version: null, byId: null };
+
+// Same shape as the backend's SessionSyncDto: participants are ids, never full user objects
+const toEntry = (session) => sessionService.normalizeSession({
+  id: session.id,
+  mentorId: session.mentorId ?? session.mentor?.id,
+  menteeId: session.menteeId ?? session.mentee?.id,
+  scheduledTime: session.scheduledTime,
+  slotStart: session.slotStart,
+  slotEnd: session.slotEnd,
+  status: session.status,
+  version: session.version,
+});
+
+const isParticipant = (session, userId) =>
+  session.mentorId === userId || session.menteeId === userId;
+
+// 200 -> changes, 204 -> nothing changed, 410 -> version too old, reload everything
+const getChanges = async (apiClient, since, mentorId) => {
+  const params = {};
+  if (since != null) params.since = since;
+  if (mentorId != null) params.mentorId = mentorId;
+  const response = await apiClient.get(API_URL, {
+    params,
+    validateStatus: (status) => status === 200 || status === 204 || status === 410,
+  });
+  return {
+    status: response.status,
+    version: Number(response.headers['sync-version'] ?? response.data?.version),
+    changes: response.status === 200 ? response.data : null,
+  };
+};
+
+const reloadSessions = async (apiClient, userId) => {
+  // Version first, then the full list: anything written in between comes back on the next sync
+  const { version } = await getChanges(apiClient, null);
+  const sessions = await sessionService.getSessions(apiClient);
+  sessionStore.userId = userId;
+  sessionStore.version = version;
+  sessionStore.byId = new Map(
+    sessions.map(toEntry).filter((session) => isParticipant(session, userId)).map((session) => [session.id, session])
+  );
+};
+
+const getSessions = async (apiClient, userId) => {
+  try {
+    if (sessionStore.userId !== userId || sessionStore.version == null) {
+      await reloadSessions(apiClient, userId);
+    } else {
+      const { status, version, changes } = await getChanges(apiClient, sessionStore.version);
+      if (status === 410) {
+        await reloadSessions(apiClient, userId);
+      } else {
+        if (status === 200) {
+          changes.sessions.deleted.forEach((id) => sessionStore.byId.delete(id));
+          changes.sessions.upserted.forEach((session) =>
+            sessionStore.byId.set(session.id, toEntry(session))
+          );
+        }
+        sessionStore.version = version;
+      }
+    }
+    return Array.from(sessionStore.byId.values());
+  } catch (error) {
+    console.error("Sync sessions API error:", error.response?.data || error.message);
+    sessionStore.version = null;
+    throw new Error(error.response?.data?.error || "Failed to sync sessions");
+  }
+};
+
+const syncService = {
+  getChanges,
+  getSessions,
+};
+
+export default syncService;